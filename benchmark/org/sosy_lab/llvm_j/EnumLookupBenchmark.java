@@ -0,0 +1,111 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the table look-up of enum constants by their LLVM id with the linear scan over all
+ * constants that was used before. Run with <code>ant benchmark</code>. No LLVM library is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumLookupBenchmark {
+
+  private int[] opCodes;
+  private int[] typeKinds;
+
+  @Setup
+  public void setUp() {
+    opCodes = Arrays.stream(Value.OpCode.values()).mapToInt(Value.OpCode::getValue).toArray();
+    typeKinds =
+        Arrays.stream(TypeRef.TypeKind.values()).mapToInt(TypeRef.TypeKind::getValue).toArray();
+  }
+
+  @Benchmark
+  public void opCode_table(Blackhole pBlackhole) {
+    for (int value : opCodes) {
+      pBlackhole.consume(Value.OpCode.fromValue(value));
+    }
+  }
+
+  @Benchmark
+  public void opCode_linearScan(Blackhole pBlackhole) {
+    for (int value : opCodes) {
+      pBlackhole.consume(scanOpCode(value));
+    }
+  }
+
+  @Benchmark
+  public void typeKind_table(Blackhole pBlackhole) {
+    for (int value : typeKinds) {
+      pBlackhole.consume(TypeRef.TypeKind.fromValue(value));
+    }
+  }
+
+  @Benchmark
+  public void typeKind_linearScan(Blackhole pBlackhole) {
+    for (int value : typeKinds) {
+      pBlackhole.consume(scanTypeKind(value));
+    }
+  }
+
+  private static Value.OpCode scanOpCode(int pValue) {
+    for (Value.OpCode code : Value.OpCode.values()) {
+      if (code.getValue() == pValue) {
+        return code;
+      }
+    }
+    throw new AssertionError("Unhandled code id " + pValue);
+  }
+
+  private static TypeRef.TypeKind scanTypeKind(int pValue) {
+    for (TypeRef.TypeKind kind : TypeRef.TypeKind.values()) {
+      if (kind.getValue() == pValue) {
+        return kind;
+      }
+    }
+    throw new AssertionError("Unhandled type kind id " + pValue);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the startup cost of the library, i.e., the time until the first module is parsed in a
+ * fresh JVM, with full registration of the native methods of {@link
+ * org.sosy_lab.llvm_j.binding.LLVMLibrary} and with lazy registration of only the groups that are
+ * used (see {@link Utils#REGISTRATION_PROPERTY}). Each measurement runs in its own fork, so the
+ * time includes loading the LLVM library and registering its methods.
+ *
+ * <p>Run with <code>ant benchmark -Dbenchmark.args=StartupBenchmark</code>. The LLVM library has
+ * to be in <code>lib/java/runtime</code> or on the JNA library path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+  @Param({"full", "lazy"})
+  public String registration;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Utils reads the property when it is initialized, which has not happened yet in this fork.
+    System.setProperty(Utils.REGISTRATION_PROPERTY, registration);
+    Module.addLibraryLookupPaths(ImmutableList.of(Paths.get("lib", "java", "runtime")));
+  }
+
+  @Benchmark
+  public void parseFirstModule(Blackhole pBlackhole) throws LLVMException {
+    try (Context context = Context.create();
+        Module module = Module.parseIR("build/test.bc", context)) {
+      pBlackhole.consume(module.getFirstFunction());
+    }
+  }
+}
@@ -0,0 +1,334 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+/**
+ * Functions of the LLVM C API on raw native addresses, which {@link AddressBinding} delegates to.
+ * Implementations must not allocate objects for calls that return primitive values. A null pointer
+ * is represented by 0, and <code>LLVMBool</code> by an <code>int</code>.
+ */
+interface AddressBackend {
+
+  long LLVMGetFirstFunction(long pModule);
+
+  long LLVMGetLastFunction(long pModule);
+
+  long LLVMGetFirstGlobal(long pModule);
+
+  long LLVMGetLastGlobal(long pModule);
+
+  long LLVMGetNextFunction(long pFunction);
+
+  long LLVMGetPreviousFunction(long pFunction);
+
+  long LLVMGetNextGlobal(long pGlobal);
+
+  long LLVMGetPreviousGlobal(long pGlobal);
+
+  int LLVMIsDeclaration(long pGlobal);
+
+  int LLVMGetLinkage(long pGlobal);
+
+  int LLVMGetVisibility(long pGlobal);
+
+  int LLVMGetAlignment(long pValue);
+
+  long LLVMGetInitializer(long pGlobal);
+
+  int LLVMIsThreadLocal(long pGlobal);
+
+  int LLVMIsGlobalConstant(long pGlobal);
+
+  int LLVMIsExternallyInitialized(long pGlobal);
+
+  int LLVMCountParams(long pFunction);
+
+  long LLVMGetParam(long pFunction, int pIndex);
+
+  long LLVMGetFirstParam(long pFunction);
+
+  long LLVMGetLastParam(long pFunction);
+
+  long LLVMGetNextParam(long pValue);
+
+  long LLVMGetPreviousParam(long pValue);
+
+  long LLVMGetParamParent(long pValue);
+
+  int LLVMGetFunctionCallConv(long pFunction);
+
+  int LLVMCountBasicBlocks(long pFunction);
+
+  long LLVMGetFirstBasicBlock(long pFunction);
+
+  long LLVMGetLastBasicBlock(long pFunction);
+
+  long LLVMGetEntryBasicBlock(long pFunction);
+
+  String LLVMGetValueName(long pValue);
+
+  long LLVMTypeOf(long pValue);
+
+  int LLVMIsConstant(long pValue);
+
+  int LLVMIsNull(long pValue);
+
+  int LLVMIsUndef(long pValue);
+
+  int LLVMValueIsBasicBlock(long pValue);
+
+  long LLVMValueAsBasicBlock(long pValue);
+
+  long LLVMConstIntGetZExtValue(long pValue);
+
+  long LLVMConstIntGetSExtValue(long pValue);
+
+  int LLVMGetConstOpcode(long pValue);
+
+  int LLVMGetNumOperands(long pValue);
+
+  long LLVMGetOperand(long pValue, int pIndex);
+
+  long LLVMGetFirstUse(long pValue);
+
+  long LLVMGetNextUse(long pUse);
+
+  long LLVMGetUser(long pUse);
+
+  int LLVMGetMDNodeNumOperands(long pValue);
+
+  void LLVMGetMDNodeOperands(long pValue, long[] pDest);
+
+  long LLVMGetNextBasicBlock(long pBasicBlock);
+
+  long LLVMGetPreviousBasicBlock(long pBasicBlock);
+
+  long LLVMGetFirstInstruction(long pBasicBlock);
+
+  long LLVMGetLastInstruction(long pBasicBlock);
+
+  long LLVMGetBasicBlockTerminator(long pBasicBlock);
+
+  long LLVMGetBasicBlockParent(long pBasicBlock);
+
+  long LLVMBasicBlockAsValue(long pBasicBlock);
+
+  long LLVMGetNextInstruction(long pInstruction);
+
+  long LLVMGetPreviousInstruction(long pInstruction);
+
+  long LLVMGetInstructionParent(long pInstruction);
+
+  int LLVMGetInstructionOpcode(long pInstruction);
+
+  int LLVMGetICmpPredicate(long pInstruction);
+
+  int LLVMGetFCmpPredicate(long pInstruction);
+
+  int LLVMGetNumSuccessors(long pTerminator);
+
+  long LLVMGetSuccessor(long pTerminator, int pIndex);
+
+  int LLVMIsConditional(long pBranch);
+
+  long LLVMGetCondition(long pBranch);
+
+  int LLVMCountIncoming(long pPhiNode);
+
+  long LLVMGetIncomingValue(long pPhiNode, int pIndex);
+
+  long LLVMGetIncomingBlock(long pPhiNode, int pIndex);
+
+  long LLVMGetCalledValue(long pInstruction);
+
+  int LLVMGetNumArgOperands(long pInstruction);
+
+  int LLVMGetInstructionCallConv(long pInstruction);
+
+  int LLVMIsTailCall(long pInstruction);
+
+  long LLVMGetAllocatedType(long pInstruction);
+
+  long LLVMIsAArgument(long pValue);
+
+  long LLVMIsABasicBlock(long pValue);
+
+  long LLVMIsAInlineAsm(long pValue);
+
+  long LLVMIsAUser(long pValue);
+
+  long LLVMIsAConstantAggregateZero(long pValue);
+
+  long LLVMIsAConstantArray(long pValue);
+
+  long LLVMIsAConstantDataArray(long pValue);
+
+  long LLVMIsAConstantExpr(long pValue);
+
+  long LLVMIsAConstantFP(long pValue);
+
+  long LLVMIsAConstantInt(long pValue);
+
+  long LLVMIsAConstantPointerNull(long pValue);
+
+  long LLVMIsAConstantStruct(long pValue);
+
+  long LLVMIsAConstantVector(long pValue);
+
+  long LLVMIsAGlobalValue(long pValue);
+
+  long LLVMIsAFunction(long pValue);
+
+  long LLVMIsAGlobalAlias(long pValue);
+
+  long LLVMIsAGlobalVariable(long pValue);
+
+  long LLVMIsAUndefValue(long pValue);
+
+  long LLVMIsAInstruction(long pValue);
+
+  long LLVMIsABinaryOperator(long pValue);
+
+  long LLVMIsACallInst(long pValue);
+
+  long LLVMIsAIntrinsicInst(long pValue);
+
+  long LLVMIsADbgInfoIntrinsic(long pValue);
+
+  long LLVMIsADbgDeclareInst(long pValue);
+
+  long LLVMIsAMemIntrinsic(long pValue);
+
+  long LLVMIsAMemCpyInst(long pValue);
+
+  long LLVMIsAMemMoveInst(long pValue);
+
+  long LLVMIsAMemSetInst(long pValue);
+
+  long LLVMIsACmpInst(long pValue);
+
+  long LLVMIsAFCmpInst(long pValue);
+
+  long LLVMIsAICmpInst(long pValue);
+
+  long LLVMIsAExtractElementInst(long pValue);
+
+  long LLVMIsAGetElementPtrInst(long pValue);
+
+  long LLVMIsAInsertElementInst(long pValue);
+
+  long LLVMIsAInsertValueInst(long pValue);
+
+  long LLVMIsAPHINode(long pValue);
+
+  long LLVMIsASelectInst(long pValue);
+
+  long LLVMIsAShuffleVectorInst(long pValue);
+
+  long LLVMIsAStoreInst(long pValue);
+
+  long LLVMIsATerminatorInst(long pValue);
+
+  long LLVMIsABranchInst(long pValue);
+
+  long LLVMIsAIndirectBrInst(long pValue);
+
+  long LLVMIsAInvokeInst(long pValue);
+
+  long LLVMIsAReturnInst(long pValue);
+
+  long LLVMIsASwitchInst(long pValue);
+
+  long LLVMIsAUnreachableInst(long pValue);
+
+  long LLVMIsAUnaryInstruction(long pValue);
+
+  long LLVMIsAAllocaInst(long pValue);
+
+  long LLVMIsACastInst(long pValue);
+
+  long LLVMIsABitCastInst(long pValue);
+
+  long LLVMIsAFPExtInst(long pValue);
+
+  long LLVMIsAFPToSIInst(long pValue);
+
+  long LLVMIsAFPToUIInst(long pValue);
+
+  long LLVMIsAFPTruncInst(long pValue);
+
+  long LLVMIsAIntToPtrInst(long pValue);
+
+  long LLVMIsAPtrToIntInst(long pValue);
+
+  long LLVMIsASExtInst(long pValue);
+
+  long LLVMIsASIToFPInst(long pValue);
+
+  long LLVMIsATruncInst(long pValue);
+
+  long LLVMIsAUIToFPInst(long pValue);
+
+  long LLVMIsAZExtInst(long pValue);
+
+  long LLVMIsAExtractValueInst(long pValue);
+
+  long LLVMIsALoadInst(long pValue);
+
+  long LLVMIsAVAArgInst(long pValue);
+
+  long LLVMIsAMDNode(long pValue);
+
+  int LLVMGetTypeKind(long pType);
+
+  int LLVMGetIntTypeWidth(long pType);
+
+  int LLVMIsFunctionVarArg(long pType);
+
+  long LLVMGetReturnType(long pType);
+
+  int LLVMCountParamTypes(long pType);
+
+  int LLVMCountStructElementTypes(long pType);
+
+  long LLVMStructGetTypeAtIndex(long pType, int pIndex);
+
+  int LLVMIsPackedStruct(long pType);
+
+  int LLVMIsOpaqueStruct(long pType);
+
+  long LLVMGetElementType(long pType);
+
+  int LLVMGetArrayLength(long pType);
+
+  int LLVMGetPointerAddressSpace(long pType);
+
+  int LLVMGetVectorSize(long pType);
+
+  int LLVMRunFunctionPassManager(long pPassManager, long pFunction);
+}
@@ -0,0 +1,675 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * Functions of the LLVM C API that take and return raw native addresses instead of {@link
+ * PointerType} objects. Calling these functions does not allocate any objects, in contrast to
+ * their counterparts in {@link LLVMLibrary}. A null pointer is represented by 0.
+ *
+ * <p>{@link Value}, {@link BasicBlock}, {@link TypeRef} and {@link Module} use these functions for
+ * reading and navigating IR. Functions that create or modify IR, read or write bitcode, or run
+ * passes are called through {@link CoreNatives}, {@link BitcodeNatives} and {@link PassNatives}.
+ *
+ * <p>The calls are made by a backend that is selected once, with the system property <code>
+ * org.sosy_lab.llvm_j.backend</code>:
+ *
+ * <ul>
+ *   <li><code>jna</code> (default): JNA direct mapping, see {@link JnaAddressBackend}.
+ *   <li><code>ffm</code>: the Foreign Function and Memory API of Java 22 or later, see {@link
+ *       FfmAddressBackend}.
+ * </ul>
+ *
+ * <p>Addresses are passed as <code>long</code>, so this class only works on 64-bit platforms.
+ */
+final class AddressBinding {
+
+  /** Name of the system property that selects the backend. */
+  static final String BACKEND_PROPERTY = "org.sosy_lab.llvm_j.backend";
+
+  private static final AddressBackend BACKEND = createBackend(System.getProperty(BACKEND_PROPERTY));
+
+  private AddressBinding() {}
+
+  static AddressBackend createBackend(@Nullable String pName) {
+    if (pName == null || pName.equals("jna")) {
+      return new JnaAddressBackend();
+    } else if (pName.equals("ffm")) {
+      return new FfmAddressBackend();
+    } else {
+      throw new IllegalArgumentException(
+          "Unknown value for " + BACKEND_PROPERTY + ": " + pName + ", expected jna or ffm");
+    }
+  }
+
+  /** Returns the native address of the given reference. */
+  static long addressOf(PointerType pReference) {
+    return Pointer.nativeValue(pReference.getPointer());
+  }
+
+  static long LLVMGetFirstFunction(long pModule) {
+    return BACKEND.LLVMGetFirstFunction(pModule);
+  }
+
+  static long LLVMGetLastFunction(long pModule) {
+    return BACKEND.LLVMGetLastFunction(pModule);
+  }
+
+  static long LLVMGetFirstGlobal(long pModule) {
+    return BACKEND.LLVMGetFirstGlobal(pModule);
+  }
+
+  static long LLVMGetLastGlobal(long pModule) {
+    return BACKEND.LLVMGetLastGlobal(pModule);
+  }
+
+  static long LLVMGetNextFunction(long pFunction) {
+    return BACKEND.LLVMGetNextFunction(pFunction);
+  }
+
+  static long LLVMGetPreviousFunction(long pFunction) {
+    return BACKEND.LLVMGetPreviousFunction(pFunction);
+  }
+
+  static long LLVMGetNextGlobal(long pGlobal) {
+    return BACKEND.LLVMGetNextGlobal(pGlobal);
+  }
+
+  static long LLVMGetPreviousGlobal(long pGlobal) {
+    return BACKEND.LLVMGetPreviousGlobal(pGlobal);
+  }
+
+  static int LLVMIsDeclaration(long pGlobal) {
+    return BACKEND.LLVMIsDeclaration(pGlobal);
+  }
+
+  static int LLVMGetLinkage(long pGlobal) {
+    return BACKEND.LLVMGetLinkage(pGlobal);
+  }
+
+  static int LLVMGetVisibility(long pGlobal) {
+    return BACKEND.LLVMGetVisibility(pGlobal);
+  }
+
+  static int LLVMGetAlignment(long pValue) {
+    return BACKEND.LLVMGetAlignment(pValue);
+  }
+
+  static long LLVMGetInitializer(long pGlobal) {
+    return BACKEND.LLVMGetInitializer(pGlobal);
+  }
+
+  static int LLVMIsThreadLocal(long pGlobal) {
+    return BACKEND.LLVMIsThreadLocal(pGlobal);
+  }
+
+  static int LLVMIsGlobalConstant(long pGlobal) {
+    return BACKEND.LLVMIsGlobalConstant(pGlobal);
+  }
+
+  static int LLVMIsExternallyInitialized(long pGlobal) {
+    return BACKEND.LLVMIsExternallyInitialized(pGlobal);
+  }
+
+  static int LLVMCountParams(long pFunction) {
+    return BACKEND.LLVMCountParams(pFunction);
+  }
+
+  static long LLVMGetParam(long pFunction, int pIndex) {
+    return BACKEND.LLVMGetParam(pFunction, pIndex);
+  }
+
+  static long LLVMGetFirstParam(long pFunction) {
+    return BACKEND.LLVMGetFirstParam(pFunction);
+  }
+
+  static long LLVMGetLastParam(long pFunction) {
+    return BACKEND.LLVMGetLastParam(pFunction);
+  }
+
+  static long LLVMGetNextParam(long pValue) {
+    return BACKEND.LLVMGetNextParam(pValue);
+  }
+
+  static long LLVMGetPreviousParam(long pValue) {
+    return BACKEND.LLVMGetPreviousParam(pValue);
+  }
+
+  static long LLVMGetParamParent(long pValue) {
+    return BACKEND.LLVMGetParamParent(pValue);
+  }
+
+  static int LLVMGetFunctionCallConv(long pFunction) {
+    return BACKEND.LLVMGetFunctionCallConv(pFunction);
+  }
+
+  static int LLVMCountBasicBlocks(long pFunction) {
+    return BACKEND.LLVMCountBasicBlocks(pFunction);
+  }
+
+  static long LLVMGetFirstBasicBlock(long pFunction) {
+    return BACKEND.LLVMGetFirstBasicBlock(pFunction);
+  }
+
+  static long LLVMGetLastBasicBlock(long pFunction) {
+    return BACKEND.LLVMGetLastBasicBlock(pFunction);
+  }
+
+  static long LLVMGetEntryBasicBlock(long pFunction) {
+    return BACKEND.LLVMGetEntryBasicBlock(pFunction);
+  }
+
+  static String LLVMGetValueName(long pValue) {
+    return BACKEND.LLVMGetValueName(pValue);
+  }
+
+  static long LLVMTypeOf(long pValue) {
+    return BACKEND.LLVMTypeOf(pValue);
+  }
+
+  static int LLVMIsConstant(long pValue) {
+    return BACKEND.LLVMIsConstant(pValue);
+  }
+
+  static int LLVMIsNull(long pValue) {
+    return BACKEND.LLVMIsNull(pValue);
+  }
+
+  static int LLVMIsUndef(long pValue) {
+    return BACKEND.LLVMIsUndef(pValue);
+  }
+
+  static int LLVMValueIsBasicBlock(long pValue) {
+    return BACKEND.LLVMValueIsBasicBlock(pValue);
+  }
+
+  static long LLVMValueAsBasicBlock(long pValue) {
+    return BACKEND.LLVMValueAsBasicBlock(pValue);
+  }
+
+  static long LLVMConstIntGetZExtValue(long pValue) {
+    return BACKEND.LLVMConstIntGetZExtValue(pValue);
+  }
+
+  static long LLVMConstIntGetSExtValue(long pValue) {
+    return BACKEND.LLVMConstIntGetSExtValue(pValue);
+  }
+
+  static int LLVMGetConstOpcode(long pValue) {
+    return BACKEND.LLVMGetConstOpcode(pValue);
+  }
+
+  static int LLVMGetNumOperands(long pValue) {
+    return BACKEND.LLVMGetNumOperands(pValue);
+  }
+
+  static long LLVMGetOperand(long pValue, int pIndex) {
+    return BACKEND.LLVMGetOperand(pValue, pIndex);
+  }
+
+  static long LLVMGetFirstUse(long pValue) {
+    return BACKEND.LLVMGetFirstUse(pValue);
+  }
+
+  static long LLVMGetNextUse(long pUse) {
+    return BACKEND.LLVMGetNextUse(pUse);
+  }
+
+  static long LLVMGetUser(long pUse) {
+    return BACKEND.LLVMGetUser(pUse);
+  }
+
+  static int LLVMGetMDNodeNumOperands(long pValue) {
+    return BACKEND.LLVMGetMDNodeNumOperands(pValue);
+  }
+
+  static void LLVMGetMDNodeOperands(long pValue, long[] pDest) {
+    BACKEND.LLVMGetMDNodeOperands(pValue, pDest);
+  }
+
+  static long LLVMGetNextBasicBlock(long pBasicBlock) {
+    return BACKEND.LLVMGetNextBasicBlock(pBasicBlock);
+  }
+
+  static long LLVMGetPreviousBasicBlock(long pBasicBlock) {
+    return BACKEND.LLVMGetPreviousBasicBlock(pBasicBlock);
+  }
+
+  static long LLVMGetFirstInstruction(long pBasicBlock) {
+    return BACKEND.LLVMGetFirstInstruction(pBasicBlock);
+  }
+
+  static long LLVMGetLastInstruction(long pBasicBlock) {
+    return BACKEND.LLVMGetLastInstruction(pBasicBlock);
+  }
+
+  static long LLVMGetBasicBlockTerminator(long pBasicBlock) {
+    return BACKEND.LLVMGetBasicBlockTerminator(pBasicBlock);
+  }
+
+  static long LLVMGetBasicBlockParent(long pBasicBlock) {
+    return BACKEND.LLVMGetBasicBlockParent(pBasicBlock);
+  }
+
+  static long LLVMBasicBlockAsValue(long pBasicBlock) {
+    return BACKEND.LLVMBasicBlockAsValue(pBasicBlock);
+  }
+
+  static long LLVMGetNextInstruction(long pInstruction) {
+    return BACKEND.LLVMGetNextInstruction(pInstruction);
+  }
+
+  static long LLVMGetPreviousInstruction(long pInstruction) {
+    return BACKEND.LLVMGetPreviousInstruction(pInstruction);
+  }
+
+  static long LLVMGetInstructionParent(long pInstruction) {
+    return BACKEND.LLVMGetInstructionParent(pInstruction);
+  }
+
+  static int LLVMGetInstructionOpcode(long pInstruction) {
+    return BACKEND.LLVMGetInstructionOpcode(pInstruction);
+  }
+
+  static int LLVMGetICmpPredicate(long pInstruction) {
+    return BACKEND.LLVMGetICmpPredicate(pInstruction);
+  }
+
+  static int LLVMGetFCmpPredicate(long pInstruction) {
+    return BACKEND.LLVMGetFCmpPredicate(pInstruction);
+  }
+
+  static int LLVMGetNumSuccessors(long pTerminator) {
+    return BACKEND.LLVMGetNumSuccessors(pTerminator);
+  }
+
+  static long LLVMGetSuccessor(long pTerminator, int pIndex) {
+    return BACKEND.LLVMGetSuccessor(pTerminator, pIndex);
+  }
+
+  static int LLVMIsConditional(long pBranch) {
+    return BACKEND.LLVMIsConditional(pBranch);
+  }
+
+  static long LLVMGetCondition(long pBranch) {
+    return BACKEND.LLVMGetCondition(pBranch);
+  }
+
+  static int LLVMCountIncoming(long pPhiNode) {
+    return BACKEND.LLVMCountIncoming(pPhiNode);
+  }
+
+  static long LLVMGetIncomingValue(long pPhiNode, int pIndex) {
+    return BACKEND.LLVMGetIncomingValue(pPhiNode, pIndex);
+  }
+
+  static long LLVMGetIncomingBlock(long pPhiNode, int pIndex) {
+    return BACKEND.LLVMGetIncomingBlock(pPhiNode, pIndex);
+  }
+
+  static long LLVMGetCalledValue(long pInstruction) {
+    return BACKEND.LLVMGetCalledValue(pInstruction);
+  }
+
+  static int LLVMGetNumArgOperands(long pInstruction) {
+    return BACKEND.LLVMGetNumArgOperands(pInstruction);
+  }
+
+  static int LLVMGetInstructionCallConv(long pInstruction) {
+    return BACKEND.LLVMGetInstructionCallConv(pInstruction);
+  }
+
+  static int LLVMIsTailCall(long pInstruction) {
+    return BACKEND.LLVMIsTailCall(pInstruction);
+  }
+
+  static long LLVMGetAllocatedType(long pInstruction) {
+    return BACKEND.LLVMGetAllocatedType(pInstruction);
+  }
+
+  static long LLVMIsAArgument(long pValue) {
+    return BACKEND.LLVMIsAArgument(pValue);
+  }
+
+  static long LLVMIsABasicBlock(long pValue) {
+    return BACKEND.LLVMIsABasicBlock(pValue);
+  }
+
+  static long LLVMIsAInlineAsm(long pValue) {
+    return BACKEND.LLVMIsAInlineAsm(pValue);
+  }
+
+  static long LLVMIsAUser(long pValue) {
+    return BACKEND.LLVMIsAUser(pValue);
+  }
+
+  static long LLVMIsAConstantAggregateZero(long pValue) {
+    return BACKEND.LLVMIsAConstantAggregateZero(pValue);
+  }
+
+  static long LLVMIsAConstantArray(long pValue) {
+    return BACKEND.LLVMIsAConstantArray(pValue);
+  }
+
+  static long LLVMIsAConstantDataArray(long pValue) {
+    return BACKEND.LLVMIsAConstantDataArray(pValue);
+  }
+
+  static long LLVMIsAConstantExpr(long pValue) {
+    return BACKEND.LLVMIsAConstantExpr(pValue);
+  }
+
+  static long LLVMIsAConstantFP(long pValue) {
+    return BACKEND.LLVMIsAConstantFP(pValue);
+  }
+
+  static long LLVMIsAConstantInt(long pValue) {
+    return BACKEND.LLVMIsAConstantInt(pValue);
+  }
+
+  static long LLVMIsAConstantPointerNull(long pValue) {
+    return BACKEND.LLVMIsAConstantPointerNull(pValue);
+  }
+
+  static long LLVMIsAConstantStruct(long pValue) {
+    return BACKEND.LLVMIsAConstantStruct(pValue);
+  }
+
+  static long LLVMIsAConstantVector(long pValue) {
+    return BACKEND.LLVMIsAConstantVector(pValue);
+  }
+
+  static long LLVMIsAGlobalValue(long pValue) {
+    return BACKEND.LLVMIsAGlobalValue(pValue);
+  }
+
+  static long LLVMIsAFunction(long pValue) {
+    return BACKEND.LLVMIsAFunction(pValue);
+  }
+
+  static long LLVMIsAGlobalAlias(long pValue) {
+    return BACKEND.LLVMIsAGlobalAlias(pValue);
+  }
+
+  static long LLVMIsAGlobalVariable(long pValue) {
+    return BACKEND.LLVMIsAGlobalVariable(pValue);
+  }
+
+  static long LLVMIsAUndefValue(long pValue) {
+    return BACKEND.LLVMIsAUndefValue(pValue);
+  }
+
+  static long LLVMIsAInstruction(long pValue) {
+    return BACKEND.LLVMIsAInstruction(pValue);
+  }
+
+  static long LLVMIsABinaryOperator(long pValue) {
+    return BACKEND.LLVMIsABinaryOperator(pValue);
+  }
+
+  static long LLVMIsACallInst(long pValue) {
+    return BACKEND.LLVMIsACallInst(pValue);
+  }
+
+  static long LLVMIsAIntrinsicInst(long pValue) {
+    return BACKEND.LLVMIsAIntrinsicInst(pValue);
+  }
+
+  static long LLVMIsADbgInfoIntrinsic(long pValue) {
+    return BACKEND.LLVMIsADbgInfoIntrinsic(pValue);
+  }
+
+  static long LLVMIsADbgDeclareInst(long pValue) {
+    return BACKEND.LLVMIsADbgDeclareInst(pValue);
+  }
+
+  static long LLVMIsAMemIntrinsic(long pValue) {
+    return BACKEND.LLVMIsAMemIntrinsic(pValue);
+  }
+
+  static long LLVMIsAMemCpyInst(long pValue) {
+    return BACKEND.LLVMIsAMemCpyInst(pValue);
+  }
+
+  static long LLVMIsAMemMoveInst(long pValue) {
+    return BACKEND.LLVMIsAMemMoveInst(pValue);
+  }
+
+  static long LLVMIsAMemSetInst(long pValue) {
+    return BACKEND.LLVMIsAMemSetInst(pValue);
+  }
+
+  static long LLVMIsACmpInst(long pValue) {
+    return BACKEND.LLVMIsACmpInst(pValue);
+  }
+
+  static long LLVMIsAFCmpInst(long pValue) {
+    return BACKEND.LLVMIsAFCmpInst(pValue);
+  }
+
+  static long LLVMIsAICmpInst(long pValue) {
+    return BACKEND.LLVMIsAICmpInst(pValue);
+  }
+
+  static long LLVMIsAExtractElementInst(long pValue) {
+    return BACKEND.LLVMIsAExtractElementInst(pValue);
+  }
+
+  static long LLVMIsAGetElementPtrInst(long pValue) {
+    return BACKEND.LLVMIsAGetElementPtrInst(pValue);
+  }
+
+  static long LLVMIsAInsertElementInst(long pValue) {
+    return BACKEND.LLVMIsAInsertElementInst(pValue);
+  }
+
+  static long LLVMIsAInsertValueInst(long pValue) {
+    return BACKEND.LLVMIsAInsertValueInst(pValue);
+  }
+
+  static long LLVMIsAPHINode(long pValue) {
+    return BACKEND.LLVMIsAPHINode(pValue);
+  }
+
+  static long LLVMIsASelectInst(long pValue) {
+    return BACKEND.LLVMIsASelectInst(pValue);
+  }
+
+  static long LLVMIsAShuffleVectorInst(long pValue) {
+    return BACKEND.LLVMIsAShuffleVectorInst(pValue);
+  }
+
+  static long LLVMIsAStoreInst(long pValue) {
+    return BACKEND.LLVMIsAStoreInst(pValue);
+  }
+
+  static long LLVMIsATerminatorInst(long pValue) {
+    return BACKEND.LLVMIsATerminatorInst(pValue);
+  }
+
+  static long LLVMIsABranchInst(long pValue) {
+    return BACKEND.LLVMIsABranchInst(pValue);
+  }
+
+  static long LLVMIsAIndirectBrInst(long pValue) {
+    return BACKEND.LLVMIsAIndirectBrInst(pValue);
+  }
+
+  static long LLVMIsAInvokeInst(long pValue) {
+    return BACKEND.LLVMIsAInvokeInst(pValue);
+  }
+
+  static long LLVMIsAReturnInst(long pValue) {
+    return BACKEND.LLVMIsAReturnInst(pValue);
+  }
+
+  static long LLVMIsASwitchInst(long pValue) {
+    return BACKEND.LLVMIsASwitchInst(pValue);
+  }
+
+  static long LLVMIsAUnreachableInst(long pValue) {
+    return BACKEND.LLVMIsAUnreachableInst(pValue);
+  }
+
+  static long LLVMIsAUnaryInstruction(long pValue) {
+    return BACKEND.LLVMIsAUnaryInstruction(pValue);
+  }
+
+  static long LLVMIsAAllocaInst(long pValue) {
+    return BACKEND.LLVMIsAAllocaInst(pValue);
+  }
+
+  static long LLVMIsACastInst(long pValue) {
+    return BACKEND.LLVMIsACastInst(pValue);
+  }
+
+  static long LLVMIsABitCastInst(long pValue) {
+    return BACKEND.LLVMIsABitCastInst(pValue);
+  }
+
+  static long LLVMIsAFPExtInst(long pValue) {
+    return BACKEND.LLVMIsAFPExtInst(pValue);
+  }
+
+  static long LLVMIsAFPToSIInst(long pValue) {
+    return BACKEND.LLVMIsAFPToSIInst(pValue);
+  }
+
+  static long LLVMIsAFPToUIInst(long pValue) {
+    return BACKEND.LLVMIsAFPToUIInst(pValue);
+  }
+
+  static long LLVMIsAFPTruncInst(long pValue) {
+    return BACKEND.LLVMIsAFPTruncInst(pValue);
+  }
+
+  static long LLVMIsAIntToPtrInst(long pValue) {
+    return BACKEND.LLVMIsAIntToPtrInst(pValue);
+  }
+
+  static long LLVMIsAPtrToIntInst(long pValue) {
+    return BACKEND.LLVMIsAPtrToIntInst(pValue);
+  }
+
+  static long LLVMIsASExtInst(long pValue) {
+    return BACKEND.LLVMIsASExtInst(pValue);
+  }
+
+  static long LLVMIsASIToFPInst(long pValue) {
+    return BACKEND.LLVMIsASIToFPInst(pValue);
+  }
+
+  static long LLVMIsATruncInst(long pValue) {
+    return BACKEND.LLVMIsATruncInst(pValue);
+  }
+
+  static long LLVMIsAUIToFPInst(long pValue) {
+    return BACKEND.LLVMIsAUIToFPInst(pValue);
+  }
+
+  static long LLVMIsAZExtInst(long pValue) {
+    return BACKEND.LLVMIsAZExtInst(pValue);
+  }
+
+  static long LLVMIsAExtractValueInst(long pValue) {
+    return BACKEND.LLVMIsAExtractValueInst(pValue);
+  }
+
+  static long LLVMIsALoadInst(long pValue) {
+    return BACKEND.LLVMIsALoadInst(pValue);
+  }
+
+  static long LLVMIsAVAArgInst(long pValue) {
+    return BACKEND.LLVMIsAVAArgInst(pValue);
+  }
+
+  static long LLVMIsAMDNode(long pValue) {
+    return BACKEND.LLVMIsAMDNode(pValue);
+  }
+
+  static int LLVMGetTypeKind(long pType) {
+    return BACKEND.LLVMGetTypeKind(pType);
+  }
+
+  static int LLVMGetIntTypeWidth(long pType) {
+    return BACKEND.LLVMGetIntTypeWidth(pType);
+  }
+
+  static int LLVMIsFunctionVarArg(long pType) {
+    return BACKEND.LLVMIsFunctionVarArg(pType);
+  }
+
+  static long LLVMGetReturnType(long pType) {
+    return BACKEND.LLVMGetReturnType(pType);
+  }
+
+  static int LLVMCountParamTypes(long pType) {
+    return BACKEND.LLVMCountParamTypes(pType);
+  }
+
+  static int LLVMCountStructElementTypes(long pType) {
+    return BACKEND.LLVMCountStructElementTypes(pType);
+  }
+
+  static long LLVMStructGetTypeAtIndex(long pType, int pIndex) {
+    return BACKEND.LLVMStructGetTypeAtIndex(pType, pIndex);
+  }
+
+  static int LLVMIsPackedStruct(long pType) {
+    return BACKEND.LLVMIsPackedStruct(pType);
+  }
+
+  static int LLVMIsOpaqueStruct(long pType) {
+    return BACKEND.LLVMIsOpaqueStruct(pType);
+  }
+
+  static long LLVMGetElementType(long pType) {
+    return BACKEND.LLVMGetElementType(pType);
+  }
+
+  static int LLVMGetArrayLength(long pType) {
+    return BACKEND.LLVMGetArrayLength(pType);
+  }
+
+  static int LLVMGetPointerAddressSpace(long pType) {
+    return BACKEND.LLVMGetPointerAddressSpace(pType);
+  }
+
+  static int LLVMGetVectorSize(long pType) {
+    return BACKEND.LLVMGetVectorSize(pType);
+  }
+
+  static int LLVMRunFunctionPassManager(long pPassManager, long pFunction) {
+    return BACKEND.LLVMRunFunctionPassManager(pPassManager, pFunction);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import org.junit.Test;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+public class AddressBindingTest {
+
+  @Test
+  public void test_createBackend_default() {
+    assertThat(AddressBinding.createBackend(null)).isInstanceOf(JnaAddressBackend.class);
+    assertThat(AddressBinding.createBackend("jna")).isInstanceOf(JnaAddressBackend.class);
+  }
+
+  @Test
+  public void test_createBackend_unknown() {
+    assertThrows(IllegalArgumentException.class, () -> AddressBinding.createBackend("jni"));
+  }
+
+  @Test
+  public void test_ffmBackend_matchesJna() throws LLVMException {
+    assumeTrue(Runtime.version().feature() >= 22);
+    String ir =
+        "define i32 @f(i32 %a, i32* %p) {\n"
+            + "entry:\n"
+            + "  %x = load i32, i32* %p, !range !0\n"
+            + "  %c = icmp slt i32 %x, %a\n"
+            + "  br i1 %c, label %then, label %end\n"
+            + "then:\n"
+            + "  br label %end\n"
+            + "end:\n"
+            + "  %r = phi i32 [ %x, %entry ], [ %a, %then ]\n"
+            + "  ret i32 %r\n"
+            + "}\n"
+            + "!0 = !{i32 0, i32 10}\n";
+    Module.addLibraryLookupPaths(ImmutableList.of(Paths.get("lib", "java", "runtime")));
+    AddressBackend jna = AddressBinding.createBackend("jna");
+    AddressBackend ffm = AddressBinding.createBackend("ffm");
+
+    try (Context context = Context.create();
+        Module module = Module.parseIR(ir.getBytes(StandardCharsets.US_ASCII), context)) {
+      long moduleAddress = AddressBinding.addressOf(module.getModule());
+      long function = jna.LLVMGetFirstFunction(moduleAddress);
+      assertThat(ffm.LLVMGetFirstFunction(moduleAddress)).isEqualTo(function);
+      assertThat(ffm.LLVMGetNextFunction(function)).isEqualTo(0);
+      assertSameValue(jna, ffm, function);
+      assertThat(ffm.LLVMCountParams(function)).isEqualTo(2);
+      for (int i = 0; i < 2; i++) {
+        assertSameValue(jna, ffm, ffm.LLVMGetParam(function, i));
+      }
+
+      assertThat(ffm.LLVMCountBasicBlocks(function)).isEqualTo(3);
+      for (@Var long block = ffm.LLVMGetFirstBasicBlock(function);
+          block != 0;
+          block = ffm.LLVMGetNextBasicBlock(block)) {
+        assertThat(ffm.LLVMGetNextBasicBlock(block)).isEqualTo(jna.LLVMGetNextBasicBlock(block));
+        assertThat(ffm.LLVMGetBasicBlockParent(block)).isEqualTo(function);
+        assertThat(ffm.LLVMGetBasicBlockTerminator(block))
+            .isEqualTo(jna.LLVMGetBasicBlockTerminator(block));
+        for (@Var long instruction = ffm.LLVMGetFirstInstruction(block);
+            instruction != 0;
+            instruction = ffm.LLVMGetNextInstruction(instruction)) {
+          assertSameValue(jna, ffm, instruction);
+          assertThat(ffm.LLVMGetNextInstruction(instruction))
+              .isEqualTo(jna.LLVMGetNextInstruction(instruction));
+          assertThat(ffm.LLVMGetInstructionOpcode(instruction))
+              .isEqualTo(jna.LLVMGetInstructionOpcode(instruction));
+          assertThat(ffm.LLVMIsAPHINode(instruction)).isEqualTo(jna.LLVMIsAPHINode(instruction));
+          for (int i = 0; i < ffm.LLVMGetNumOperands(instruction); i++) {
+            assertSameValue(jna, ffm, ffm.LLVMGetOperand(instruction, i));
+          }
+        }
+      }
+
+      Value load = module.getFirstFunction().getFirstBasicBlock().getFirstInstruction();
+      int rangeKind = LLVMLibrary.LLVMGetMDKindID("range", "range".length());
+      long range = load.getMetadata(rangeKind).getAddress();
+      assertThat(ffm.LLVMIsAMDNode(range)).isEqualTo(jna.LLVMIsAMDNode(range));
+      int count = ffm.LLVMGetMDNodeNumOperands(range);
+      assertThat(count).isEqualTo(2);
+      long[] ffmOperands = new long[count];
+      long[] jnaOperands = new long[count];
+      ffm.LLVMGetMDNodeOperands(range, ffmOperands);
+      jna.LLVMGetMDNodeOperands(range, jnaOperands);
+      assertThat(ffmOperands).isEqualTo(jnaOperands);
+    }
+  }
+
+  private static void assertSameValue(AddressBackend pJna, AddressBackend pFfm, long pValue) {
+    assertThat(pFfm.LLVMGetValueName(pValue)).isEqualTo(pJna.LLVMGetValueName(pValue));
+    assertThat(pFfm.LLVMIsConstant(pValue)).isEqualTo(pJna.LLVMIsConstant(pValue));
+    assertThat(pFfm.LLVMIsAInstruction(pValue)).isEqualTo(pJna.LLVMIsAInstruction(pValue));
+    long type = pFfm.LLVMTypeOf(pValue);
+    assertThat(type).isEqualTo(pJna.LLVMTypeOf(pValue));
+    assertThat(pFfm.LLVMGetTypeKind(type)).isEqualTo(pJna.LLVMGetTypeKind(type));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+
+/**
+ * Assigns dense ids 0, 1, 2, ... to non-zero <code>long</code> keys, usually native addresses, in
+ * the order in which they are added. Keys are stored unboxed in an open-addressing table with
+ * linear probing, so look-ups do not allocate.
+ *
+ * <p>Keys can not be removed. This class is not thread-safe.
+ */
+final class AddressIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  // keys by id
+  private long[] addresses = new long[INITIAL_CAPACITY / 2];
+  private int size = 0;
+
+  // hash table of id + 1, 0 marks an empty slot
+  private int[] slots = new int[INITIAL_CAPACITY];
+
+  /** Returns the number of keys in this index. */
+  int size() {
+    return size;
+  }
+
+  /** Returns the id of the given key, or -1 if the key was not added. */
+  int indexOf(long pAddress) {
+    int mask = slots.length - 1;
+    @Var int slot = slotOf(pAddress, mask);
+    while (slots[slot] != 0) {
+      int id = slots[slot] - 1;
+      if (addresses[id] == pAddress) {
+        return id;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  /** Adds the given key if it is not present yet, and returns its id. */
+  int add(long pAddress) {
+    checkArgument(pAddress != 0, "Key must not be 0");
+    int mask = slots.length - 1;
+    @Var int slot = slotOf(pAddress, mask);
+    while (slots[slot] != 0) {
+      int id = slots[slot] - 1;
+      if (addresses[id] == pAddress) {
+        return id;
+      }
+      slot = (slot + 1) & mask;
+    }
+    if (size == addresses.length) {
+      addresses = Arrays.copyOf(addresses, size * 2);
+    }
+    int id = size;
+    addresses[id] = pAddress;
+    size++;
+    slots[slot] = id + 1;
+    if (size * 2 > slots.length) {
+      rehash(slots.length * 2);
+    }
+    return id;
+  }
+
+  /** Returns the key with the given id. */
+  long get(int pId) {
+    checkElementIndex(pId, size);
+    return addresses[pId];
+  }
+
+  /** Returns all keys, ordered by id. */
+  long[] toArray() {
+    return Arrays.copyOf(addresses, size);
+  }
+
+  private void rehash(int pCapacity) {
+    slots = new int[pCapacity];
+    int mask = pCapacity - 1;
+    for (int id = 0; id < size; id++) {
+      @Var int slot = slotOf(addresses[id], mask);
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = id + 1;
+    }
+  }
+
+  private static int slotOf(long pKey, int pMask) {
+    // addresses are aligned, so mix the high bits into the low bits that select the slot
+    long hash = pKey * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & pMask;
+  }
+}
@@ -33,6 +33,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import com.sun.jna.Pointer;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 
 /**
@@ -42,14 +43,24 @@ import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 public final class BasicBlock implements Iterable<Value> {
 
   private final LLVMLibrary.LLVMBasicBlockRef bb;
+  private final @Nullable WrapperTable wrappers;
 
   LLVMLibrary.LLVMBasicBlockRef bb() {
     return bb;
   }
 
   BasicBlock(LLVMLibrary.LLVMBasicBlockRef bb) {
+    this(bb, null);
+  }
+
+  BasicBlock(LLVMLibrary.LLVMBasicBlockRef bb, @Nullable WrapperTable pWrappers) {
     checkNotNull(bb);
     this.bb = bb;
+    wrappers = pWrappers;
+  }
+
+  private long address() {
+    return AddressBinding.addressOf(bb);
   }
 
   @Override
@@ -67,12 +78,12 @@ public final class BasicBlock implements Iterable<Value> {
 
   /** Converts this basic block instance to a {@link Value}. */
   public Value basicBlockAsValue() {
-    return new Value(LLVMLibrary.LLVMBasicBlockAsValue(bb));
+    return WrapperTable.value(wrappers, AddressBinding.LLVMBasicBlockAsValue(address()));
   }
 
   /** Returns the function to which this basic block belongs. */
   public Value getBasicBlockParent() {
-    return new Value(LLVMLibrary.LLVMGetBasicBlockParent(bb));
+    return WrapperTable.value(wrappers, AddressBinding.LLVMGetBasicBlockParent(address()));
   }
 
   /**
@@ -80,12 +91,7 @@ public final class BasicBlock implements Iterable<Value> {
    * a function, <code>null</code> is returned.
    */
   public BasicBlock getNextBasicBlock() {
-    LLVMLibrary.LLVMBasicBlockRef nextBb = LLVMLibrary.LLVMGetNextBasicBlock(bb);
-    if (nextBb == null) {
-      return null;
-    } else {
-      return new BasicBlock(nextBb);
-    }
+    return WrapperTable.basicBlockOrNull(wrappers, AddressBinding.LLVMGetNextBasicBlock(address()));
   }
 
   /**
@@ -93,22 +99,13 @@ public final class BasicBlock implements Iterable<Value> {
    * function, <code>null</code> is returned.
    */
   public BasicBlock getPreviousBasicBlock() {
-    LLVMLibrary.LLVMBasicBlockRef nextBb = LLVMLibrary.LLVMGetPreviousBasicBlock(bb);
-    if (nextBb == null) {
-      return null;
-    } else {
-      return new BasicBlock(nextBb);
-    }
+    return WrapperTable.basicBlockOrNull(
+        wrappers, AddressBinding.LLVMGetPreviousBasicBlock(address()));
   }
 
   /** Returns the first instruction in this basic block. */
   public Value getFirstInstruction() {
-    LLVMLibrary.LLVMValueRef firstInstRef = LLVMLibrary.LLVMGetFirstInstruction(bb);
-    if (firstInstRef == null) {
-      return null;
-    } else {
-      return new Value(firstInstRef);
-    }
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetFirstInstruction(address()));
   }
 
   /**
@@ -116,12 +113,7 @@ public final class BasicBlock implements Iterable<Value> {
    * </code> is returned.
    */
   public Value getLastInstruction() {
-    LLVMLibrary.LLVMValueRef lastInstRef = LLVMLibrary.LLVMGetLastInstruction(bb);
-    if (lastInstRef == null) {
-      return null;
-    } else {
-      return new Value(lastInstRef);
-    }
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetLastInstruction(address()));
   }
 
   @Override
@@ -0,0 +1,86 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+import org.sosy_lab.llvm_j.binding.ext.NativeSize;
+
+/**
+ * Native methods of LLVM for memory buffers and for reading and writing bitcode and textual IR.
+ * They are registered when this class is first used.
+ *
+ * @see CoreNatives
+ */
+final class BitcodeNatives {
+
+  static {
+    Native.register(BitcodeNatives.class, LLVMLibrary.JNA_NATIVE_LIB);
+  }
+
+  private BitcodeNatives() {}
+
+  static native LLVMLibrary.LLVMBool LLVMCreateMemoryBufferWithContentsOfFile(
+      String pPath, LLVMLibrary.LLVMMemoryBufferRef pOutBuffer, PointerByReference pOutMessage);
+
+  static native LLVMLibrary.LLVMMemoryBufferRef LLVMCreateMemoryBufferWithMemoryRange(
+      Pointer pData,
+      NativeSize pLength,
+      Pointer pName,
+      LLVMLibrary.LLVMBool pRequiresNullTerminator);
+
+  static native void LLVMDisposeMemoryBuffer(LLVMLibrary.LLVMMemoryBufferRef pBuffer);
+
+  static native LLVMLibrary.LLVMBool LLVMGetBitcodeModuleInContext2(
+      LLVMLibrary.LLVMContextRef pContext,
+      LLVMLibrary.LLVMMemoryBufferRef pBuffer,
+      LLVMLibrary.LLVMModuleRef pOutModule);
+
+  static native NativeSize LLVMGetBufferSize(LLVMLibrary.LLVMMemoryBufferRef pBuffer);
+
+  // LLVMLibrary maps the result to a String, which stops at the first zero byte of the content.
+  static native Pointer LLVMGetBufferStart(LLVMLibrary.LLVMMemoryBufferRef pBuffer);
+
+  static native LLVMLibrary.LLVMBool LLVMParseBitcodeInContext2(
+      LLVMLibrary.LLVMContextRef pContext,
+      LLVMLibrary.LLVMMemoryBufferRef pBuffer,
+      LLVMLibrary.LLVMModuleRef pOutModule);
+
+  static native LLVMLibrary.LLVMBool LLVMParseIRInContext(
+      LLVMLibrary.LLVMContextRef pContext,
+      LLVMLibrary.LLVMMemoryBufferRef pBuffer,
+      LLVMLibrary.LLVMModuleRef pOutModule,
+      PointerByReference pOutMessage);
+
+  static native int LLVMWriteBitcodeToFile(LLVMLibrary.LLVMModuleRef pModule, String pPath);
+
+  static native LLVMLibrary.LLVMMemoryBufferRef LLVMWriteBitcodeToMemoryBuffer(
+      LLVMLibrary.LLVMModuleRef pModule);
+}
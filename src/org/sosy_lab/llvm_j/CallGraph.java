@@ -0,0 +1,429 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.errorprone.annotations.Var;
+import com.sun.jna.Pointer;
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * Immutable call graph of a {@link Module}, stored in flat primitive arrays.
+ *
+ * <p>Functions are identified by dense <code>int</code> ids in the order of the module, and call
+ * sites, i.e., call and invoke instructions, by dense ids in the order of the module, too. Thus,
+ * the call sites of each function have consecutive ids. The callee of a call site is resolved by
+ * stripping bitcasts from the called value. Call sites whose called value is not a function after
+ * that, e.g., calls through function pointers or of inline assembly, are indirect and have no
+ * callee.
+ *
+ * <p>The graph also contains the strongly connected components of the functions, computed with
+ * Tarjan's algorithm. Components are numbered bottom-up, i.e., callees come before their callers
+ * unless both are in the same component.
+ *
+ * <p>The module is read once when the graph is created. Afterwards, no method of this class except
+ * those that return wrapper objects calls into LLVM. The graph does not reflect later changes of
+ * the module.
+ */
+public final class CallGraph {
+
+  private final @Nullable WrapperTable wrappers;
+
+  private final AddressIndex functions;
+  private final int[] functionCallSiteStarts; // length + 1
+
+  // call sites
+  private final long[] callSiteAddresses;
+  private final int[] callSiteCallees; // -1 for indirect call sites
+
+  // distinct callees and callers of each function
+  private final int[] calleeStarts; // length + 1
+  private final int[] callees;
+  private final int[] callerStarts; // length + 1
+  private final int[] callers;
+
+  // strongly connected components, bottom-up
+  private final int[] functionSccs;
+  private final int[] sccStarts; // length + 1
+  private final ImmutableIntArray sccMembers;
+  private final int sccCount;
+
+  private CallGraph(
+      @Nullable WrapperTable pWrappers,
+      AddressIndex pFunctions,
+      int[] pFunctionCallSiteStarts,
+      long[] pCallSiteAddresses,
+      int[] pCallSiteCallees) {
+    wrappers = pWrappers;
+    functions = pFunctions;
+    functionCallSiteStarts = pFunctionCallSiteStarts;
+    callSiteAddresses = pCallSiteAddresses;
+    callSiteCallees = pCallSiteCallees;
+
+    int functionCount = functions.size();
+    calleeStarts = new int[functionCount + 1];
+    callees = computeCallees();
+    callerStarts = new int[functionCount + 1];
+    callers = computeCallers();
+
+    functionSccs = new int[functionCount];
+    sccStarts = new int[functionCount + 1];
+    sccMembers = computeSccs();
+    // the component that was completed last has the largest id
+    sccCount = functionCount == 0 ? 0 : functionSccs[sccMembers.get(functionCount - 1)] + 1;
+  }
+
+  /**
+   * Creates the call graph of the given module. Function bodies that were not materialized yet are
+   * materialized.
+   */
+  public static CallGraph create(Module pModule) {
+    checkNotNull(pModule);
+    AddressIndex functions = new AddressIndex();
+    long module = AddressBinding.addressOf(pModule.getModule());
+    for (@Var long function = AddressBinding.LLVMGetFirstFunction(module);
+        function != 0;
+        function = AddressBinding.LLVMGetNextFunction(function)) {
+      functions.add(function);
+    }
+
+    int functionCount = functions.size();
+    int[] functionCallSiteStarts = new int[functionCount + 1];
+    @Var long[] callSites = new long[functionCount];
+    @Var int[] callSiteCallees = new int[functionCount];
+    @Var int callSiteCount = 0;
+    for (int id = 0; id < functionCount; id++) {
+      functionCallSiteStarts[id] = callSiteCount;
+      for (@Var long block = InstructionCursor.getFirstBasicBlock(functions.get(id));
+          block != 0;
+          block = AddressBinding.LLVMGetNextBasicBlock(block)) {
+        for (@Var long instruction = AddressBinding.LLVMGetFirstInstruction(block);
+            instruction != 0;
+            instruction = AddressBinding.LLVMGetNextInstruction(instruction)) {
+          int opCode = AddressBinding.LLVMGetInstructionOpcode(instruction);
+          if (opCode != Value.OpCode.Call.getValue() && opCode != Value.OpCode.Invoke.getValue()) {
+            continue;
+          }
+          if (callSiteCount == callSites.length) {
+            callSites = Arrays.copyOf(callSites, 2 * callSiteCount + 1);
+            callSiteCallees = Arrays.copyOf(callSiteCallees, 2 * callSiteCount + 1);
+          }
+          callSites[callSiteCount] = instruction;
+          long callee = stripBitCasts(AddressBinding.LLVMGetCalledValue(instruction));
+          callSiteCallees[callSiteCount] =
+              AddressBinding.LLVMIsAFunction(callee) != 0 ? functions.indexOf(callee) : -1;
+          callSiteCount++;
+        }
+      }
+    }
+    functionCallSiteStarts[functionCount] = callSiteCount;
+
+    return new CallGraph(
+        pModule.wrappers(),
+        functions,
+        functionCallSiteStarts,
+        Arrays.copyOf(callSites, callSiteCount),
+        Arrays.copyOf(callSiteCallees, callSiteCount));
+  }
+
+  private static long stripBitCasts(long pValue) {
+    @Var long value = pValue;
+    while (AddressBinding.LLVMIsAConstantExpr(value) != 0
+        && AddressBinding.LLVMGetConstOpcode(value) == Value.OpCode.BitCast.getValue()) {
+      value = AddressBinding.LLVMGetOperand(value, 0);
+    }
+    return value;
+  }
+
+  /** Collects the distinct callees of each function and fills {@link #calleeStarts}. */
+  private int[] computeCallees() {
+    int functionCount = functions.size();
+    int[] result = new int[callSiteAddresses.length];
+    @Var int size = 0;
+    int[] lastCaller = new int[functionCount];
+    Arrays.fill(lastCaller, -1);
+    for (int caller = 0; caller < functionCount; caller++) {
+      calleeStarts[caller] = size;
+      for (int site = functionCallSiteStarts[caller];
+          site < functionCallSiteStarts[caller + 1];
+          site++) {
+        int callee = callSiteCallees[site];
+        if (callee >= 0 && lastCaller[callee] != caller) {
+          lastCaller[callee] = caller;
+          result[size++] = callee;
+        }
+      }
+      Arrays.sort(result, calleeStarts[caller], size);
+    }
+    calleeStarts[functionCount] = size;
+    return Arrays.copyOf(result, size);
+  }
+
+  /** Inverts the callee lists and fills {@link #callerStarts}. */
+  private int[] computeCallers() {
+    int functionCount = functions.size();
+    for (int callee : callees) {
+      callerStarts[callee + 1]++;
+    }
+    for (int function = 0; function < functionCount; function++) {
+      callerStarts[function + 1] += callerStarts[function];
+    }
+    int[] result = new int[callees.length];
+    int[] next = Arrays.copyOf(callerStarts, functionCount);
+    for (int caller = 0; caller < functionCount; caller++) {
+      for (int i = calleeStarts[caller]; i < calleeStarts[caller + 1]; i++) {
+        result[next[callees[i]]++] = caller;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the strongly connected components with an iterative version of Tarjan's algorithm,
+   * which completes components in bottom-up order, and fills {@link #functionSccs} and {@link
+   * #sccStarts}.
+   */
+  private ImmutableIntArray computeSccs() {
+    int functionCount = functions.size();
+    int[] index = new int[functionCount];
+    Arrays.fill(index, -1);
+    int[] lowLink = new int[functionCount];
+    boolean[] onStack = new boolean[functionCount];
+    int[] sccStack = new int[functionCount];
+    @Var int sccStackSize = 0;
+    int[] callStack = new int[functionCount];
+    int[] nextCallee = new int[functionCount];
+    @Var int nextIndex = 0;
+
+    int[] members = new int[functionCount];
+    @Var int memberCount = 0;
+    @Var int sccCount = 0;
+
+    for (int start = 0; start < functionCount; start++) {
+      if (index[start] >= 0) {
+        continue;
+      }
+      @Var int callStackSize = 0;
+      callStack[callStackSize++] = start;
+      index[start] = lowLink[start] = nextIndex++;
+      nextCallee[start] = calleeStarts[start];
+      sccStack[sccStackSize++] = start;
+      onStack[start] = true;
+
+      while (callStackSize > 0) {
+        int function = callStack[callStackSize - 1];
+        if (nextCallee[function] < calleeStarts[function + 1]) {
+          int callee = callees[nextCallee[function]++];
+          if (index[callee] < 0) {
+            index[callee] = lowLink[callee] = nextIndex++;
+            nextCallee[callee] = calleeStarts[callee];
+            sccStack[sccStackSize++] = callee;
+            onStack[callee] = true;
+            callStack[callStackSize++] = callee;
+          } else if (onStack[callee]) {
+            lowLink[function] = Math.min(lowLink[function], index[callee]);
+          }
+          continue;
+        }
+
+        callStackSize--;
+        if (callStackSize > 0) {
+          int caller = callStack[callStackSize - 1];
+          lowLink[caller] = Math.min(lowLink[caller], lowLink[function]);
+        }
+        if (lowLink[function] == index[function]) {
+          sccStarts[sccCount] = memberCount;
+          int first = memberCount;
+          @Var int member;
+          do {
+            member = sccStack[--sccStackSize];
+            onStack[member] = false;
+            functionSccs[member] = sccCount;
+            members[memberCount++] = member;
+          } while (member != function);
+          Arrays.sort(members, first, memberCount);
+          sccCount++;
+        }
+      }
+    }
+    sccStarts[sccCount] = memberCount;
+    return ImmutableIntArray.copyOf(members);
+  }
+
+  /** Returns the number of functions of the module, including declarations. */
+  public int getFunctionCount() {
+    return functions.size();
+  }
+
+  /** Returns the native address of the given function. */
+  public long getFunctionAddress(int pFunction) {
+    return functions.get(pFunction);
+  }
+
+  /** Returns the given function as {@link Function}. */
+  public Function getFunction(int pFunction) {
+    return WrapperTable.function(
+        wrappers, new LLVMLibrary.LLVMValueRef(new Pointer(functions.get(pFunction))));
+  }
+
+  /** Returns the id of the given function, or -1 if it is not a function of the module. */
+  public int getFunctionId(Value pFunction) {
+    checkNotNull(pFunction);
+    return functions.indexOf(pFunction.getAddress());
+  }
+
+  /** Returns the number of distinct functions that are called directly by the given function. */
+  public int getCalleeCount(int pFunction) {
+    checkElementIndex(pFunction, functions.size());
+    return calleeStarts[pFunction + 1] - calleeStarts[pFunction];
+  }
+
+  /**
+   * Returns the callee with the given index of the given function. Callees are ordered by their id.
+   */
+  public int getCallee(int pFunction, int pIndex) {
+    checkElementIndex(pIndex, getCalleeCount(pFunction));
+    return callees[calleeStarts[pFunction] + pIndex];
+  }
+
+  /** Returns the number of distinct functions that call the given function directly. */
+  public int getCallerCount(int pFunction) {
+    checkElementIndex(pFunction, functions.size());
+    return callerStarts[pFunction + 1] - callerStarts[pFunction];
+  }
+
+  /**
+   * Returns the caller with the given index of the given function. Callers are ordered by their id.
+   */
+  public int getCaller(int pFunction, int pIndex) {
+    checkElementIndex(pIndex, getCallerCount(pFunction));
+    return callers[callerStarts[pFunction] + pIndex];
+  }
+
+  /** Returns the number of call sites of the module. */
+  public int getCallSiteCount() {
+    return callSiteAddresses.length;
+  }
+
+  /** Returns the id of the first call site of the given function. */
+  public int getFirstCallSite(int pFunction) {
+    checkElementIndex(pFunction, functions.size());
+    return functionCallSiteStarts[pFunction];
+  }
+
+  /** Returns the id after the last call site of the given function. */
+  public int getCallSiteEnd(int pFunction) {
+    checkElementIndex(pFunction, functions.size());
+    return functionCallSiteStarts[pFunction + 1];
+  }
+
+  /** Returns the native address of the given call site. */
+  public long getCallSiteAddress(int pCallSite) {
+    checkElementIndex(pCallSite, callSiteAddresses.length);
+    return callSiteAddresses[pCallSite];
+  }
+
+  /** Returns the instruction of the given call site. */
+  public Value getCallSite(int pCallSite) {
+    return WrapperTable.value(wrappers, getCallSiteAddress(pCallSite));
+  }
+
+  /** Returns the function that contains the given call site. */
+  public int getCallSiteCaller(int pCallSite) {
+    checkElementIndex(pCallSite, callSiteAddresses.length);
+    // the call site ranges of all functions are sorted
+    @Var int low = 0;
+    @Var int high = functions.size() - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (functionCallSiteStarts[middle] <= pCallSite) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the function that is called by the given call site, or -1 if it is indirect. */
+  public int getCallSiteCallee(int pCallSite) {
+    checkElementIndex(pCallSite, callSiteAddresses.length);
+    return callSiteCallees[pCallSite];
+  }
+
+  /** Returns whether the callee of the given call site is not known statically. */
+  public boolean isIndirectCallSite(int pCallSite) {
+    return getCallSiteCallee(pCallSite) < 0;
+  }
+
+  /** Returns whether the given function contains an indirect call site. */
+  public boolean hasIndirectCalls(int pFunction) {
+    for (int site = getFirstCallSite(pFunction); site < getCallSiteEnd(pFunction); site++) {
+      if (callSiteCallees[site] < 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the number of strongly connected components of this graph. */
+  public int getSccCount() {
+    return sccCount;
+  }
+
+  /** Returns the strongly connected component of the given function. */
+  public int getScc(int pFunction) {
+    checkElementIndex(pFunction, functions.size());
+    return functionSccs[pFunction];
+  }
+
+  /** Returns the functions of the given strongly connected component in ascending order. */
+  public ImmutableIntArray getSccMembers(int pScc) {
+    checkElementIndex(pScc, sccCount);
+    return sccMembers.subArray(sccStarts[pScc], sccStarts[pScc + 1]);
+  }
+
+  /**
+   * Returns whether the functions of the given strongly connected component are recursive, i.e.,
+   * whether the component has more than one function or its function calls itself directly.
+   */
+  public boolean isRecursive(int pScc) {
+    ImmutableIntArray members = getSccMembers(pScc);
+    if (members.length() > 1) {
+      return true;
+    }
+    int function = members.get(0);
+    int end = calleeStarts[function + 1];
+    return Arrays.binarySearch(callees, calleeStarts[function], end, function) >= 0;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class CallGraphTest extends ModuleTestCase {
+
+  // main = 0, even = 1, odd = 2, ext = 3
+  private static final String CALLS =
+      "define i32 @main(void ()* %p) {\n"
+          + "entry:\n"
+          + "  %r = call i1 @even(i32 10)\n"
+          + "  call void bitcast (void (i32)* @ext to void ()*)()\n"
+          + "  call void %p()\n"
+          + "  ret i32 0\n"
+          + "}\n"
+          + "define i1 @even(i32 %n) {\n"
+          + "entry:\n"
+          + "  %r = call i1 @odd(i32 %n)\n"
+          + "  ret i1 %r\n"
+          + "}\n"
+          + "define i1 @odd(i32 %n) {\n"
+          + "entry:\n"
+          + "  %r = call i1 @even(i32 %n)\n"
+          + "  ret i1 %r\n"
+          + "}\n"
+          + "declare void @ext(i32)\n";
+
+  public CallGraphTest() {
+    super(CALLS);
+  }
+
+  @Test
+  public void test_create_callSites() {
+    CallGraph graph = CallGraph.create(module);
+
+    assertThat(graph.getFunctionCount()).isEqualTo(4);
+    assertThat(graph.getFunction(0)).isEqualTo(module.getFirstFunction());
+    assertThat(graph.getFunctionId(module.getLastFunction())).isEqualTo(3);
+
+    assertThat(graph.getCallSiteCount()).isEqualTo(5);
+    assertThat(graph.getFirstCallSite(0)).isEqualTo(0);
+    assertThat(graph.getCallSiteEnd(0)).isEqualTo(3);
+    assertThat(graph.getCallSiteCallee(0)).isEqualTo(1);
+    // the bitcast is stripped
+    assertThat(graph.getCallSiteCallee(1)).isEqualTo(3);
+    assertThat(graph.isIndirectCallSite(2)).isTrue();
+    assertThat(graph.getCallSiteCaller(2)).isEqualTo(0);
+    assertThat(graph.getCallSiteCaller(4)).isEqualTo(2);
+    assertThat(graph.hasIndirectCalls(0)).isTrue();
+    assertThat(graph.hasIndirectCalls(1)).isFalse();
+    assertThat(graph.getCallSite(0).isCallInst()).isTrue();
+
+    assertThat(graph.getCalleeCount(0)).isEqualTo(2);
+    assertThat(graph.getCallee(0, 0)).isEqualTo(1);
+    assertThat(graph.getCallee(0, 1)).isEqualTo(3);
+    assertThat(graph.getCallerCount(1)).isEqualTo(2);
+    assertThat(graph.getCallerCount(3)).isEqualTo(1);
+  }
+
+  @Test
+  public void test_create_sccsBottomUp() {
+    CallGraph graph = CallGraph.create(module);
+
+    assertThat(graph.getSccCount()).isEqualTo(3);
+    int recursive = graph.getScc(1);
+    assertThat(graph.getScc(2)).isEqualTo(recursive);
+    assertThat(graph.getSccMembers(recursive).asList()).containsExactly(1, 2).inOrder();
+    assertThat(graph.isRecursive(recursive)).isTrue();
+    assertThat(graph.isRecursive(graph.getScc(0))).isFalse();
+
+    // callees come first
+    assertThat(graph.getScc(0)).isEqualTo(2);
+    assertThat(graph.getScc(3)).isLessThan(graph.getScc(0));
+  }
+}
@@ -29,7 +29,9 @@
 
 package org.sosy_lab.llvm_j;
 
+import com.sun.jna.Pointer;
 import java.io.Closeable;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 
 /**
@@ -40,12 +42,88 @@ import org.sosy_lab.llvm_j.binding.LLVMLibrary;
  */
 public final class Context implements Closeable {
 
+  /**
+   * Diagnostic handler that records the most severe diagnostic reported by LLVM. Without a
+   * handler, LLVM prints diagnostics to stderr and terminates the process on errors.
+   */
+  static final class DiagnosticCollector implements LLVMLibrary.LLVMDiagnosticHandler {
+
+    private LLVMException.@Nullable Severity severity;
+    private @Nullable String description;
+
+    @Override
+    public void apply(Pointer pDiagnosticInfo) {
+      LLVMLibrary.LLVMDiagnosticInfoRef info =
+          new LLVMLibrary.LLVMDiagnosticInfoRef(pDiagnosticInfo);
+      LLVMException.Severity newSeverity =
+          toSeverity(CoreNatives.LLVMGetDiagInfoSeverity(info));
+      if (severity == null || newSeverity.compareTo(severity) < 0) {
+        severity = newSeverity;
+        description = Utils.takeMessage(CoreNatives.LLVMGetDiagInfoDescription(info));
+      }
+    }
+
+    void clear() {
+      severity = null;
+      description = null;
+    }
+
+    private static LLVMException.Severity toSeverity(int pSeverity) {
+      switch (pSeverity) {
+        case LLVMLibrary.LLVMDiagnosticSeverity.LLVMDSError:
+          return LLVMException.Severity.ERROR;
+        case LLVMLibrary.LLVMDiagnosticSeverity.LLVMDSWarning:
+          return LLVMException.Severity.WARNING;
+        case LLVMLibrary.LLVMDiagnosticSeverity.LLVMDSRemark:
+          return LLVMException.Severity.REMARK;
+        case LLVMLibrary.LLVMDiagnosticSeverity.LLVMDSNote:
+          return LLVMException.Severity.NOTE;
+        default:
+          throw new AssertionError("Unhandled diagnostic severity " + pSeverity);
+      }
+    }
+
+    /**
+     * Creates an exception with the given message, extended by the most severe diagnostic recorded
+     * so far, if any.
+     */
+    LLVMException toException(String pMessage) {
+      if (severity == null) {
+        return new LLVMException(pMessage);
+      }
+      return new LLVMException(pMessage + ". " + description, severity);
+    }
+  }
+
   private LLVMLibrary.LLVMContextRef context;
 
+  // kept here so that the native callback is not garbage collected while it is installed
+  private @Nullable DiagnosticCollector diagnostics;
+
   LLVMLibrary.LLVMContextRef context() {
     return context;
   }
 
+  /**
+   * Installs an empty {@link DiagnosticCollector} as diagnostic handler of this context. Every call
+   * has to be paired with a call to {@link #stopCollectingDiagnostics()}.
+   */
+  DiagnosticCollector collectDiagnostics() {
+    if (diagnostics == null) {
+      // created only once per context, because each callback object allocates a native stub
+      diagnostics = new DiagnosticCollector();
+    } else {
+      diagnostics.clear();
+    }
+    CoreNatives.LLVMContextSetDiagnosticHandler(context, diagnostics, Pointer.NULL);
+    return diagnostics;
+  }
+
+  /** Restores the default diagnostic handler of this context. */
+  void stopCollectingDiagnostics() {
+    CoreNatives.LLVMContextSetDiagnosticHandler(context, null, Pointer.NULL);
+  }
+
   private Context(LLVMLibrary.LLVMContextRef context) {
     this.context = context;
   }
@@ -59,8 +137,8 @@ public final class Context implements Closeable {
    * <p>It is advised to use the try-with syntax.
    */
   public static Context create() {
-    LLVMLibrary.instantiate();
-    return new Context(LLVMLibrary.LLVMContextCreate());
+    Utils.instantiateLibrary();
+    return new Context(CoreNatives.LLVMContextCreate());
   }
 
   /**
@@ -70,7 +148,8 @@ public final class Context implements Closeable {
    * will leak memory.
    */
   public static Context getGlobalContext() {
-    return new Context(LLVMLibrary.LLVMGetGlobalContext());
+    Utils.instantiateLibrary();
+    return new Context(CoreNatives.LLVMGetGlobalContext());
   }
 
   /**
@@ -80,7 +159,7 @@ public final class Context implements Closeable {
    * will leak memory.
    */
   public static Context getModuleContext(Module m) {
-    return new Context(LLVMLibrary.LLVMGetModuleContext(m.getModule()));
+    return new Context(CoreNatives.LLVMGetModuleContext(m.getModule()));
   }
 
   /**
@@ -90,7 +169,7 @@ public final class Context implements Closeable {
    * will leak memory.
    */
   public static Context getTypeContext(TypeRef pType) {
-    return new Context(LLVMLibrary.LLVMGetTypeContext(pType.type()));
+    return new Context(CoreNatives.LLVMGetTypeContext(pType.type()));
   }
 
   /**
@@ -100,7 +179,7 @@ public final class Context implements Closeable {
   @Override
   public void close() {
     if (context != null) {
-      LLVMLibrary.LLVMContextDispose(context);
+      CoreNatives.LLVMContextDispose(context);
     }
     context = null;
   }
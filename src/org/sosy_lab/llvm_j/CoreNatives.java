@@ -0,0 +1,189 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import java.nio.IntBuffer;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+import org.sosy_lab.llvm_j.binding.ext.NativeSizeByReference;
+
+/**
+ * Native methods of the LLVM core API (contexts, modules, values, types, metadata, target data)
+ * that the classes of this package use. They are registered when this class is first used, which
+ * resolves far fewer symbols than {@link LLVMLibrary#instantiate()}.
+ *
+ * @see Utils#instantiateLibrary()
+ */
+final class CoreNatives {
+
+  static {
+    Native.register(CoreNatives.class, LLVMLibrary.JNA_NATIVE_LIB);
+  }
+
+  private CoreNatives() {}
+
+  static native int LLVMABIAlignmentOfType(
+      LLVMLibrary.LLVMTargetDataRef pTargetData, LLVMLibrary.LLVMTypeRef pType);
+
+  static native long LLVMABISizeOfType(
+      LLVMLibrary.LLVMTargetDataRef pTargetData, LLVMLibrary.LLVMTypeRef pType);
+
+  static native LLVMLibrary.LLVMValueRef LLVMAddAlias(
+      LLVMLibrary.LLVMModuleRef pModule,
+      LLVMLibrary.LLVMTypeRef pType,
+      LLVMLibrary.LLVMValueRef pAliasee,
+      String pName);
+
+  static native LLVMLibrary.LLVMValueRef LLVMAlignOf(LLVMLibrary.LLVMTypeRef pType);
+
+  static native LLVMLibrary.LLVMValueRef LLVMBlockAddress(
+      LLVMLibrary.LLVMValueRef pFunction, LLVMLibrary.LLVMBasicBlockRef pBlock);
+
+  static native LLVMLibrary.LLVMModuleRef LLVMCloneModule(LLVMLibrary.LLVMModuleRef pModule);
+
+  static native LLVMLibrary.LLVMValueRef LLVMConstExtractValue(
+      LLVMLibrary.LLVMValueRef pAggregate, IntBuffer pIndices, int pNumIndices);
+
+  static native double LLVMConstRealGetDouble(
+      LLVMLibrary.LLVMValueRef pConstant, LLVMLibrary.LLVMBool pLosesInfo);
+
+  static native LLVMLibrary.LLVMContextRef LLVMContextCreate();
+
+  static native void LLVMContextDispose(LLVMLibrary.LLVMContextRef pContext);
+
+  static native void LLVMContextSetDiagnosticHandler(
+      LLVMLibrary.LLVMContextRef pContext,
+      LLVMLibrary.LLVMDiagnosticHandler pHandler,
+      Pointer pDiagnosticContext);
+
+  static native LLVMLibrary.LLVMTargetDataRef LLVMCreateTargetData(String pStringRep);
+
+  static native void LLVMDeleteFunction(LLVMLibrary.LLVMValueRef pFunction);
+
+  static native void LLVMDisposeMessage(Pointer pMessage);
+
+  static native void LLVMDisposeModule(LLVMLibrary.LLVMModuleRef pModule);
+
+  static native void LLVMDisposeTargetData(LLVMLibrary.LLVMTargetDataRef pTargetData);
+
+  static native String LLVMGetAsString(
+      LLVMLibrary.LLVMValueRef pConstant, NativeSizeByReference pLength);
+
+  static native void LLVMGetBasicBlocks(
+      LLVMLibrary.LLVMValueRef pFunction, LLVMLibrary.LLVMBasicBlockRef pBlocks);
+
+  static native String LLVMGetDataLayout(LLVMLibrary.LLVMModuleRef pModule);
+
+  static native Pointer LLVMGetDiagInfoDescription(LLVMLibrary.LLVMDiagnosticInfoRef pInfo);
+
+  static native int LLVMGetDiagInfoSeverity(LLVMLibrary.LLVMDiagnosticInfoRef pInfo);
+
+  static native LLVMLibrary.LLVMValueRef LLVMGetElementAsConstant(
+      LLVMLibrary.LLVMValueRef pContext, int pIndex);
+
+  static native String LLVMGetGC(LLVMLibrary.LLVMValueRef pFunction);
+
+  static native LLVMLibrary.LLVMContextRef LLVMGetGlobalContext();
+
+  static native LLVMLibrary.LLVMModuleRef LLVMGetGlobalParent(LLVMLibrary.LLVMValueRef pGlobal);
+
+  static native Pointer LLVMGetIndices(LLVMLibrary.LLVMValueRef pInstruction);
+
+  static native int LLVMGetIntrinsicID(LLVMLibrary.LLVMValueRef pFunction);
+
+  static native LLVMLibrary.LLVMValueRef LLVMGetMetadata(
+      LLVMLibrary.LLVMValueRef pValue, int pKindId);
+
+  static native LLVMLibrary.LLVMContextRef LLVMGetModuleContext(LLVMLibrary.LLVMModuleRef pModule);
+
+  static native LLVMLibrary.LLVMValueRef LLVMGetNamedFunction(
+      LLVMLibrary.LLVMModuleRef pModule, String pName);
+
+  static native LLVMLibrary.LLVMValueRef LLVMGetNamedGlobal(
+      LLVMLibrary.LLVMModuleRef pModule, String pName);
+
+  static native int LLVMGetNumIndices(LLVMLibrary.LLVMValueRef pInstruction);
+
+  static native void LLVMGetParamTypes(
+      LLVMLibrary.LLVMTypeRef pFunctionType, LLVMLibrary.LLVMTypeRef pDest);
+
+  static native void LLVMGetParams(
+      LLVMLibrary.LLVMValueRef pFunction, LLVMLibrary.LLVMValueRef pParams);
+
+  static native String LLVMGetSection(LLVMLibrary.LLVMValueRef pGlobal);
+
+  static native void LLVMGetStructElementTypes(
+      LLVMLibrary.LLVMTypeRef pStructType, LLVMLibrary.LLVMTypeRef pDest);
+
+  static native String LLVMGetStructName(LLVMLibrary.LLVMTypeRef pType);
+
+  static native String LLVMGetTarget(LLVMLibrary.LLVMModuleRef pModule);
+
+  static native LLVMLibrary.LLVMTypeRef LLVMGetTypeByName(
+      LLVMLibrary.LLVMModuleRef pModule, String pName);
+
+  static native LLVMLibrary.LLVMContextRef LLVMGetTypeContext(LLVMLibrary.LLVMTypeRef pType);
+
+  static native LLVMLibrary.LLVMValueRef LLVMGetUsedValue(LLVMLibrary.LLVMUseRef pUse);
+
+  static native LLVMLibrary.LLVMValueRef LLVMGetUser(LLVMLibrary.LLVMUseRef pUse);
+
+  static native int LLVMHasMetadata(LLVMLibrary.LLVMValueRef pValue);
+
+  static native LLVMLibrary.LLVMModuleRef LLVMModuleCreateWithName(String pModuleId);
+
+  static native LLVMLibrary.LLVMModuleRef LLVMModuleCreateWithNameInContext(
+      String pModuleId, LLVMLibrary.LLVMContextRef pContext);
+
+  static native long LLVMOffsetOfElement(
+      LLVMLibrary.LLVMTargetDataRef pTargetData, LLVMLibrary.LLVMTypeRef pStructType, int pElement);
+
+  static native int LLVMPointerSize(LLVMLibrary.LLVMTargetDataRef pTargetData);
+
+  static native Pointer LLVMPrintModuleToString(LLVMLibrary.LLVMModuleRef pModule);
+
+  static native Pointer LLVMPrintTypeToString(LLVMLibrary.LLVMTypeRef pValue);
+
+  static native Pointer LLVMPrintValueToString(LLVMLibrary.LLVMValueRef pValue);
+
+  static native void LLVMSetMetadata(
+      LLVMLibrary.LLVMValueRef pValue, int pKindId, LLVMLibrary.LLVMValueRef pNode);
+
+  static native void LLVMSetOperand(
+      LLVMLibrary.LLVMValueRef pUser, int pIndex, LLVMLibrary.LLVMValueRef pValue);
+
+  static native LLVMLibrary.LLVMValueRef LLVMSizeOf(LLVMLibrary.LLVMTypeRef pType);
+
+  static native LLVMLibrary.LLVMBool LLVMStartMultithreaded();
+
+  static native long LLVMStoreSizeOfType(
+      LLVMLibrary.LLVMTargetDataRef pTargetData, LLVMLibrary.LLVMTypeRef pType);
+
+  static native LLVMLibrary.LLVMBool LLVMTypeIsSized(LLVMLibrary.LLVMTypeRef pType);
+}
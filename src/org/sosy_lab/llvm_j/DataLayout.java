@@ -0,0 +1,179 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.sosy_lab.llvm_j.Utils.checkLlvmState;
+
+import com.google.common.primitives.ImmutableLongArray;
+import com.google.errorprone.annotations.Var;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * Sizes, alignments and struct layouts of types, as defined by the data layout of a {@link
+ * Module}.
+ *
+ * <p>Instances are obtained from {@link Module#getTargetDataLayout()} and are owned by their
+ * module, so they must not be used after the module is closed. All results are computed on first
+ * request for a type and then kept, so repeated queries do not call into LLVM. This class is not
+ * thread-safe.
+ */
+public final class DataLayout {
+
+  private LLVMLibrary.@Nullable LLVMTargetDataRef targetData;
+
+  /** Cached layouts by type address, created on first use. */
+  private final LongObjectMap<TypeLayout> layouts = new LongObjectMap<>();
+
+  private static final class TypeLayout {
+    private final long abiSize;
+    private final long storeSize;
+    private final int abiAlignment;
+    private @Nullable ImmutableLongArray elementOffsets;
+
+    private TypeLayout(long pAbiSize, long pStoreSize, int pAbiAlignment) {
+      abiSize = pAbiSize;
+      storeSize = pStoreSize;
+      abiAlignment = pAbiAlignment;
+    }
+  }
+
+  DataLayout(LLVMLibrary.LLVMTargetDataRef pTargetData) {
+    targetData = pTargetData;
+  }
+
+  private LLVMLibrary.LLVMTargetDataRef targetData() {
+    LLVMLibrary.LLVMTargetDataRef result = targetData;
+    checkLlvmState(result != null, "Data layout is already closed");
+    return result;
+  }
+
+  private TypeLayout layoutOf(TypeRef pType) {
+    checkNotNull(pType);
+    long address = AddressBinding.addressOf(pType.type());
+    @Var TypeLayout result = layouts.get(address);
+    if (result == null) {
+      LLVMLibrary.LLVMTargetDataRef td = targetData();
+      checkArgument(
+          Utils.llvmBoolToJavaBool(CoreNatives.LLVMTypeIsSized(pType.type())),
+          "Type has no size: %s",
+          pType);
+      result =
+          new TypeLayout(
+              CoreNatives.LLVMABISizeOfType(td, pType.type()),
+              CoreNatives.LLVMStoreSizeOfType(td, pType.type()),
+              CoreNatives.LLVMABIAlignmentOfType(td, pType.type()));
+      layouts.put(address, result);
+    }
+    return result;
+  }
+
+  /** Returns the size of a pointer in the default address space, in bytes. */
+  public int getPointerSize() {
+    return CoreNatives.LLVMPointerSize(targetData());
+  }
+
+  /**
+   * Returns the number of bytes between the start of two consecutive values of the given type,
+   * including padding, e.g., in an array.
+   *
+   * @throws IllegalArgumentException if the type has no size, e.g., an opaque struct
+   */
+  public long getAbiSize(TypeRef pType) {
+    return layoutOf(pType).abiSize;
+  }
+
+  /**
+   * Returns the maximum number of bytes that may be overwritten by storing a value of the given
+   * type.
+   *
+   * @throws IllegalArgumentException if the type has no size, e.g., an opaque struct
+   */
+  public long getStoreSize(TypeRef pType) {
+    return layoutOf(pType).storeSize;
+  }
+
+  /**
+   * Returns the minimum alignment of the given type required by the ABI, in bytes.
+   *
+   * @throws IllegalArgumentException if the type has no size, e.g., an opaque struct
+   */
+  public int getAbiAlignment(TypeRef pType) {
+    return layoutOf(pType).abiAlignment;
+  }
+
+  /**
+   * Returns the offsets of all elements of the given struct type from the start of the struct, in
+   * bytes, ordered by element index.
+   *
+   * @throws IllegalStateException if the type is not a struct
+   * @throws IllegalArgumentException if the type has no size, e.g., an opaque struct
+   */
+  public ImmutableLongArray getElementOffsets(TypeRef pType) {
+    TypeLayout layout = layoutOf(pType);
+    @Var ImmutableLongArray result = layout.elementOffsets;
+    if (result == null) {
+      checkLlvmState(
+          pType.getTypeKind().equals(TypeRef.TypeKind.Struct), "Type is not a struct: %s", pType);
+      LLVMLibrary.LLVMTargetDataRef td = targetData();
+      int count = pType.countStructElementTypes();
+      ImmutableLongArray.Builder offsets = ImmutableLongArray.builder(count);
+      for (int i = 0; i < count; i++) {
+        offsets.add(CoreNatives.LLVMOffsetOfElement(td, pType.type(), i));
+      }
+      result = offsets.build();
+      layout.elementOffsets = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the offset of the element with the given index from the start of the given struct
+   * type, in bytes.
+   *
+   * @throws IllegalStateException if the type is not a struct
+   * @throws IllegalArgumentException if the type has no size, e.g., an opaque struct
+   * @throws IndexOutOfBoundsException if the struct has no element with the given index
+   */
+  public long getOffsetOfElement(TypeRef pType, int pIndex) {
+    ImmutableLongArray offsets = getElementOffsets(pType);
+    checkElementIndex(pIndex, offsets.length());
+    return offsets.get(pIndex);
+  }
+
+  /** Disposes of the target data. Called by the owning {@link Module} when it is closed. */
+  void close() {
+    if (targetData != null) {
+      CoreNatives.LLVMDisposeTargetData(targetData);
+      targetData = null;
+    }
+  }
+}
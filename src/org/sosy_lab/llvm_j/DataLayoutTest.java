@@ -0,0 +1,92 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+public class DataLayoutTest extends ModuleTestCase {
+
+  private static final String IR =
+      "target datalayout = \"e-m:e-i64:64-f80:128-n8:16:32:64-S128\"\n"
+          + "%pair = type { i8, i32, i64 }\n"
+          + "%opaque = type opaque\n"
+          + "@p = global %pair zeroinitializer\n"
+          + "@o = external global %opaque\n"
+          + "@c = global i24 0\n";
+
+  public DataLayoutTest() {
+    super(IR);
+  }
+
+  private TypeRef globalType(String pName) {
+    return module.getNamedGlobal(pName).typeOf().getElementType();
+  }
+
+  @Test
+  public void test_sizes() {
+    DataLayout layout = module.getTargetDataLayout();
+    TypeRef pair = globalType("p");
+    TypeRef i24 = globalType("c");
+
+    assertThat(layout.getPointerSize()).isEqualTo(8);
+    assertThat(layout.getAbiSize(pair)).isEqualTo(16);
+    assertThat(layout.getStoreSize(pair)).isEqualTo(16);
+    assertThat(layout.getAbiAlignment(pair)).isEqualTo(8);
+    assertThat(layout.getAbiSize(i24)).isEqualTo(4);
+    assertThat(layout.getStoreSize(i24)).isEqualTo(3);
+  }
+
+  @Test
+  public void test_elementOffsets() {
+    DataLayout layout = module.getTargetDataLayout();
+    TypeRef pair = globalType("p");
+
+    assertThat(layout.getElementOffsets(pair).asList()).containsExactly(0L, 4L, 8L).inOrder();
+    assertThat(layout.getOffsetOfElement(pair, 2)).isEqualTo(8);
+    assertThat(layout.getElementOffsets(pair)).isSameInstanceAs(layout.getElementOffsets(pair));
+    assertThrows(IndexOutOfBoundsException.class, () -> layout.getOffsetOfElement(pair, 3));
+    assertThrows(IllegalStateException.class, () -> layout.getElementOffsets(globalType("c")));
+  }
+
+  @Test
+  public void test_unsized() {
+    DataLayout layout = module.getTargetDataLayout();
+
+    assertThrows(IllegalArgumentException.class, () -> layout.getAbiSize(globalType("o")));
+  }
+
+  @Test
+  public void test_ownedByModule() {
+    DataLayout layout = module.getTargetDataLayout();
+
+    assertThat(module.getTargetDataLayout()).isSameInstanceAs(layout);
+  }
+}
@@ -0,0 +1,401 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+
+/**
+ * Immutable dominator or post-dominator tree of the basic blocks of a function, together with the
+ * dominance frontiers of all blocks. Blocks are identified by their ids in the {@link FunctionCfg}
+ * the tree was computed from.
+ *
+ * <p>The tree is computed with the iterative algorithm of Cooper, Harvey and Kennedy ("A Simple,
+ * Fast Dominance Algorithm"). For post-dominators, the algorithm runs on the reversed graph, in
+ * which all {@link FunctionCfg#getExitBlocks() exit blocks} are connected to a virtual exit node.
+ * Thus, the post-dominator tree may have several roots, namely the blocks that are immediately
+ * post-dominated by the virtual exit.
+ *
+ * <p>Blocks that are not reachable from a root, i.e., unreachable blocks for dominators and blocks
+ * that can not reach an exit for post-dominators, are not part of the tree.
+ *
+ * @see FunctionAnalyses
+ */
+public final class DominatorTree {
+
+  private final boolean post;
+
+  private final int[] immediateDominators; // -1 for roots and blocks not in the tree
+  private final ImmutableIntArray roots;
+
+  private final int[] childStarts; // length + 1
+  private final int[] children;
+
+  // preorder numbers and the end of the preorder interval of the subtree, -1 if not in the tree
+  private final int[] preorder;
+  private final int[] subtreeEnds;
+
+  private final int[] frontierStarts; // length + 1
+  private final ImmutableIntArray frontiers;
+
+  private DominatorTree(FunctionCfg pCfg, boolean pPost) {
+    post = pPost;
+    int blockCount = pCfg.getBlockCount();
+    int[] idoms = computeImmediateDominators(pCfg, pPost);
+
+    immediateDominators = new int[blockCount];
+    ImmutableIntArray.Builder rootList = ImmutableIntArray.builder();
+    childStarts = new int[blockCount + 1];
+    for (int block = 0; block < blockCount; block++) {
+      int parent = idoms[block];
+      if (parent == blockCount) {
+        immediateDominators[block] = -1;
+        rootList.add(block);
+      } else {
+        immediateDominators[block] = parent;
+        if (parent >= 0) {
+          childStarts[parent + 1]++;
+        }
+      }
+    }
+    roots = rootList.build();
+    for (int block = 0; block < blockCount; block++) {
+      childStarts[block + 1] += childStarts[block];
+    }
+    children = new int[childStarts[blockCount]];
+    int[] next = Arrays.copyOf(childStarts, blockCount);
+    for (int block = 0; block < blockCount; block++) {
+      int parent = immediateDominators[block];
+      if (parent >= 0) {
+        children[next[parent]++] = block;
+      }
+    }
+
+    preorder = new int[blockCount];
+    subtreeEnds = new int[blockCount];
+    computePreorder();
+
+    frontierStarts = new int[blockCount + 1];
+    frontiers = computeFrontiers(pCfg, idoms);
+  }
+
+  /** Computes the dominator tree of the given control-flow graph. */
+  public static DominatorTree dominators(FunctionCfg pCfg) {
+    checkNotNull(pCfg);
+    return new DominatorTree(pCfg, false);
+  }
+
+  /** Computes the post-dominator tree of the given control-flow graph. */
+  public static DominatorTree postDominators(FunctionCfg pCfg) {
+    checkNotNull(pCfg);
+    return new DominatorTree(pCfg, true);
+  }
+
+  // Edges in the direction of the analysis: successors for dominators, predecessors for
+  // post-dominators. The virtual root has the id blockCount and is only used during construction.
+
+  private static int getForwardCount(FunctionCfg pCfg, boolean pPost, int pBlock) {
+    return pPost ? pCfg.getPredecessorCount(pBlock) : pCfg.getSuccessorCount(pBlock);
+  }
+
+  private static int getForward(FunctionCfg pCfg, boolean pPost, int pBlock, int pIndex) {
+    return pPost ? pCfg.getPredecessor(pBlock, pIndex) : pCfg.getSuccessor(pBlock, pIndex);
+  }
+
+  private static int getBackwardCount(FunctionCfg pCfg, boolean pPost, int pBlock) {
+    return getForwardCount(pCfg, !pPost, pBlock);
+  }
+
+  private static int getBackward(FunctionCfg pCfg, boolean pPost, int pBlock, int pIndex) {
+    return getForward(pCfg, !pPost, pBlock, pIndex);
+  }
+
+  /** Returns whether the given block is a successor of the virtual root. */
+  private static boolean isStart(FunctionCfg pCfg, boolean pPost, int pBlock) {
+    return pPost ? pCfg.getSuccessorCount(pBlock) == 0 : pBlock == pCfg.getEntryBlock();
+  }
+
+  /**
+   * Computes the immediate dominator of each block and of the virtual root, which has the id
+   * blockCount and dominates itself. Blocks that are not reachable from the virtual root have -1.
+   */
+  private static int[] computeImmediateDominators(FunctionCfg pCfg, boolean pPost) {
+    int blockCount = pCfg.getBlockCount();
+    int root = blockCount;
+
+    // postorder numbers of the depth-first search from the virtual root, -1 if not reached
+    int[] postorder = new int[blockCount + 1];
+    Arrays.fill(postorder, -1);
+    int[] order = new int[blockCount + 1]; // blocks by postorder number
+    @Var int orderSize = 0;
+
+    int[] stack = new int[blockCount + 1];
+    int[] nextEdge = new int[blockCount + 1];
+    boolean[] visited = new boolean[blockCount + 1];
+    @Var int stackSize = 0;
+    stack[stackSize++] = root;
+    visited[root] = true;
+    while (stackSize > 0) {
+      int block = stack[stackSize - 1];
+      @Var int successor = -1;
+      if (block == root) {
+        // the successors of the virtual root are the start blocks
+        while (successor < 0 && nextEdge[root] < blockCount) {
+          int candidate = nextEdge[root]++;
+          if (isStart(pCfg, pPost, candidate) && !visited[candidate]) {
+            successor = candidate;
+          }
+        }
+      } else {
+        while (successor < 0 && nextEdge[block] < getForwardCount(pCfg, pPost, block)) {
+          int candidate = getForward(pCfg, pPost, block, nextEdge[block]++);
+          if (!visited[candidate]) {
+            successor = candidate;
+          }
+        }
+      }
+      if (successor >= 0) {
+        visited[successor] = true;
+        stack[stackSize++] = successor;
+      } else {
+        stackSize--;
+        postorder[block] = orderSize;
+        order[orderSize++] = block;
+      }
+    }
+
+    int[] idoms = new int[blockCount + 1];
+    Arrays.fill(idoms, -1);
+    idoms[root] = root;
+    @Var boolean changed = true;
+    while (changed) {
+      changed = false;
+      // reverse postorder, without the virtual root, which comes first
+      for (int i = orderSize - 2; i >= 0; i--) {
+        int block = order[i];
+        @Var int newIdom = isStart(pCfg, pPost, block) ? root : -1;
+        int count = getBackwardCount(pCfg, pPost, block);
+        for (int j = 0; j < count; j++) {
+          int predecessor = getBackward(pCfg, pPost, block, j);
+          if (idoms[predecessor] >= 0) {
+            newIdom = newIdom < 0 ? predecessor : intersect(idoms, postorder, predecessor, newIdom);
+          }
+        }
+        if (idoms[block] != newIdom) {
+          idoms[block] = newIdom;
+          changed = true;
+        }
+      }
+    }
+
+    return idoms;
+  }
+
+  private static int intersect(int[] pIdoms, int[] pPostorder, int pFirst, int pSecond) {
+    @Var int first = pFirst;
+    @Var int second = pSecond;
+    while (first != second) {
+      while (pPostorder[first] < pPostorder[second]) {
+        first = pIdoms[first];
+      }
+      while (pPostorder[second] < pPostorder[first]) {
+        second = pIdoms[second];
+      }
+    }
+    return first;
+  }
+
+  /** Numbers the blocks of the tree in preorder with an iterative depth-first search. */
+  private void computePreorder() {
+    Arrays.fill(preorder, -1);
+    Arrays.fill(subtreeEnds, -1);
+    int[] stack = new int[preorder.length];
+    int[] nextChild = new int[preorder.length];
+    @Var int counter = 0;
+    for (int i = 0; i < roots.length(); i++) {
+      @Var int stackSize = 0;
+      int root = roots.get(i);
+      stack[stackSize++] = root;
+      preorder[root] = counter++;
+      nextChild[root] = childStarts[root];
+      while (stackSize > 0) {
+        int block = stack[stackSize - 1];
+        if (nextChild[block] < childStarts[block + 1]) {
+          int child = children[nextChild[block]++];
+          preorder[child] = counter++;
+          nextChild[child] = childStarts[child];
+          stack[stackSize++] = child;
+        } else {
+          subtreeEnds[block] = counter;
+          stackSize--;
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes the dominance frontiers of all blocks and fills {@link #frontierStarts}. A block is in
+   * the frontier of each block on the paths from its predecessors up to, but excluding, its
+   * immediate dominator in the tree.
+   */
+  private ImmutableIntArray computeFrontiers(FunctionCfg pCfg, int[] pIdoms) {
+    int blockCount = pCfg.getBlockCount();
+    int root = blockCount;
+
+    // pairs of frontier owner and frontier block, unsorted
+    @Var int[] owners = new int[blockCount];
+    @Var int[] members = new int[blockCount];
+    @Var int pairCount = 0;
+    int[] lastAdded = new int[blockCount];
+    Arrays.fill(lastAdded, -1);
+
+    for (int block = 0; block < blockCount; block++) {
+      if (pIdoms[block] < 0) {
+        continue; // not in the tree
+      }
+      @Var int joinCount = isStart(pCfg, post, block) ? 1 : 0;
+      int count = getBackwardCount(pCfg, post, block);
+      for (int j = 0; j < count; j++) {
+        if (pIdoms[getBackward(pCfg, post, block, j)] >= 0) {
+          joinCount++;
+        }
+      }
+      if (joinCount < 2) {
+        continue;
+      }
+      for (int j = 0; j < count; j++) {
+        @Var int runner = getBackward(pCfg, post, block, j);
+        if (pIdoms[runner] < 0) {
+          continue;
+        }
+        while (runner != pIdoms[block] && runner != root) {
+          if (lastAdded[runner] != block) {
+            lastAdded[runner] = block;
+            if (pairCount == owners.length) {
+              owners = Arrays.copyOf(owners, 2 * pairCount);
+              members = Arrays.copyOf(members, 2 * pairCount);
+            }
+            owners[pairCount] = runner;
+            members[pairCount] = block;
+            pairCount++;
+          }
+          runner = pIdoms[runner];
+        }
+      }
+    }
+
+    // group by owner; members of each owner are added in ascending order
+    for (int i = 0; i < pairCount; i++) {
+      frontierStarts[owners[i] + 1]++;
+    }
+    for (int block = 0; block < blockCount; block++) {
+      frontierStarts[block + 1] += frontierStarts[block];
+    }
+    int[] result = new int[pairCount];
+    int[] next = Arrays.copyOf(frontierStarts, blockCount);
+    for (int i = 0; i < pairCount; i++) {
+      result[next[owners[i]]++] = members[i];
+    }
+    return ImmutableIntArray.copyOf(result);
+  }
+
+  /** Returns whether this is a post-dominator tree. */
+  public boolean isPostDominatorTree() {
+    return post;
+  }
+
+  /** Returns the number of blocks of the function, including those that are not in the tree. */
+  public int getBlockCount() {
+    return immediateDominators.length;
+  }
+
+  /**
+   * Returns the roots of this tree in ascending order. A dominator tree has the entry block as only
+   * root, a post-dominator tree may have several.
+   */
+  public ImmutableIntArray getRoots() {
+    return roots;
+  }
+
+  /** Returns whether the given block is part of this tree. */
+  public boolean contains(int pBlock) {
+    checkElementIndex(pBlock, getBlockCount());
+    return preorder[pBlock] >= 0;
+  }
+
+  /**
+   * Returns the immediate dominator of the given block, or -1 if the block is a root or not part of
+   * this tree.
+   */
+  public int getImmediateDominator(int pBlock) {
+    checkElementIndex(pBlock, getBlockCount());
+    return immediateDominators[pBlock];
+  }
+
+  /** Returns the number of blocks that are immediately dominated by the given block. */
+  public int getChildCount(int pBlock) {
+    checkElementIndex(pBlock, getBlockCount());
+    return childStarts[pBlock + 1] - childStarts[pBlock];
+  }
+
+  /** Returns the child with the given index of the given block. Children are ordered by id. */
+  public int getChild(int pBlock, int pIndex) {
+    checkElementIndex(pIndex, getChildCount(pBlock));
+    return children[childStarts[pBlock] + pIndex];
+  }
+
+  /**
+   * Returns whether the first block dominates the second block. Every block of the tree dominates
+   * itself. Returns false if one of the blocks is not part of this tree. Runs in constant time.
+   */
+  public boolean dominates(int pDominator, int pBlock) {
+    if (!contains(pDominator) || !contains(pBlock)) {
+      return false;
+    }
+    return preorder[pDominator] <= preorder[pBlock] && preorder[pBlock] < subtreeEnds[pDominator];
+  }
+
+  /** Returns whether the first block dominates the second block, and they are different. */
+  public boolean strictlyDominates(int pDominator, int pBlock) {
+    return pDominator != pBlock && dominates(pDominator, pBlock);
+  }
+
+  /**
+   * Returns the dominance frontier of the given block in ascending order. For a post-dominator
+   * tree, this is the reverse dominance frontier, i.e., the blocks the given block is control
+   * dependent on.
+   */
+  public ImmutableIntArray getDominanceFrontier(int pBlock) {
+    checkElementIndex(pBlock, getBlockCount());
+    return frontiers.subArray(frontierStarts[pBlock], frontierStarts[pBlock + 1]);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class DominatorTreeTest extends ModuleTestCase {
+
+  // entry = 0, a = 1, b = 2, join = 3, fail = 4
+  private static final String DIAMOND =
+      "define i32 @f(i1 %c, i1 %d) {\n"
+          + "entry:\n"
+          + "  br i1 %c, label %a, label %b\n"
+          + "a:\n"
+          + "  br label %join\n"
+          + "b:\n"
+          + "  br i1 %d, label %join, label %fail\n"
+          + "join:\n"
+          + "  %x = phi i32 [ 1, %a ], [ 2, %b ]\n"
+          + "  ret i32 %x\n"
+          + "fail:\n"
+          + "  unreachable\n"
+          + "}\n";
+
+  public DominatorTreeTest() {
+    super(DIAMOND);
+  }
+
+  @Test
+  public void test_dominators() {
+    DominatorTree tree =
+        module.getAnalyses(module.getFirstFunction().asFunction()).getDominatorTree();
+
+    assertThat(tree.isPostDominatorTree()).isFalse();
+    assertThat(tree.getRoots().asList()).containsExactly(0);
+    assertThat(tree.getImmediateDominator(0)).isEqualTo(-1);
+    assertThat(tree.getImmediateDominator(3)).isEqualTo(0);
+    assertThat(tree.getImmediateDominator(4)).isEqualTo(2);
+    assertThat(tree.getChildCount(0)).isEqualTo(3);
+
+    assertThat(tree.dominates(0, 4)).isTrue();
+    assertThat(tree.dominates(2, 4)).isTrue();
+    assertThat(tree.dominates(1, 3)).isFalse();
+    assertThat(tree.strictlyDominates(3, 3)).isFalse();
+
+    assertThat(tree.getDominanceFrontier(1).asList()).containsExactly(3);
+    assertThat(tree.getDominanceFrontier(2).asList()).containsExactly(3);
+    assertThat(tree.getDominanceFrontier(0).asList()).isEmpty();
+  }
+
+  @Test
+  public void test_postDominators() {
+    DominatorTree tree =
+        module.getAnalyses(module.getFirstFunction().asFunction()).getPostDominatorTree();
+
+    assertThat(tree.isPostDominatorTree()).isTrue();
+    // entry and b reach both exits, so they are only post-dominated by the virtual exit
+    assertThat(tree.getRoots().asList()).containsExactly(0, 2, 3, 4).inOrder();
+    assertThat(tree.getImmediateDominator(1)).isEqualTo(3);
+
+    // control dependence
+    assertThat(tree.getDominanceFrontier(1).asList()).containsExactly(0);
+    assertThat(tree.getDominanceFrontier(3).asList()).containsExactly(0, 2).inOrder();
+    assertThat(tree.getDominanceFrontier(4).asList()).containsExactly(2);
+  }
+
+  @Test
+  public void test_getAnalyses_cached() {
+    Function f = module.getFirstFunction().asFunction();
+    FunctionAnalyses analyses = module.getAnalyses(f);
+
+    assertThat(module.getAnalyses(f)).isSameInstanceAs(analyses);
+    assertThat(analyses.getDominatorTree()).isSameInstanceAs(analyses.getDominatorTree());
+
+    module.invalidateAnalyses();
+    assertThat(module.getAnalyses(f)).isNotSameInstanceAs(analyses);
+  }
+
+  @Test
+  public void test_runForFunction_invalidates() throws Exception {
+    Function f = module.getFirstFunction().asFunction();
+    FunctionAnalyses analyses = module.getAnalyses(f);
+
+    try (PassManager manager = PassManager.createForModule(module)) {
+      manager.initialize();
+      manager.runForFunction(f);
+    }
+    assertThat(module.getAnalyses(f)).isNotSameInstanceAs(analyses);
+  }
+}
@@ -0,0 +1,1823 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.google.common.base.Throwables;
+import com.sun.jna.Pointer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * {@link AddressBackend} that uses downcall handles of the Foreign Function and Memory API
+ * (<code>java.lang.foreign</code>), which are cheaper to call than JNA. Requires Java 22 or later.
+ *
+ * <p>This library is compiled for Java 11, so the API is accessed through reflection once, when the
+ * downcall handles are created. Afterwards, each method invokes a <code>static final</code> handle
+ * with {@link MethodHandle#invokeExact}, which the JIT compiler can inline. Symbols are looked up
+ * in the LLVM library loaded by JNA, so library lookup paths apply as for the JNA backend. Pointers
+ * are passed as 64-bit integers. Native memory for output arrays is taken from a confined arena
+ * that is closed right after the call.
+ *
+ * <p>Java may print a warning about restricted methods unless native access is enabled with
+ * <code>--enable-native-access=ALL-UNNAMED</code>.
+ */
+final class FfmAddressBackend implements AddressBackend {
+
+  /** Creates downcall handles through reflection on <code>java.lang.foreign</code>. */
+  private static final class Downcalls {
+
+    private final Object linker;
+    private final Object longLayout;
+    private final Object intLayout;
+    private final Class<?> layoutArrayType;
+    private final Method descriptorOf;
+    private final Method descriptorOfVoid;
+    private final Method segmentOfAddress;
+    private final Method downcallHandle;
+    private final Object noOptions;
+
+    // Handles for native memory, with all types of java.lang.foreign erased to Object
+    private final MethodHandle arenaOfConfined;
+    private final MethodHandle arenaAllocate;
+    private final MethodHandle arenaClose;
+    private final MethodHandle segmentAddress;
+    private final MethodHandle segmentCopyLongs;
+
+    Downcalls() {
+      try {
+        Class<?> linkerType = Class.forName("java.lang.foreign.Linker");
+        Class<?> layoutType = Class.forName("java.lang.foreign.MemoryLayout");
+        Class<?> valueLayoutType = Class.forName("java.lang.foreign.ValueLayout");
+        Class<?> descriptorType = Class.forName("java.lang.foreign.FunctionDescriptor");
+        Class<?> segmentType = Class.forName("java.lang.foreign.MemorySegment");
+        Class<?> optionType = Class.forName("java.lang.foreign.Linker$Option");
+        Class<?> arenaType = Class.forName("java.lang.foreign.Arena");
+
+        linker = linkerType.getMethod("nativeLinker").invoke(null);
+        longLayout = valueLayoutType.getField("JAVA_LONG").get(null);
+        intLayout = valueLayoutType.getField("JAVA_INT").get(null);
+        layoutArrayType = Array.newInstance(layoutType, 0).getClass();
+        descriptorOf = descriptorType.getMethod("of", layoutType, layoutArrayType);
+        descriptorOfVoid = descriptorType.getMethod("ofVoid", layoutArrayType);
+        segmentOfAddress = segmentType.getMethod("ofAddress", long.class);
+        noOptions = Array.newInstance(optionType, 0);
+        downcallHandle =
+            linkerType.getMethod(
+                "downcallHandle", segmentType, descriptorType, noOptions.getClass());
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        arenaOfConfined =
+            lookup
+                .unreflect(arenaType.getMethod("ofConfined"))
+                .asType(MethodType.methodType(Object.class));
+        arenaAllocate =
+            lookup
+                .unreflect(arenaType.getMethod("allocate", long.class, long.class))
+                .asType(MethodType.methodType(Object.class, Object.class, long.class, long.class));
+        arenaClose =
+            lookup
+                .unreflect(arenaType.getMethod("close"))
+                .asType(MethodType.methodType(void.class, Object.class));
+        segmentAddress =
+            lookup
+                .unreflect(segmentType.getMethod("address"))
+                .asType(MethodType.methodType(long.class, Object.class));
+        // MemorySegment.copy(segment, JAVA_LONG, offset, array, index, count)
+        segmentCopyLongs =
+            MethodHandles.insertArguments(
+                    lookup.unreflect(
+                        segmentType.getMethod(
+                            "copy",
+                            segmentType,
+                            valueLayoutType,
+                            long.class,
+                            Object.class,
+                            int.class,
+                            int.class)),
+                    1,
+                    longLayout)
+                .asType(
+                    MethodType.methodType(
+                        void.class, Object.class, long.class, Object.class, int.class, int.class));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(
+            "The FFM backend requires the Foreign Function and Memory API of Java 22", e);
+      }
+    }
+
+    private Object layoutOf(Class<?> pType) {
+      return pType == int.class ? intLayout : longLayout;
+    }
+
+    /** Returns a downcall handle for the given function of the LLVM library. */
+    MethodHandle get(String pName, Class<?> pReturnType, Class<?>... pParameterTypes) {
+      Object parameters =
+          Array.newInstance(layoutArrayType.getComponentType(), pParameterTypes.length);
+      for (int i = 0; i < pParameterTypes.length; i++) {
+        Array.set(parameters, i, layoutOf(pParameterTypes[i]));
+      }
+      long address = Pointer.nativeValue(LLVMLibrary.JNA_NATIVE_LIB.getFunction(pName));
+      try {
+        Object descriptor =
+            pReturnType == void.class
+                ? descriptorOfVoid.invoke(null, parameters)
+                : descriptorOf.invoke(null, layoutOf(pReturnType), parameters);
+        Object symbol = segmentOfAddress.invoke(null, address);
+        return (MethodHandle) downcallHandle.invoke(linker, symbol, descriptor, noOptions);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException("Could not create downcall handle for " + pName, e);
+      }
+    }
+  }
+
+  private static final Downcalls DOWNCALLS = new Downcalls();
+
+  private static final MethodHandle ARENA_OF_CONFINED = DOWNCALLS.arenaOfConfined;
+  private static final MethodHandle ARENA_ALLOCATE = DOWNCALLS.arenaAllocate;
+  private static final MethodHandle ARENA_CLOSE = DOWNCALLS.arenaClose;
+  private static final MethodHandle SEGMENT_ADDRESS = DOWNCALLS.segmentAddress;
+  private static final MethodHandle SEGMENT_COPY_LONGS = DOWNCALLS.segmentCopyLongs;
+
+  private static final MethodHandle GET_FIRST_FUNCTION =
+      DOWNCALLS.get("LLVMGetFirstFunction", long.class, long.class);
+  private static final MethodHandle GET_LAST_FUNCTION =
+      DOWNCALLS.get("LLVMGetLastFunction", long.class, long.class);
+  private static final MethodHandle GET_FIRST_GLOBAL =
+      DOWNCALLS.get("LLVMGetFirstGlobal", long.class, long.class);
+  private static final MethodHandle GET_LAST_GLOBAL =
+      DOWNCALLS.get("LLVMGetLastGlobal", long.class, long.class);
+  private static final MethodHandle GET_NEXT_FUNCTION =
+      DOWNCALLS.get("LLVMGetNextFunction", long.class, long.class);
+  private static final MethodHandle GET_PREVIOUS_FUNCTION =
+      DOWNCALLS.get("LLVMGetPreviousFunction", long.class, long.class);
+  private static final MethodHandle GET_NEXT_GLOBAL =
+      DOWNCALLS.get("LLVMGetNextGlobal", long.class, long.class);
+  private static final MethodHandle GET_PREVIOUS_GLOBAL =
+      DOWNCALLS.get("LLVMGetPreviousGlobal", long.class, long.class);
+  private static final MethodHandle IS_DECLARATION =
+      DOWNCALLS.get("LLVMIsDeclaration", int.class, long.class);
+  private static final MethodHandle GET_LINKAGE =
+      DOWNCALLS.get("LLVMGetLinkage", int.class, long.class);
+  private static final MethodHandle GET_VISIBILITY =
+      DOWNCALLS.get("LLVMGetVisibility", int.class, long.class);
+  private static final MethodHandle GET_ALIGNMENT =
+      DOWNCALLS.get("LLVMGetAlignment", int.class, long.class);
+  private static final MethodHandle GET_INITIALIZER =
+      DOWNCALLS.get("LLVMGetInitializer", long.class, long.class);
+  private static final MethodHandle IS_THREAD_LOCAL =
+      DOWNCALLS.get("LLVMIsThreadLocal", int.class, long.class);
+  private static final MethodHandle IS_GLOBAL_CONSTANT =
+      DOWNCALLS.get("LLVMIsGlobalConstant", int.class, long.class);
+  private static final MethodHandle IS_EXTERNALLY_INITIALIZED =
+      DOWNCALLS.get("LLVMIsExternallyInitialized", int.class, long.class);
+  private static final MethodHandle COUNT_PARAMS =
+      DOWNCALLS.get("LLVMCountParams", int.class, long.class);
+  private static final MethodHandle GET_PARAM =
+      DOWNCALLS.get("LLVMGetParam", long.class, long.class, int.class);
+  private static final MethodHandle GET_FIRST_PARAM =
+      DOWNCALLS.get("LLVMGetFirstParam", long.class, long.class);
+  private static final MethodHandle GET_LAST_PARAM =
+      DOWNCALLS.get("LLVMGetLastParam", long.class, long.class);
+  private static final MethodHandle GET_NEXT_PARAM =
+      DOWNCALLS.get("LLVMGetNextParam", long.class, long.class);
+  private static final MethodHandle GET_PREVIOUS_PARAM =
+      DOWNCALLS.get("LLVMGetPreviousParam", long.class, long.class);
+  private static final MethodHandle GET_PARAM_PARENT =
+      DOWNCALLS.get("LLVMGetParamParent", long.class, long.class);
+  private static final MethodHandle GET_FUNCTION_CALL_CONV =
+      DOWNCALLS.get("LLVMGetFunctionCallConv", int.class, long.class);
+  private static final MethodHandle COUNT_BASIC_BLOCKS =
+      DOWNCALLS.get("LLVMCountBasicBlocks", int.class, long.class);
+  private static final MethodHandle GET_FIRST_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMGetFirstBasicBlock", long.class, long.class);
+  private static final MethodHandle GET_LAST_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMGetLastBasicBlock", long.class, long.class);
+  private static final MethodHandle GET_ENTRY_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMGetEntryBasicBlock", long.class, long.class);
+  private static final MethodHandle GET_VALUE_NAME =
+      DOWNCALLS.get("LLVMGetValueName", long.class, long.class);
+  private static final MethodHandle TYPE_OF = DOWNCALLS.get("LLVMTypeOf", long.class, long.class);
+  private static final MethodHandle IS_CONSTANT =
+      DOWNCALLS.get("LLVMIsConstant", int.class, long.class);
+  private static final MethodHandle IS_NULL = DOWNCALLS.get("LLVMIsNull", int.class, long.class);
+  private static final MethodHandle IS_UNDEF = DOWNCALLS.get("LLVMIsUndef", int.class, long.class);
+  private static final MethodHandle VALUE_IS_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMValueIsBasicBlock", int.class, long.class);
+  private static final MethodHandle VALUE_AS_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMValueAsBasicBlock", long.class, long.class);
+  private static final MethodHandle CONST_INT_GET_Z_EXT_VALUE =
+      DOWNCALLS.get("LLVMConstIntGetZExtValue", long.class, long.class);
+  private static final MethodHandle CONST_INT_GET_S_EXT_VALUE =
+      DOWNCALLS.get("LLVMConstIntGetSExtValue", long.class, long.class);
+  private static final MethodHandle GET_CONST_OPCODE =
+      DOWNCALLS.get("LLVMGetConstOpcode", int.class, long.class);
+  private static final MethodHandle GET_NUM_OPERANDS =
+      DOWNCALLS.get("LLVMGetNumOperands", int.class, long.class);
+  private static final MethodHandle GET_OPERAND =
+      DOWNCALLS.get("LLVMGetOperand", long.class, long.class, int.class);
+  private static final MethodHandle GET_FIRST_USE =
+      DOWNCALLS.get("LLVMGetFirstUse", long.class, long.class);
+  private static final MethodHandle GET_NEXT_USE =
+      DOWNCALLS.get("LLVMGetNextUse", long.class, long.class);
+  private static final MethodHandle GET_USER = DOWNCALLS.get("LLVMGetUser", long.class, long.class);
+  private static final MethodHandle GET_MD_NODE_NUM_OPERANDS =
+      DOWNCALLS.get("LLVMGetMDNodeNumOperands", int.class, long.class);
+  private static final MethodHandle GET_MD_NODE_OPERANDS =
+      DOWNCALLS.get("LLVMGetMDNodeOperands", void.class, long.class, long.class);
+  private static final MethodHandle GET_NEXT_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMGetNextBasicBlock", long.class, long.class);
+  private static final MethodHandle GET_PREVIOUS_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMGetPreviousBasicBlock", long.class, long.class);
+  private static final MethodHandle GET_FIRST_INSTRUCTION =
+      DOWNCALLS.get("LLVMGetFirstInstruction", long.class, long.class);
+  private static final MethodHandle GET_LAST_INSTRUCTION =
+      DOWNCALLS.get("LLVMGetLastInstruction", long.class, long.class);
+  private static final MethodHandle GET_BASIC_BLOCK_TERMINATOR =
+      DOWNCALLS.get("LLVMGetBasicBlockTerminator", long.class, long.class);
+  private static final MethodHandle GET_BASIC_BLOCK_PARENT =
+      DOWNCALLS.get("LLVMGetBasicBlockParent", long.class, long.class);
+  private static final MethodHandle BASIC_BLOCK_AS_VALUE =
+      DOWNCALLS.get("LLVMBasicBlockAsValue", long.class, long.class);
+  private static final MethodHandle GET_NEXT_INSTRUCTION =
+      DOWNCALLS.get("LLVMGetNextInstruction", long.class, long.class);
+  private static final MethodHandle GET_PREVIOUS_INSTRUCTION =
+      DOWNCALLS.get("LLVMGetPreviousInstruction", long.class, long.class);
+  private static final MethodHandle GET_INSTRUCTION_PARENT =
+      DOWNCALLS.get("LLVMGetInstructionParent", long.class, long.class);
+  private static final MethodHandle GET_INSTRUCTION_OPCODE =
+      DOWNCALLS.get("LLVMGetInstructionOpcode", int.class, long.class);
+  private static final MethodHandle GET_I_CMP_PREDICATE =
+      DOWNCALLS.get("LLVMGetICmpPredicate", int.class, long.class);
+  private static final MethodHandle GET_F_CMP_PREDICATE =
+      DOWNCALLS.get("LLVMGetFCmpPredicate", int.class, long.class);
+  private static final MethodHandle GET_NUM_SUCCESSORS =
+      DOWNCALLS.get("LLVMGetNumSuccessors", int.class, long.class);
+  private static final MethodHandle GET_SUCCESSOR =
+      DOWNCALLS.get("LLVMGetSuccessor", long.class, long.class, int.class);
+  private static final MethodHandle IS_CONDITIONAL =
+      DOWNCALLS.get("LLVMIsConditional", int.class, long.class);
+  private static final MethodHandle GET_CONDITION =
+      DOWNCALLS.get("LLVMGetCondition", long.class, long.class);
+  private static final MethodHandle COUNT_INCOMING =
+      DOWNCALLS.get("LLVMCountIncoming", int.class, long.class);
+  private static final MethodHandle GET_INCOMING_VALUE =
+      DOWNCALLS.get("LLVMGetIncomingValue", long.class, long.class, int.class);
+  private static final MethodHandle GET_INCOMING_BLOCK =
+      DOWNCALLS.get("LLVMGetIncomingBlock", long.class, long.class, int.class);
+  private static final MethodHandle GET_CALLED_VALUE =
+      DOWNCALLS.get("LLVMGetCalledValue", long.class, long.class);
+  private static final MethodHandle GET_NUM_ARG_OPERANDS =
+      DOWNCALLS.get("LLVMGetNumArgOperands", int.class, long.class);
+  private static final MethodHandle GET_INSTRUCTION_CALL_CONV =
+      DOWNCALLS.get("LLVMGetInstructionCallConv", int.class, long.class);
+  private static final MethodHandle IS_TAIL_CALL =
+      DOWNCALLS.get("LLVMIsTailCall", int.class, long.class);
+  private static final MethodHandle GET_ALLOCATED_TYPE =
+      DOWNCALLS.get("LLVMGetAllocatedType", long.class, long.class);
+  private static final MethodHandle IS_A_ARGUMENT =
+      DOWNCALLS.get("LLVMIsAArgument", long.class, long.class);
+  private static final MethodHandle IS_A_BASIC_BLOCK =
+      DOWNCALLS.get("LLVMIsABasicBlock", long.class, long.class);
+  private static final MethodHandle IS_A_INLINE_ASM =
+      DOWNCALLS.get("LLVMIsAInlineAsm", long.class, long.class);
+  private static final MethodHandle IS_A_USER =
+      DOWNCALLS.get("LLVMIsAUser", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_AGGREGATE_ZERO =
+      DOWNCALLS.get("LLVMIsAConstantAggregateZero", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_ARRAY =
+      DOWNCALLS.get("LLVMIsAConstantArray", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_DATA_ARRAY =
+      DOWNCALLS.get("LLVMIsAConstantDataArray", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_EXPR =
+      DOWNCALLS.get("LLVMIsAConstantExpr", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_FP =
+      DOWNCALLS.get("LLVMIsAConstantFP", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_INT =
+      DOWNCALLS.get("LLVMIsAConstantInt", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_POINTER_NULL =
+      DOWNCALLS.get("LLVMIsAConstantPointerNull", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_STRUCT =
+      DOWNCALLS.get("LLVMIsAConstantStruct", long.class, long.class);
+  private static final MethodHandle IS_A_CONSTANT_VECTOR =
+      DOWNCALLS.get("LLVMIsAConstantVector", long.class, long.class);
+  private static final MethodHandle IS_A_GLOBAL_VALUE =
+      DOWNCALLS.get("LLVMIsAGlobalValue", long.class, long.class);
+  private static final MethodHandle IS_A_FUNCTION =
+      DOWNCALLS.get("LLVMIsAFunction", long.class, long.class);
+  private static final MethodHandle IS_A_GLOBAL_ALIAS =
+      DOWNCALLS.get("LLVMIsAGlobalAlias", long.class, long.class);
+  private static final MethodHandle IS_A_GLOBAL_VARIABLE =
+      DOWNCALLS.get("LLVMIsAGlobalVariable", long.class, long.class);
+  private static final MethodHandle IS_A_UNDEF_VALUE =
+      DOWNCALLS.get("LLVMIsAUndefValue", long.class, long.class);
+  private static final MethodHandle IS_A_INSTRUCTION =
+      DOWNCALLS.get("LLVMIsAInstruction", long.class, long.class);
+  private static final MethodHandle IS_A_BINARY_OPERATOR =
+      DOWNCALLS.get("LLVMIsABinaryOperator", long.class, long.class);
+  private static final MethodHandle IS_A_CALL_INST =
+      DOWNCALLS.get("LLVMIsACallInst", long.class, long.class);
+  private static final MethodHandle IS_A_INTRINSIC_INST =
+      DOWNCALLS.get("LLVMIsAIntrinsicInst", long.class, long.class);
+  private static final MethodHandle IS_A_DBG_INFO_INTRINSIC =
+      DOWNCALLS.get("LLVMIsADbgInfoIntrinsic", long.class, long.class);
+  private static final MethodHandle IS_A_DBG_DECLARE_INST =
+      DOWNCALLS.get("LLVMIsADbgDeclareInst", long.class, long.class);
+  private static final MethodHandle IS_A_MEM_INTRINSIC =
+      DOWNCALLS.get("LLVMIsAMemIntrinsic", long.class, long.class);
+  private static final MethodHandle IS_A_MEM_CPY_INST =
+      DOWNCALLS.get("LLVMIsAMemCpyInst", long.class, long.class);
+  private static final MethodHandle IS_A_MEM_MOVE_INST =
+      DOWNCALLS.get("LLVMIsAMemMoveInst", long.class, long.class);
+  private static final MethodHandle IS_A_MEM_SET_INST =
+      DOWNCALLS.get("LLVMIsAMemSetInst", long.class, long.class);
+  private static final MethodHandle IS_A_CMP_INST =
+      DOWNCALLS.get("LLVMIsACmpInst", long.class, long.class);
+  private static final MethodHandle IS_AF_CMP_INST =
+      DOWNCALLS.get("LLVMIsAFCmpInst", long.class, long.class);
+  private static final MethodHandle IS_AI_CMP_INST =
+      DOWNCALLS.get("LLVMIsAICmpInst", long.class, long.class);
+  private static final MethodHandle IS_A_EXTRACT_ELEMENT_INST =
+      DOWNCALLS.get("LLVMIsAExtractElementInst", long.class, long.class);
+  private static final MethodHandle IS_A_GET_ELEMENT_PTR_INST =
+      DOWNCALLS.get("LLVMIsAGetElementPtrInst", long.class, long.class);
+  private static final MethodHandle IS_A_INSERT_ELEMENT_INST =
+      DOWNCALLS.get("LLVMIsAInsertElementInst", long.class, long.class);
+  private static final MethodHandle IS_A_INSERT_VALUE_INST =
+      DOWNCALLS.get("LLVMIsAInsertValueInst", long.class, long.class);
+  private static final MethodHandle IS_APHI_NODE =
+      DOWNCALLS.get("LLVMIsAPHINode", long.class, long.class);
+  private static final MethodHandle IS_A_SELECT_INST =
+      DOWNCALLS.get("LLVMIsASelectInst", long.class, long.class);
+  private static final MethodHandle IS_A_SHUFFLE_VECTOR_INST =
+      DOWNCALLS.get("LLVMIsAShuffleVectorInst", long.class, long.class);
+  private static final MethodHandle IS_A_STORE_INST =
+      DOWNCALLS.get("LLVMIsAStoreInst", long.class, long.class);
+  private static final MethodHandle IS_A_TERMINATOR_INST =
+      DOWNCALLS.get("LLVMIsATerminatorInst", long.class, long.class);
+  private static final MethodHandle IS_A_BRANCH_INST =
+      DOWNCALLS.get("LLVMIsABranchInst", long.class, long.class);
+  private static final MethodHandle IS_A_INDIRECT_BR_INST =
+      DOWNCALLS.get("LLVMIsAIndirectBrInst", long.class, long.class);
+  private static final MethodHandle IS_A_INVOKE_INST =
+      DOWNCALLS.get("LLVMIsAInvokeInst", long.class, long.class);
+  private static final MethodHandle IS_A_RETURN_INST =
+      DOWNCALLS.get("LLVMIsAReturnInst", long.class, long.class);
+  private static final MethodHandle IS_A_SWITCH_INST =
+      DOWNCALLS.get("LLVMIsASwitchInst", long.class, long.class);
+  private static final MethodHandle IS_A_UNREACHABLE_INST =
+      DOWNCALLS.get("LLVMIsAUnreachableInst", long.class, long.class);
+  private static final MethodHandle IS_A_UNARY_INSTRUCTION =
+      DOWNCALLS.get("LLVMIsAUnaryInstruction", long.class, long.class);
+  private static final MethodHandle IS_A_ALLOCA_INST =
+      DOWNCALLS.get("LLVMIsAAllocaInst", long.class, long.class);
+  private static final MethodHandle IS_A_CAST_INST =
+      DOWNCALLS.get("LLVMIsACastInst", long.class, long.class);
+  private static final MethodHandle IS_A_BIT_CAST_INST =
+      DOWNCALLS.get("LLVMIsABitCastInst", long.class, long.class);
+  private static final MethodHandle IS_AFP_EXT_INST =
+      DOWNCALLS.get("LLVMIsAFPExtInst", long.class, long.class);
+  private static final MethodHandle IS_AFP_TO_SI_INST =
+      DOWNCALLS.get("LLVMIsAFPToSIInst", long.class, long.class);
+  private static final MethodHandle IS_AFP_TO_UI_INST =
+      DOWNCALLS.get("LLVMIsAFPToUIInst", long.class, long.class);
+  private static final MethodHandle IS_AFP_TRUNC_INST =
+      DOWNCALLS.get("LLVMIsAFPTruncInst", long.class, long.class);
+  private static final MethodHandle IS_A_INT_TO_PTR_INST =
+      DOWNCALLS.get("LLVMIsAIntToPtrInst", long.class, long.class);
+  private static final MethodHandle IS_A_PTR_TO_INT_INST =
+      DOWNCALLS.get("LLVMIsAPtrToIntInst", long.class, long.class);
+  private static final MethodHandle IS_AS_EXT_INST =
+      DOWNCALLS.get("LLVMIsASExtInst", long.class, long.class);
+  private static final MethodHandle IS_ASI_TO_FP_INST =
+      DOWNCALLS.get("LLVMIsASIToFPInst", long.class, long.class);
+  private static final MethodHandle IS_A_TRUNC_INST =
+      DOWNCALLS.get("LLVMIsATruncInst", long.class, long.class);
+  private static final MethodHandle IS_AUI_TO_FP_INST =
+      DOWNCALLS.get("LLVMIsAUIToFPInst", long.class, long.class);
+  private static final MethodHandle IS_AZ_EXT_INST =
+      DOWNCALLS.get("LLVMIsAZExtInst", long.class, long.class);
+  private static final MethodHandle IS_A_EXTRACT_VALUE_INST =
+      DOWNCALLS.get("LLVMIsAExtractValueInst", long.class, long.class);
+  private static final MethodHandle IS_A_LOAD_INST =
+      DOWNCALLS.get("LLVMIsALoadInst", long.class, long.class);
+  private static final MethodHandle IS_AVA_ARG_INST =
+      DOWNCALLS.get("LLVMIsAVAArgInst", long.class, long.class);
+  private static final MethodHandle IS_A_MD_NODE =
+      DOWNCALLS.get("LLVMIsAMDNode", long.class, long.class);
+  private static final MethodHandle GET_TYPE_KIND =
+      DOWNCALLS.get("LLVMGetTypeKind", int.class, long.class);
+  private static final MethodHandle GET_INT_TYPE_WIDTH =
+      DOWNCALLS.get("LLVMGetIntTypeWidth", int.class, long.class);
+  private static final MethodHandle IS_FUNCTION_VAR_ARG =
+      DOWNCALLS.get("LLVMIsFunctionVarArg", int.class, long.class);
+  private static final MethodHandle GET_RETURN_TYPE =
+      DOWNCALLS.get("LLVMGetReturnType", long.class, long.class);
+  private static final MethodHandle COUNT_PARAM_TYPES =
+      DOWNCALLS.get("LLVMCountParamTypes", int.class, long.class);
+  private static final MethodHandle COUNT_STRUCT_ELEMENT_TYPES =
+      DOWNCALLS.get("LLVMCountStructElementTypes", int.class, long.class);
+  private static final MethodHandle STRUCT_GET_TYPE_AT_INDEX =
+      DOWNCALLS.get("LLVMStructGetTypeAtIndex", long.class, long.class, int.class);
+  private static final MethodHandle IS_PACKED_STRUCT =
+      DOWNCALLS.get("LLVMIsPackedStruct", int.class, long.class);
+  private static final MethodHandle IS_OPAQUE_STRUCT =
+      DOWNCALLS.get("LLVMIsOpaqueStruct", int.class, long.class);
+  private static final MethodHandle GET_ELEMENT_TYPE =
+      DOWNCALLS.get("LLVMGetElementType", long.class, long.class);
+  private static final MethodHandle GET_ARRAY_LENGTH =
+      DOWNCALLS.get("LLVMGetArrayLength", int.class, long.class);
+  private static final MethodHandle GET_POINTER_ADDRESS_SPACE =
+      DOWNCALLS.get("LLVMGetPointerAddressSpace", int.class, long.class);
+  private static final MethodHandle GET_VECTOR_SIZE =
+      DOWNCALLS.get("LLVMGetVectorSize", int.class, long.class);
+  private static final MethodHandle RUN_FUNCTION_PASS_MANAGER =
+      DOWNCALLS.get("LLVMRunFunctionPassManager", int.class, long.class, long.class);
+
+  // Downcalls do not throw checked exceptions, but invokeExact declares Throwable.
+  private static RuntimeException propagate(Throwable pThrowable) {
+    Throwables.throwIfUnchecked(pThrowable);
+    throw new AssertionError(pThrowable);
+  }
+
+  @Override
+  public long LLVMGetFirstFunction(long pModule) {
+    try {
+      return (long) GET_FIRST_FUNCTION.invokeExact(pModule);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetLastFunction(long pModule) {
+    try {
+      return (long) GET_LAST_FUNCTION.invokeExact(pModule);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetFirstGlobal(long pModule) {
+    try {
+      return (long) GET_FIRST_GLOBAL.invokeExact(pModule);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetLastGlobal(long pModule) {
+    try {
+      return (long) GET_LAST_GLOBAL.invokeExact(pModule);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetNextFunction(long pFunction) {
+    try {
+      return (long) GET_NEXT_FUNCTION.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetPreviousFunction(long pFunction) {
+    try {
+      return (long) GET_PREVIOUS_FUNCTION.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetNextGlobal(long pGlobal) {
+    try {
+      return (long) GET_NEXT_GLOBAL.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetPreviousGlobal(long pGlobal) {
+    try {
+      return (long) GET_PREVIOUS_GLOBAL.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsDeclaration(long pGlobal) {
+    try {
+      return (int) IS_DECLARATION.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetLinkage(long pGlobal) {
+    try {
+      return (int) GET_LINKAGE.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetVisibility(long pGlobal) {
+    try {
+      return (int) GET_VISIBILITY.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetAlignment(long pValue) {
+    try {
+      return (int) GET_ALIGNMENT.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetInitializer(long pGlobal) {
+    try {
+      return (long) GET_INITIALIZER.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsThreadLocal(long pGlobal) {
+    try {
+      return (int) IS_THREAD_LOCAL.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsGlobalConstant(long pGlobal) {
+    try {
+      return (int) IS_GLOBAL_CONSTANT.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsExternallyInitialized(long pGlobal) {
+    try {
+      return (int) IS_EXTERNALLY_INITIALIZED.invokeExact(pGlobal);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMCountParams(long pFunction) {
+    try {
+      return (int) COUNT_PARAMS.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetParam(long pFunction, int pIndex) {
+    try {
+      return (long) GET_PARAM.invokeExact(pFunction, pIndex);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetFirstParam(long pFunction) {
+    try {
+      return (long) GET_FIRST_PARAM.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetLastParam(long pFunction) {
+    try {
+      return (long) GET_LAST_PARAM.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetNextParam(long pValue) {
+    try {
+      return (long) GET_NEXT_PARAM.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetPreviousParam(long pValue) {
+    try {
+      return (long) GET_PREVIOUS_PARAM.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetParamParent(long pValue) {
+    try {
+      return (long) GET_PARAM_PARENT.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetFunctionCallConv(long pFunction) {
+    try {
+      return (int) GET_FUNCTION_CALL_CONV.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMCountBasicBlocks(long pFunction) {
+    try {
+      return (int) COUNT_BASIC_BLOCKS.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetFirstBasicBlock(long pFunction) {
+    try {
+      return (long) GET_FIRST_BASIC_BLOCK.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetLastBasicBlock(long pFunction) {
+    try {
+      return (long) GET_LAST_BASIC_BLOCK.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetEntryBasicBlock(long pFunction) {
+    try {
+      return (long) GET_ENTRY_BASIC_BLOCK.invokeExact(pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public String LLVMGetValueName(long pValue) {
+    try {
+      long name = (long) GET_VALUE_NAME.invokeExact(pValue);
+      return name == 0 ? null : new Pointer(name).getString(0);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMTypeOf(long pValue) {
+    try {
+      return (long) TYPE_OF.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsConstant(long pValue) {
+    try {
+      return (int) IS_CONSTANT.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsNull(long pValue) {
+    try {
+      return (int) IS_NULL.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsUndef(long pValue) {
+    try {
+      return (int) IS_UNDEF.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMValueIsBasicBlock(long pValue) {
+    try {
+      return (int) VALUE_IS_BASIC_BLOCK.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMValueAsBasicBlock(long pValue) {
+    try {
+      return (long) VALUE_AS_BASIC_BLOCK.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMConstIntGetZExtValue(long pValue) {
+    try {
+      return (long) CONST_INT_GET_Z_EXT_VALUE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMConstIntGetSExtValue(long pValue) {
+    try {
+      return (long) CONST_INT_GET_S_EXT_VALUE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetConstOpcode(long pValue) {
+    try {
+      return (int) GET_CONST_OPCODE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetNumOperands(long pValue) {
+    try {
+      return (int) GET_NUM_OPERANDS.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetOperand(long pValue, int pIndex) {
+    try {
+      return (long) GET_OPERAND.invokeExact(pValue, pIndex);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetFirstUse(long pValue) {
+    try {
+      return (long) GET_FIRST_USE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetNextUse(long pUse) {
+    try {
+      return (long) GET_NEXT_USE.invokeExact(pUse);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetUser(long pUse) {
+    try {
+      return (long) GET_USER.invokeExact(pUse);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetMDNodeNumOperands(long pValue) {
+    try {
+      return (int) GET_MD_NODE_NUM_OPERANDS.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public void LLVMGetMDNodeOperands(long pValue, long[] pDest) {
+    if (pDest.length == 0) {
+      return;
+    }
+    try {
+      Object arena = (Object) ARENA_OF_CONFINED.invokeExact();
+      try {
+        Object operands =
+            (Object) ARENA_ALLOCATE.invokeExact(arena, Long.BYTES * (long) pDest.length, 8L);
+        GET_MD_NODE_OPERANDS.invokeExact(pValue, (long) SEGMENT_ADDRESS.invokeExact(operands));
+        SEGMENT_COPY_LONGS.invokeExact(operands, 0L, (Object) pDest, 0, pDest.length);
+      } finally {
+        ARENA_CLOSE.invokeExact(arena);
+      }
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetNextBasicBlock(long pBasicBlock) {
+    try {
+      return (long) GET_NEXT_BASIC_BLOCK.invokeExact(pBasicBlock);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetPreviousBasicBlock(long pBasicBlock) {
+    try {
+      return (long) GET_PREVIOUS_BASIC_BLOCK.invokeExact(pBasicBlock);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetFirstInstruction(long pBasicBlock) {
+    try {
+      return (long) GET_FIRST_INSTRUCTION.invokeExact(pBasicBlock);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetLastInstruction(long pBasicBlock) {
+    try {
+      return (long) GET_LAST_INSTRUCTION.invokeExact(pBasicBlock);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetBasicBlockTerminator(long pBasicBlock) {
+    try {
+      return (long) GET_BASIC_BLOCK_TERMINATOR.invokeExact(pBasicBlock);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetBasicBlockParent(long pBasicBlock) {
+    try {
+      return (long) GET_BASIC_BLOCK_PARENT.invokeExact(pBasicBlock);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMBasicBlockAsValue(long pBasicBlock) {
+    try {
+      return (long) BASIC_BLOCK_AS_VALUE.invokeExact(pBasicBlock);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetNextInstruction(long pInstruction) {
+    try {
+      return (long) GET_NEXT_INSTRUCTION.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetPreviousInstruction(long pInstruction) {
+    try {
+      return (long) GET_PREVIOUS_INSTRUCTION.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetInstructionParent(long pInstruction) {
+    try {
+      return (long) GET_INSTRUCTION_PARENT.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetInstructionOpcode(long pInstruction) {
+    try {
+      return (int) GET_INSTRUCTION_OPCODE.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetICmpPredicate(long pInstruction) {
+    try {
+      return (int) GET_I_CMP_PREDICATE.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetFCmpPredicate(long pInstruction) {
+    try {
+      return (int) GET_F_CMP_PREDICATE.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetNumSuccessors(long pTerminator) {
+    try {
+      return (int) GET_NUM_SUCCESSORS.invokeExact(pTerminator);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetSuccessor(long pTerminator, int pIndex) {
+    try {
+      return (long) GET_SUCCESSOR.invokeExact(pTerminator, pIndex);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsConditional(long pBranch) {
+    try {
+      return (int) IS_CONDITIONAL.invokeExact(pBranch);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetCondition(long pBranch) {
+    try {
+      return (long) GET_CONDITION.invokeExact(pBranch);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMCountIncoming(long pPhiNode) {
+    try {
+      return (int) COUNT_INCOMING.invokeExact(pPhiNode);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetIncomingValue(long pPhiNode, int pIndex) {
+    try {
+      return (long) GET_INCOMING_VALUE.invokeExact(pPhiNode, pIndex);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetIncomingBlock(long pPhiNode, int pIndex) {
+    try {
+      return (long) GET_INCOMING_BLOCK.invokeExact(pPhiNode, pIndex);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetCalledValue(long pInstruction) {
+    try {
+      return (long) GET_CALLED_VALUE.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetNumArgOperands(long pInstruction) {
+    try {
+      return (int) GET_NUM_ARG_OPERANDS.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetInstructionCallConv(long pInstruction) {
+    try {
+      return (int) GET_INSTRUCTION_CALL_CONV.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsTailCall(long pInstruction) {
+    try {
+      return (int) IS_TAIL_CALL.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetAllocatedType(long pInstruction) {
+    try {
+      return (long) GET_ALLOCATED_TYPE.invokeExact(pInstruction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAArgument(long pValue) {
+    try {
+      return (long) IS_A_ARGUMENT.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsABasicBlock(long pValue) {
+    try {
+      return (long) IS_A_BASIC_BLOCK.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAInlineAsm(long pValue) {
+    try {
+      return (long) IS_A_INLINE_ASM.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAUser(long pValue) {
+    try {
+      return (long) IS_A_USER.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantAggregateZero(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_AGGREGATE_ZERO.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantArray(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_ARRAY.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantDataArray(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_DATA_ARRAY.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantExpr(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_EXPR.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantFP(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_FP.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantInt(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_INT.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantPointerNull(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_POINTER_NULL.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantStruct(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_STRUCT.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAConstantVector(long pValue) {
+    try {
+      return (long) IS_A_CONSTANT_VECTOR.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAGlobalValue(long pValue) {
+    try {
+      return (long) IS_A_GLOBAL_VALUE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAFunction(long pValue) {
+    try {
+      return (long) IS_A_FUNCTION.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAGlobalAlias(long pValue) {
+    try {
+      return (long) IS_A_GLOBAL_ALIAS.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAGlobalVariable(long pValue) {
+    try {
+      return (long) IS_A_GLOBAL_VARIABLE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAUndefValue(long pValue) {
+    try {
+      return (long) IS_A_UNDEF_VALUE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAInstruction(long pValue) {
+    try {
+      return (long) IS_A_INSTRUCTION.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsABinaryOperator(long pValue) {
+    try {
+      return (long) IS_A_BINARY_OPERATOR.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsACallInst(long pValue) {
+    try {
+      return (long) IS_A_CALL_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAIntrinsicInst(long pValue) {
+    try {
+      return (long) IS_A_INTRINSIC_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsADbgInfoIntrinsic(long pValue) {
+    try {
+      return (long) IS_A_DBG_INFO_INTRINSIC.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsADbgDeclareInst(long pValue) {
+    try {
+      return (long) IS_A_DBG_DECLARE_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAMemIntrinsic(long pValue) {
+    try {
+      return (long) IS_A_MEM_INTRINSIC.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAMemCpyInst(long pValue) {
+    try {
+      return (long) IS_A_MEM_CPY_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAMemMoveInst(long pValue) {
+    try {
+      return (long) IS_A_MEM_MOVE_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAMemSetInst(long pValue) {
+    try {
+      return (long) IS_A_MEM_SET_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsACmpInst(long pValue) {
+    try {
+      return (long) IS_A_CMP_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAFCmpInst(long pValue) {
+    try {
+      return (long) IS_AF_CMP_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAICmpInst(long pValue) {
+    try {
+      return (long) IS_AI_CMP_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAExtractElementInst(long pValue) {
+    try {
+      return (long) IS_A_EXTRACT_ELEMENT_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAGetElementPtrInst(long pValue) {
+    try {
+      return (long) IS_A_GET_ELEMENT_PTR_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAInsertElementInst(long pValue) {
+    try {
+      return (long) IS_A_INSERT_ELEMENT_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAInsertValueInst(long pValue) {
+    try {
+      return (long) IS_A_INSERT_VALUE_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAPHINode(long pValue) {
+    try {
+      return (long) IS_APHI_NODE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsASelectInst(long pValue) {
+    try {
+      return (long) IS_A_SELECT_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAShuffleVectorInst(long pValue) {
+    try {
+      return (long) IS_A_SHUFFLE_VECTOR_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAStoreInst(long pValue) {
+    try {
+      return (long) IS_A_STORE_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsATerminatorInst(long pValue) {
+    try {
+      return (long) IS_A_TERMINATOR_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsABranchInst(long pValue) {
+    try {
+      return (long) IS_A_BRANCH_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAIndirectBrInst(long pValue) {
+    try {
+      return (long) IS_A_INDIRECT_BR_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAInvokeInst(long pValue) {
+    try {
+      return (long) IS_A_INVOKE_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAReturnInst(long pValue) {
+    try {
+      return (long) IS_A_RETURN_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsASwitchInst(long pValue) {
+    try {
+      return (long) IS_A_SWITCH_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAUnreachableInst(long pValue) {
+    try {
+      return (long) IS_A_UNREACHABLE_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAUnaryInstruction(long pValue) {
+    try {
+      return (long) IS_A_UNARY_INSTRUCTION.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAAllocaInst(long pValue) {
+    try {
+      return (long) IS_A_ALLOCA_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsACastInst(long pValue) {
+    try {
+      return (long) IS_A_CAST_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsABitCastInst(long pValue) {
+    try {
+      return (long) IS_A_BIT_CAST_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAFPExtInst(long pValue) {
+    try {
+      return (long) IS_AFP_EXT_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAFPToSIInst(long pValue) {
+    try {
+      return (long) IS_AFP_TO_SI_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAFPToUIInst(long pValue) {
+    try {
+      return (long) IS_AFP_TO_UI_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAFPTruncInst(long pValue) {
+    try {
+      return (long) IS_AFP_TRUNC_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAIntToPtrInst(long pValue) {
+    try {
+      return (long) IS_A_INT_TO_PTR_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAPtrToIntInst(long pValue) {
+    try {
+      return (long) IS_A_PTR_TO_INT_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsASExtInst(long pValue) {
+    try {
+      return (long) IS_AS_EXT_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsASIToFPInst(long pValue) {
+    try {
+      return (long) IS_ASI_TO_FP_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsATruncInst(long pValue) {
+    try {
+      return (long) IS_A_TRUNC_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAUIToFPInst(long pValue) {
+    try {
+      return (long) IS_AUI_TO_FP_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAZExtInst(long pValue) {
+    try {
+      return (long) IS_AZ_EXT_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAExtractValueInst(long pValue) {
+    try {
+      return (long) IS_A_EXTRACT_VALUE_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsALoadInst(long pValue) {
+    try {
+      return (long) IS_A_LOAD_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAVAArgInst(long pValue) {
+    try {
+      return (long) IS_AVA_ARG_INST.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMIsAMDNode(long pValue) {
+    try {
+      return (long) IS_A_MD_NODE.invokeExact(pValue);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetTypeKind(long pType) {
+    try {
+      return (int) GET_TYPE_KIND.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetIntTypeWidth(long pType) {
+    try {
+      return (int) GET_INT_TYPE_WIDTH.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsFunctionVarArg(long pType) {
+    try {
+      return (int) IS_FUNCTION_VAR_ARG.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetReturnType(long pType) {
+    try {
+      return (long) GET_RETURN_TYPE.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMCountParamTypes(long pType) {
+    try {
+      return (int) COUNT_PARAM_TYPES.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMCountStructElementTypes(long pType) {
+    try {
+      return (int) COUNT_STRUCT_ELEMENT_TYPES.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMStructGetTypeAtIndex(long pType, int pIndex) {
+    try {
+      return (long) STRUCT_GET_TYPE_AT_INDEX.invokeExact(pType, pIndex);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsPackedStruct(long pType) {
+    try {
+      return (int) IS_PACKED_STRUCT.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMIsOpaqueStruct(long pType) {
+    try {
+      return (int) IS_OPAQUE_STRUCT.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public long LLVMGetElementType(long pType) {
+    try {
+      return (long) GET_ELEMENT_TYPE.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetArrayLength(long pType) {
+    try {
+      return (int) GET_ARRAY_LENGTH.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetPointerAddressSpace(long pType) {
+    try {
+      return (int) GET_POINTER_ADDRESS_SPACE.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMGetVectorSize(long pType) {
+    try {
+      return (int) GET_VECTOR_SIZE.invokeExact(pType);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+
+  @Override
+  public int LLVMRunFunctionPassManager(long pPassManager, long pFunction) {
+    try {
+      return (int) RUN_FUNCTION_PASS_MANAGER.invokeExact(pPassManager, pFunction);
+    } catch (Throwable t) {
+      throw propagate(t);
+    }
+  }
+}
@@ -31,6 +31,7 @@ package org.sosy_lab.llvm_j;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 
 /**
@@ -44,6 +45,10 @@ public final class Function extends Value implements Iterable<BasicBlock> {
     super(value);
   }
 
+  Function(LLVMLibrary.LLVMValueRef value, @Nullable WrapperTable pWrappers) {
+    super(value, pWrappers);
+  }
+
   private class FunctionIterator implements Iterator<BasicBlock> {
     private BasicBlock current;
     private final BasicBlock last;
@@ -0,0 +1,93 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Analysis results of a single {@link Function}, which are computed on first request and then kept
+ * until the module of the function is modified.
+ *
+ * <p>Instances are obtained from {@link Module#getAnalyses(Function)}, which returns the same
+ * instance for a function until {@link Module#invalidateAnalyses()} is called. This class is not
+ * thread-safe, but the returned results are immutable and can be shared between threads.
+ */
+public final class FunctionAnalyses {
+
+  private final Function function;
+
+  private @Nullable FunctionCfg cfg;
+  private @Nullable DominatorTree dominators;
+  private @Nullable DominatorTree postDominators;
+  private @Nullable LoopForest loops;
+
+  FunctionAnalyses(Function pFunction) {
+    function = pFunction;
+  }
+
+  /** Returns the function these results belong to. */
+  public Function getFunction() {
+    return function;
+  }
+
+  /**
+   * Returns the control-flow graph of the function.
+   *
+   * @throws IllegalArgumentException if the function has no body
+   */
+  public FunctionCfg getCfg() {
+    if (cfg == null) {
+      cfg = FunctionCfg.create(function);
+    }
+    return cfg;
+  }
+
+  /** Returns the dominator tree of the function, including its dominance frontiers. */
+  public DominatorTree getDominatorTree() {
+    if (dominators == null) {
+      dominators = DominatorTree.dominators(getCfg());
+    }
+    return dominators;
+  }
+
+  /** Returns the post-dominator tree of the function, including its dominance frontiers. */
+  public DominatorTree getPostDominatorTree() {
+    if (postDominators == null) {
+      postDominators = DominatorTree.postDominators(getCfg());
+    }
+    return postDominators;
+  }
+
+  /** Returns the loop forest of the function. */
+  public LoopForest getLoops() {
+    if (loops == null) {
+      loops = LoopForest.create(getCfg(), getDominatorTree());
+    }
+    return loops;
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Immutable control-flow graph of the basic blocks of a {@link Function}, stored in flat primitive
+ * arrays.
+ *
+ * <p>The basic blocks of the function are identified by dense <code>int</code> ids in the order of
+ * the function, so the entry block has id 0. Successors and predecessors of all blocks are stored
+ * in compressed sparse row form. A block that is the target of several edges of the same
+ * terminator, e.g., of a switch instruction, is its successor for each of these edges, and the
+ * predecessor lists contain the same multiplicity.
+ *
+ * <p>The function is read once when the graph is created. Afterwards, no method of this class
+ * except {@link #getBlock(int)} calls into LLVM, and the graph can be used by many threads
+ * concurrently. The graph does not reflect later changes of the function.
+ */
+public final class FunctionCfg {
+
+  private final @Nullable WrapperTable wrappers;
+
+  private final AddressIndex blocks;
+
+  private final int[] successorStarts; // length + 1
+  private final int[] successors;
+  private final int[] predecessorStarts; // length + 1
+  private final int[] predecessors;
+
+  private final ImmutableIntArray reversePostorder;
+  private final int[] reversePostorderNumbers; // -1 for unreachable blocks
+  private final ImmutableIntArray exitBlocks;
+
+  private FunctionCfg(
+      @Nullable WrapperTable pWrappers,
+      AddressIndex pBlocks,
+      int[] pSuccessorStarts,
+      int[] pSuccessors) {
+    wrappers = pWrappers;
+    blocks = pBlocks;
+    successorStarts = pSuccessorStarts;
+    successors = pSuccessors;
+
+    int blockCount = blocks.size();
+    predecessorStarts = new int[blockCount + 1];
+    predecessors = new int[successors.length];
+    computePredecessors();
+
+    reversePostorderNumbers = new int[blockCount];
+    reversePostorder = computeReversePostorder();
+
+    ImmutableIntArray.Builder exits = ImmutableIntArray.builder();
+    for (int block = 0; block < blockCount; block++) {
+      if (getSuccessorCount(block) == 0) {
+        exits.add(block);
+      }
+    }
+    exitBlocks = exits.build();
+  }
+
+  /**
+   * Creates the control-flow graph of the given function. The body of the function is materialized
+   * if necessary.
+   *
+   * @throws IllegalArgumentException if the function has no body
+   */
+  public static FunctionCfg create(Function pFunction) {
+    checkNotNull(pFunction);
+    long function = pFunction.getAddress();
+    long entry = InstructionCursor.getFirstBasicBlock(function);
+    checkArgument(entry != 0, "Function has no body: %s", pFunction);
+
+    AddressIndex blocks = new AddressIndex();
+    for (@Var long block = entry; block != 0; block = AddressBinding.LLVMGetNextBasicBlock(block)) {
+      blocks.add(block);
+    }
+
+    int blockCount = blocks.size();
+    int[] successorStarts = new int[blockCount + 1];
+    @Var int[] successors = new int[blockCount];
+    @Var int successorCount = 0;
+    for (int block = 0; block < blockCount; block++) {
+      successorStarts[block] = successorCount;
+      long terminator = AddressBinding.LLVMGetBasicBlockTerminator(blocks.get(block));
+      if (terminator == 0) {
+        continue; // malformed block
+      }
+      int count = AddressBinding.LLVMGetNumSuccessors(terminator);
+      if (successorCount + count > successors.length) {
+        successors =
+            Arrays.copyOf(successors, Math.max(2 * successors.length, successorCount + count));
+      }
+      for (int i = 0; i < count; i++) {
+        long successor = AddressBinding.LLVMGetSuccessor(terminator, i);
+        successors[successorCount++] = blocks.indexOf(successor);
+      }
+    }
+    successorStarts[blockCount] = successorCount;
+
+    return new FunctionCfg(
+        pFunction.wrappers(), blocks, successorStarts, Arrays.copyOf(successors, successorCount));
+  }
+
+  /** Fills the predecessor arrays by counting sort of all edges by their target. */
+  private void computePredecessors() {
+    for (int successor : successors) {
+      predecessorStarts[successor + 1]++;
+    }
+    for (int block = 0; block < blocks.size(); block++) {
+      predecessorStarts[block + 1] += predecessorStarts[block];
+    }
+    int[] next = Arrays.copyOf(predecessorStarts, blocks.size());
+    for (int block = 0; block < blocks.size(); block++) {
+      for (int i = successorStarts[block]; i < successorStarts[block + 1]; i++) {
+        predecessors[next[successors[i]]++] = block;
+      }
+    }
+  }
+
+  /**
+   * Computes the reverse postorder of all blocks reachable from the entry block with an iterative
+   * depth-first search, and numbers the blocks accordingly.
+   */
+  private ImmutableIntArray computeReversePostorder() {
+    int blockCount = blocks.size();
+    int[] postorder = new int[blockCount];
+    @Var int postorderSize = 0;
+
+    // stack of blocks and the index of the next successor to visit for each of them
+    int[] stack = new int[blockCount];
+    int[] nextSuccessor = new int[blockCount];
+    boolean[] visited = new boolean[blockCount];
+    @Var int stackSize = 0;
+
+    stack[stackSize++] = 0;
+    visited[0] = true;
+    nextSuccessor[0] = successorStarts[0];
+    while (stackSize > 0) {
+      int block = stack[stackSize - 1];
+      if (nextSuccessor[block] < successorStarts[block + 1]) {
+        int successor = successors[nextSuccessor[block]++];
+        if (!visited[successor]) {
+          visited[successor] = true;
+          nextSuccessor[successor] = successorStarts[successor];
+          stack[stackSize++] = successor;
+        }
+      } else {
+        stackSize--;
+        postorder[postorderSize++] = block;
+      }
+    }
+
+    Arrays.fill(reversePostorderNumbers, -1);
+    int[] order = new int[postorderSize];
+    for (int i = 0; i < postorderSize; i++) {
+      int block = postorder[postorderSize - 1 - i];
+      order[i] = block;
+      reversePostorderNumbers[block] = i;
+    }
+    return ImmutableIntArray.copyOf(order);
+  }
+
+  /** Returns the number of basic blocks of the function. */
+  public int getBlockCount() {
+    return blocks.size();
+  }
+
+  /** Returns the id of the entry block of the function, which is always 0. */
+  public int getEntryBlock() {
+    return 0;
+  }
+
+  /**
+   * Returns the ids of all blocks without successors, e.g., blocks that end with a return or
+   * unreachable instruction, in ascending order.
+   */
+  public ImmutableIntArray getExitBlocks() {
+    return exitBlocks;
+  }
+
+  /** Returns the native address of the given block. */
+  public long getBlockAddress(int pBlock) {
+    return blocks.get(pBlock);
+  }
+
+  /** Returns the given block as {@link BasicBlock}. */
+  public BasicBlock getBlock(int pBlock) {
+    return WrapperTable.basicBlock(wrappers, blocks.get(pBlock));
+  }
+
+  /** Returns the id of the given basic block, or -1 if it does not belong to the function. */
+  public int getBlockId(BasicBlock pBlock) {
+    checkNotNull(pBlock);
+    return blocks.indexOf(AddressBinding.addressOf(pBlock.bb()));
+  }
+
+  /** Returns the number of successors of the given block. */
+  public int getSuccessorCount(int pBlock) {
+    checkElementIndex(pBlock, blocks.size());
+    return successorStarts[pBlock + 1] - successorStarts[pBlock];
+  }
+
+  /** Returns the id of the successor with the given index of the given block. */
+  public int getSuccessor(int pBlock, int pIndex) {
+    checkElementIndex(pIndex, getSuccessorCount(pBlock));
+    return successors[successorStarts[pBlock] + pIndex];
+  }
+
+  /** Returns the number of predecessors of the given block. */
+  public int getPredecessorCount(int pBlock) {
+    checkElementIndex(pBlock, blocks.size());
+    return predecessorStarts[pBlock + 1] - predecessorStarts[pBlock];
+  }
+
+  /**
+   * Returns the id of the predecessor with the given index of the given block. Predecessors are
+   * ordered by their id.
+   */
+  public int getPredecessor(int pBlock, int pIndex) {
+    checkElementIndex(pIndex, getPredecessorCount(pBlock));
+    return predecessors[predecessorStarts[pBlock] + pIndex];
+  }
+
+  /**
+   * Returns the ids of all blocks that are reachable from the entry block, in reverse postorder.
+   * The entry block comes first.
+   */
+  public ImmutableIntArray getReversePostorder() {
+    return reversePostorder;
+  }
+
+  /**
+   * Returns the position of the given block in the {@link #getReversePostorder() reverse
+   * postorder}, or -1 if the block is not reachable from the entry block.
+   */
+  public int getReversePostorderNumber(int pBlock) {
+    checkElementIndex(pBlock, blocks.size());
+    return reversePostorderNumbers[pBlock];
+  }
+
+  /** Returns whether the given block is reachable from the entry block. */
+  public boolean isReachable(int pBlock) {
+    return getReversePostorderNumber(pBlock) >= 0;
+  }
+}
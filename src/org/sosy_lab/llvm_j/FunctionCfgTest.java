@@ -0,0 +1,101 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+public class FunctionCfgTest extends ModuleTestCase {
+
+  private static final String LOOP =
+      "define i32 @f(i32 %n) {\n"
+          + "entry:\n"
+          + "  br label %head\n"
+          + "head:\n"
+          + "  %i = phi i32 [ 0, %entry ], [ %j, %body ]\n"
+          + "  %c = icmp slt i32 %i, %n\n"
+          + "  br i1 %c, label %body, label %exit\n"
+          + "body:\n"
+          + "  %j = add i32 %i, 1\n"
+          + "  br label %head\n"
+          + "exit:\n"
+          + "  ret i32 %i\n"
+          + "dead:\n"
+          + "  br label %exit\n"
+          + "}\n"
+          + "declare void @g()\n";
+
+  public FunctionCfgTest() {
+    super(LOOP);
+  }
+
+  @Test
+  public void test_create_edges() {
+    Function f = module.getFirstFunction().asFunction();
+    FunctionCfg cfg = FunctionCfg.create(f);
+
+    // entry = 0, head = 1, body = 2, exit = 3, dead = 4
+    assertThat(cfg.getBlockCount()).isEqualTo(5);
+    assertThat(cfg.getEntryBlock()).isEqualTo(0);
+    assertThat(cfg.getBlock(0)).isEqualTo(f.getFirstBasicBlock());
+    assertThat(cfg.getBlockId(f.getLastBasicBlock())).isEqualTo(4);
+
+    assertThat(cfg.getSuccessorCount(1)).isEqualTo(2);
+    assertThat(cfg.getSuccessor(1, 0)).isEqualTo(2);
+    assertThat(cfg.getSuccessor(1, 1)).isEqualTo(3);
+
+    assertThat(cfg.getPredecessorCount(1)).isEqualTo(2);
+    assertThat(cfg.getPredecessor(1, 0)).isEqualTo(0);
+    assertThat(cfg.getPredecessor(1, 1)).isEqualTo(2);
+    assertThat(cfg.getPredecessorCount(3)).isEqualTo(2);
+    assertThat(cfg.getPredecessor(3, 0)).isEqualTo(1);
+    assertThat(cfg.getPredecessor(3, 1)).isEqualTo(4);
+    assertThat(cfg.getPredecessorCount(0)).isEqualTo(0);
+
+    assertThat(cfg.getExitBlocks().asList()).containsExactly(3);
+  }
+
+  @Test
+  public void test_create_reversePostorder() {
+    FunctionCfg cfg = FunctionCfg.create(module.getFirstFunction().asFunction());
+
+    assertThat(cfg.getReversePostorder().asList()).containsExactly(0, 1, 3, 2).inOrder();
+    assertThat(cfg.getReversePostorderNumber(0)).isEqualTo(0);
+    assertThat(cfg.getReversePostorderNumber(2)).isEqualTo(3);
+    assertThat(cfg.isReachable(4)).isFalse();
+    assertThat(cfg.getReversePostorderNumber(4)).isEqualTo(-1);
+  }
+
+  @Test
+  public void test_create_declaration() {
+    Function g = module.getLastFunction().asFunction();
+    assertThrows(IllegalArgumentException.class, () -> FunctionCfg.create(g));
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.sun.jna.Pointer;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * Cursor over all instructions of a {@link Module}, in the order of functions, basic blocks and
+ * instructions. The cursor only holds native addresses and advances in place, so moving it and
+ * reading the op code, operand count or type kind of the current instruction does not create any
+ * objects. Wrapper objects for the current position are only created on request.
+ *
+ * <p>Function bodies that were not materialized yet, e.g., in a module opened with {@link
+ * Module#openLazy(String, Context)}, are materialized when the cursor enters them.
+ *
+ * <p>A cursor must not be used after its module is closed or modified.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * InstructionCursor cursor = InstructionCursor.create(module);
+ * while (cursor.next()) {
+ *   counts[cursor.getOpCode().ordinal()]++;
+ * }
+ * }</pre>
+ */
+public final class InstructionCursor {
+
+  private final Module module;
+
+  // native addresses of the current position, 0 if none
+  private long function = 0;
+  private long block = 0;
+  private long instruction = 0;
+
+  private boolean started = false;
+
+  private InstructionCursor(Module pModule) {
+    module = pModule;
+  }
+
+  /** Creates a cursor that is positioned before the first instruction of the given module. */
+  public static InstructionCursor create(Module pModule) {
+    checkNotNull(pModule);
+    return new InstructionCursor(pModule);
+  }
+
+  /**
+   * Moves this cursor to the next instruction.
+   *
+   * @return whether there is a next instruction. If not, the cursor stays after the last
+   *     instruction of the module.
+   */
+  public boolean next() {
+    if (instruction != 0) {
+      instruction = AddressBinding.LLVMGetNextInstruction(instruction);
+      if (instruction != 0) {
+        return true;
+      }
+      block = AddressBinding.LLVMGetNextBasicBlock(block);
+    } else if (!started) {
+      started = true;
+      function = AddressBinding.LLVMGetFirstFunction(AddressBinding.addressOf(module.getModule()));
+      block = getFirstBasicBlock(function);
+    } else {
+      return false;
+    }
+
+    while (true) {
+      while (block != 0) {
+        instruction = AddressBinding.LLVMGetFirstInstruction(block);
+        if (instruction != 0) {
+          return true;
+        }
+        block = AddressBinding.LLVMGetNextBasicBlock(block);
+      }
+      if (function == 0) {
+        return false;
+      }
+      function = AddressBinding.LLVMGetNextFunction(function);
+      if (function == 0) {
+        return false;
+      }
+      block = getFirstBasicBlock(function);
+    }
+  }
+
+  /**
+   * Returns the native address of the first basic block of the given function, or 0 if it has
+   * none. The body of the function is materialized if necessary.
+   */
+  static long getFirstBasicBlock(long pFunction) {
+    if (pFunction == 0) {
+      return 0;
+    }
+    long first = AddressBinding.LLVMGetFirstBasicBlock(pFunction);
+    if (first != 0 || AddressBinding.LLVMIsDeclaration(pFunction) != 0) {
+      return first;
+    }
+    // the body of the function is not materialized yet
+    new Value(new LLVMLibrary.LLVMValueRef(new Pointer(pFunction))).materializeIfLazy();
+    return AddressBinding.LLVMGetFirstBasicBlock(pFunction);
+  }
+
+  private void checkPositioned() {
+    checkState(instruction != 0, "Cursor is not positioned at an instruction");
+  }
+
+  /** Returns the native address of the current instruction. */
+  public long getInstructionAddress() {
+    checkPositioned();
+    return instruction;
+  }
+
+  /** Returns the native address of the basic block of the current instruction. */
+  public long getBasicBlockAddress() {
+    checkPositioned();
+    return block;
+  }
+
+  /** Returns the native address of the function of the current instruction. */
+  public long getFunctionAddress() {
+    checkPositioned();
+    return function;
+  }
+
+  /** Returns the op code of the current instruction. */
+  public Value.OpCode getOpCode() {
+    checkPositioned();
+    return Value.OpCode.fromValue(AddressBinding.LLVMGetInstructionOpcode(instruction));
+  }
+
+  /** Returns the number of operands of the current instruction. */
+  public int getNumOperands() {
+    checkPositioned();
+    return AddressBinding.LLVMGetNumOperands(instruction);
+  }
+
+  /** Returns the kind of the type of the current instruction. */
+  public TypeRef.TypeKind getTypeKind() {
+    checkPositioned();
+    return TypeRef.toTypeKind(
+        AddressBinding.LLVMGetTypeKind(AddressBinding.LLVMTypeOf(instruction)));
+  }
+
+  /** Returns the current instruction as {@link Value}. */
+  public Value getInstruction() {
+    checkPositioned();
+    return WrapperTable.value(module.wrappers(), instruction);
+  }
+
+  /** Returns the basic block of the current instruction. */
+  public BasicBlock getBasicBlock() {
+    checkPositioned();
+    return WrapperTable.basicBlock(module.wrappers(), block);
+  }
+
+  /** Returns the function of the current instruction. */
+  public Function getFunction() {
+    checkPositioned();
+    return WrapperTable.function(
+        module.wrappers(), new LLVMLibrary.LLVMValueRef(new Pointer(function)));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class InstructionCursorTest extends ModuleTestCase {
+
+  @Test
+  public void test_next_visitsAllInstructions() {
+    List<Value> expected = new ArrayList<>();
+    for (Value function : module) {
+      if (function.isDeclaration()) {
+        continue;
+      }
+      for (BasicBlock block : function.asFunction()) {
+        for (Value instruction : block) {
+          expected.add(instruction);
+        }
+      }
+    }
+
+    List<Value> visited = new ArrayList<>();
+    InstructionCursor cursor = InstructionCursor.create(module);
+    while (cursor.next()) {
+      assertThat(cursor.getOpCode()).isEqualTo(cursor.getInstruction().getOpCode());
+      assertThat(cursor.getNumOperands()).isEqualTo(cursor.getInstruction().getNumOperands());
+      visited.add(cursor.getInstruction());
+    }
+
+    assertThat(visited).isEqualTo(expected);
+    assertThat(cursor.next()).isFalse();
+  }
+
+  @Test
+  public void test_getOpCode_beforeFirst() {
+    try {
+      InstructionCursor.create(module).getOpCode();
+      fail("Cursor returned op code before the first instruction");
+    } catch (IllegalStateException expected) {
+      // expected
+    }
+  }
+}
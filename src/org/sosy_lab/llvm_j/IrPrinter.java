@@ -0,0 +1,137 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Var;
+import com.sun.jna.Pointer;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prints values, types and modules in textual LLVM IR.
+ *
+ * <p>LLVM prints into a string that it allocates and that has to be freed explicitly. The methods
+ * of this class always free it. The methods that take a {@link Writer} decode the string in chunks
+ * directly from native memory, so printing a large module does not create a Java string of the
+ * whole module.
+ */
+public final class IrPrinter {
+
+  private static final int CHUNK_SIZE = 8192;
+
+  private IrPrinter() {}
+
+  /** Returns the given value in textual LLVM IR. */
+  public static String print(Value pValue) {
+    checkNotNull(pValue);
+    return toString(CoreNatives.LLVMPrintValueToString(pValue.value()));
+  }
+
+  /** Returns the given type in textual LLVM IR. */
+  public static String print(TypeRef pType) {
+    checkNotNull(pType);
+    return toString(CoreNatives.LLVMPrintTypeToString(pType.type()));
+  }
+
+  /** Returns the given module in textual LLVM IR. */
+  public static String print(Module pModule) {
+    checkNotNull(pModule);
+    return toString(CoreNatives.LLVMPrintModuleToString(pModule.getModule()));
+  }
+
+  /** Writes the given value in textual LLVM IR to the given writer. */
+  public static void print(Value pValue, Writer pOut) throws IOException {
+    checkNotNull(pValue);
+    checkNotNull(pOut);
+    write(CoreNatives.LLVMPrintValueToString(pValue.value()), pOut);
+  }
+
+  /** Writes the given type in textual LLVM IR to the given writer. */
+  public static void print(TypeRef pType, Writer pOut) throws IOException {
+    checkNotNull(pType);
+    checkNotNull(pOut);
+    write(CoreNatives.LLVMPrintTypeToString(pType.type()), pOut);
+  }
+
+  /** Writes the given module in textual LLVM IR to the given writer. */
+  public static void print(Module pModule, Writer pOut) throws IOException {
+    checkNotNull(pModule);
+    checkNotNull(pOut);
+    write(CoreNatives.LLVMPrintModuleToString(pModule.getModule()), pOut);
+  }
+
+  private static String toString(Pointer pMessage) {
+    StringWriter out = new StringWriter();
+    try {
+      write(pMessage, out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // not thrown by StringWriter
+    }
+    return out.toString();
+  }
+
+  /** Decodes the given zero-terminated string of LLVM to the given writer and frees it. */
+  private static void write(Pointer pMessage, Writer pOut) throws IOException {
+    try {
+      ByteBuffer bytes = pMessage.getByteBuffer(0, pMessage.indexOf(0, (byte) 0));
+      CharsetDecoder decoder =
+          StandardCharsets.UTF_8
+              .newDecoder()
+              .onMalformedInput(CodingErrorAction.REPLACE)
+              .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+      @Var CoderResult result;
+      do {
+        result = decoder.decode(bytes, chars, true);
+        flush(chars, pOut);
+      } while (result.isOverflow());
+      do {
+        result = decoder.flush(chars);
+        flush(chars, pOut);
+      } while (result.isOverflow());
+    } finally {
+      CoreNatives.LLVMDisposeMessage(pMessage);
+    }
+  }
+
+  private static void flush(CharBuffer pChars, Writer pOut) throws IOException {
+    pChars.flip();
+    pOut.write(pChars.array(), pChars.arrayOffset(), pChars.limit());
+    pChars.clear();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.Test;
+
+public class IrPrinterTest extends ModuleTestCase {
+
+  private static final String IR =
+      "define i32 @f(i32 %a) {\n"
+          + "entry:\n"
+          + "  %x = add i32 %a, 1\n"
+          + "  ret i32 %x\n"
+          + "}\n";
+
+  public IrPrinterTest() {
+    super(IR);
+  }
+
+  @Test
+  public void test_print_value() throws IOException {
+    Value add = module.getFirstFunction().getFirstBasicBlock().getFirstInstruction();
+
+    assertThat(IrPrinter.print(add)).isEqualTo("  %x = add i32 %a, 1");
+    assertThat(add.toString()).isEqualTo(IrPrinter.print(add));
+
+    StringWriter out = new StringWriter();
+    IrPrinter.print(add, out);
+    assertThat(out.toString()).isEqualTo(IrPrinter.print(add));
+  }
+
+  @Test
+  public void test_print_type() {
+    TypeRef type = module.getFirstFunction().getFirstBasicBlock().getFirstInstruction().typeOf();
+
+    assertThat(IrPrinter.print(type)).isEqualTo("i32");
+    assertThat(type.toString()).isEqualTo("i32");
+  }
+
+  @Test
+  public void test_print_module() throws IOException {
+    String printed = IrPrinter.print(module);
+    assertThat(printed).contains("define i32 @f(i32 %a)");
+
+    StringWriter out = new StringWriter();
+    IrPrinter.print(module, out);
+    assertThat(out.toString()).isEqualTo(printed);
+  }
+}
@@ -0,0 +1,1091 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.sun.jna.Native;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * {@link AddressBackend} that uses JNA direct mapping. This is the default backend and works on all
+ * supported Java versions.
+ */
+final class JnaAddressBackend implements AddressBackend {
+
+  /** The native methods, registered when this class is first used. */
+  private static final class Natives {
+
+    static {
+      Native.register(Natives.class, LLVMLibrary.JNA_NATIVE_LIB);
+    }
+
+    private Natives() {}
+
+    static native long LLVMGetFirstFunction(long pModule);
+
+    static native long LLVMGetLastFunction(long pModule);
+
+    static native long LLVMGetFirstGlobal(long pModule);
+
+    static native long LLVMGetLastGlobal(long pModule);
+
+    static native long LLVMGetNextFunction(long pFunction);
+
+    static native long LLVMGetPreviousFunction(long pFunction);
+
+    static native long LLVMGetNextGlobal(long pGlobal);
+
+    static native long LLVMGetPreviousGlobal(long pGlobal);
+
+    static native int LLVMIsDeclaration(long pGlobal);
+
+    static native int LLVMGetLinkage(long pGlobal);
+
+    static native int LLVMGetVisibility(long pGlobal);
+
+    static native int LLVMGetAlignment(long pValue);
+
+    static native long LLVMGetInitializer(long pGlobal);
+
+    static native int LLVMIsThreadLocal(long pGlobal);
+
+    static native int LLVMIsGlobalConstant(long pGlobal);
+
+    static native int LLVMIsExternallyInitialized(long pGlobal);
+
+    static native int LLVMCountParams(long pFunction);
+
+    static native long LLVMGetParam(long pFunction, int pIndex);
+
+    static native long LLVMGetFirstParam(long pFunction);
+
+    static native long LLVMGetLastParam(long pFunction);
+
+    static native long LLVMGetNextParam(long pValue);
+
+    static native long LLVMGetPreviousParam(long pValue);
+
+    static native long LLVMGetParamParent(long pValue);
+
+    static native int LLVMGetFunctionCallConv(long pFunction);
+
+    static native int LLVMCountBasicBlocks(long pFunction);
+
+    static native long LLVMGetFirstBasicBlock(long pFunction);
+
+    static native long LLVMGetLastBasicBlock(long pFunction);
+
+    static native long LLVMGetEntryBasicBlock(long pFunction);
+
+    static native String LLVMGetValueName(long pValue);
+
+    static native long LLVMTypeOf(long pValue);
+
+    static native int LLVMIsConstant(long pValue);
+
+    static native int LLVMIsNull(long pValue);
+
+    static native int LLVMIsUndef(long pValue);
+
+    static native int LLVMValueIsBasicBlock(long pValue);
+
+    static native long LLVMValueAsBasicBlock(long pValue);
+
+    static native long LLVMConstIntGetZExtValue(long pValue);
+
+    static native long LLVMConstIntGetSExtValue(long pValue);
+
+    static native int LLVMGetConstOpcode(long pValue);
+
+    static native int LLVMGetNumOperands(long pValue);
+
+    static native long LLVMGetOperand(long pValue, int pIndex);
+
+    static native long LLVMGetFirstUse(long pValue);
+
+    static native long LLVMGetNextUse(long pUse);
+
+    static native long LLVMGetUser(long pUse);
+
+    static native int LLVMGetMDNodeNumOperands(long pValue);
+
+    static native void LLVMGetMDNodeOperands(long pValue, long[] pDest);
+
+    static native long LLVMGetNextBasicBlock(long pBasicBlock);
+
+    static native long LLVMGetPreviousBasicBlock(long pBasicBlock);
+
+    static native long LLVMGetFirstInstruction(long pBasicBlock);
+
+    static native long LLVMGetLastInstruction(long pBasicBlock);
+
+    static native long LLVMGetBasicBlockTerminator(long pBasicBlock);
+
+    static native long LLVMGetBasicBlockParent(long pBasicBlock);
+
+    static native long LLVMBasicBlockAsValue(long pBasicBlock);
+
+    static native long LLVMGetNextInstruction(long pInstruction);
+
+    static native long LLVMGetPreviousInstruction(long pInstruction);
+
+    static native long LLVMGetInstructionParent(long pInstruction);
+
+    static native int LLVMGetInstructionOpcode(long pInstruction);
+
+    static native int LLVMGetICmpPredicate(long pInstruction);
+
+    static native int LLVMGetFCmpPredicate(long pInstruction);
+
+    static native int LLVMGetNumSuccessors(long pTerminator);
+
+    static native long LLVMGetSuccessor(long pTerminator, int pIndex);
+
+    static native int LLVMIsConditional(long pBranch);
+
+    static native long LLVMGetCondition(long pBranch);
+
+    static native int LLVMCountIncoming(long pPhiNode);
+
+    static native long LLVMGetIncomingValue(long pPhiNode, int pIndex);
+
+    static native long LLVMGetIncomingBlock(long pPhiNode, int pIndex);
+
+    static native long LLVMGetCalledValue(long pInstruction);
+
+    static native int LLVMGetNumArgOperands(long pInstruction);
+
+    static native int LLVMGetInstructionCallConv(long pInstruction);
+
+    static native int LLVMIsTailCall(long pInstruction);
+
+    static native long LLVMGetAllocatedType(long pInstruction);
+
+    static native long LLVMIsAArgument(long pValue);
+
+    static native long LLVMIsABasicBlock(long pValue);
+
+    static native long LLVMIsAInlineAsm(long pValue);
+
+    static native long LLVMIsAUser(long pValue);
+
+    static native long LLVMIsAConstantAggregateZero(long pValue);
+
+    static native long LLVMIsAConstantArray(long pValue);
+
+    static native long LLVMIsAConstantDataArray(long pValue);
+
+    static native long LLVMIsAConstantExpr(long pValue);
+
+    static native long LLVMIsAConstantFP(long pValue);
+
+    static native long LLVMIsAConstantInt(long pValue);
+
+    static native long LLVMIsAConstantPointerNull(long pValue);
+
+    static native long LLVMIsAConstantStruct(long pValue);
+
+    static native long LLVMIsAConstantVector(long pValue);
+
+    static native long LLVMIsAGlobalValue(long pValue);
+
+    static native long LLVMIsAFunction(long pValue);
+
+    static native long LLVMIsAGlobalAlias(long pValue);
+
+    static native long LLVMIsAGlobalVariable(long pValue);
+
+    static native long LLVMIsAUndefValue(long pValue);
+
+    static native long LLVMIsAInstruction(long pValue);
+
+    static native long LLVMIsABinaryOperator(long pValue);
+
+    static native long LLVMIsACallInst(long pValue);
+
+    static native long LLVMIsAIntrinsicInst(long pValue);
+
+    static native long LLVMIsADbgInfoIntrinsic(long pValue);
+
+    static native long LLVMIsADbgDeclareInst(long pValue);
+
+    static native long LLVMIsAMemIntrinsic(long pValue);
+
+    static native long LLVMIsAMemCpyInst(long pValue);
+
+    static native long LLVMIsAMemMoveInst(long pValue);
+
+    static native long LLVMIsAMemSetInst(long pValue);
+
+    static native long LLVMIsACmpInst(long pValue);
+
+    static native long LLVMIsAFCmpInst(long pValue);
+
+    static native long LLVMIsAICmpInst(long pValue);
+
+    static native long LLVMIsAExtractElementInst(long pValue);
+
+    static native long LLVMIsAGetElementPtrInst(long pValue);
+
+    static native long LLVMIsAInsertElementInst(long pValue);
+
+    static native long LLVMIsAInsertValueInst(long pValue);
+
+    static native long LLVMIsAPHINode(long pValue);
+
+    static native long LLVMIsASelectInst(long pValue);
+
+    static native long LLVMIsAShuffleVectorInst(long pValue);
+
+    static native long LLVMIsAStoreInst(long pValue);
+
+    static native long LLVMIsATerminatorInst(long pValue);
+
+    static native long LLVMIsABranchInst(long pValue);
+
+    static native long LLVMIsAIndirectBrInst(long pValue);
+
+    static native long LLVMIsAInvokeInst(long pValue);
+
+    static native long LLVMIsAReturnInst(long pValue);
+
+    static native long LLVMIsASwitchInst(long pValue);
+
+    static native long LLVMIsAUnreachableInst(long pValue);
+
+    static native long LLVMIsAUnaryInstruction(long pValue);
+
+    static native long LLVMIsAAllocaInst(long pValue);
+
+    static native long LLVMIsACastInst(long pValue);
+
+    static native long LLVMIsABitCastInst(long pValue);
+
+    static native long LLVMIsAFPExtInst(long pValue);
+
+    static native long LLVMIsAFPToSIInst(long pValue);
+
+    static native long LLVMIsAFPToUIInst(long pValue);
+
+    static native long LLVMIsAFPTruncInst(long pValue);
+
+    static native long LLVMIsAIntToPtrInst(long pValue);
+
+    static native long LLVMIsAPtrToIntInst(long pValue);
+
+    static native long LLVMIsASExtInst(long pValue);
+
+    static native long LLVMIsASIToFPInst(long pValue);
+
+    static native long LLVMIsATruncInst(long pValue);
+
+    static native long LLVMIsAUIToFPInst(long pValue);
+
+    static native long LLVMIsAZExtInst(long pValue);
+
+    static native long LLVMIsAExtractValueInst(long pValue);
+
+    static native long LLVMIsALoadInst(long pValue);
+
+    static native long LLVMIsAVAArgInst(long pValue);
+
+    static native long LLVMIsAMDNode(long pValue);
+
+    static native int LLVMGetTypeKind(long pType);
+
+    static native int LLVMGetIntTypeWidth(long pType);
+
+    static native int LLVMIsFunctionVarArg(long pType);
+
+    static native long LLVMGetReturnType(long pType);
+
+    static native int LLVMCountParamTypes(long pType);
+
+    static native int LLVMCountStructElementTypes(long pType);
+
+    static native long LLVMStructGetTypeAtIndex(long pType, int pIndex);
+
+    static native int LLVMIsPackedStruct(long pType);
+
+    static native int LLVMIsOpaqueStruct(long pType);
+
+    static native long LLVMGetElementType(long pType);
+
+    static native int LLVMGetArrayLength(long pType);
+
+    static native int LLVMGetPointerAddressSpace(long pType);
+
+    static native int LLVMGetVectorSize(long pType);
+
+    static native int LLVMRunFunctionPassManager(long pPassManager, long pFunction);
+  }
+
+  @Override
+  public long LLVMGetFirstFunction(long pModule) {
+    return Natives.LLVMGetFirstFunction(pModule);
+  }
+
+  @Override
+  public long LLVMGetLastFunction(long pModule) {
+    return Natives.LLVMGetLastFunction(pModule);
+  }
+
+  @Override
+  public long LLVMGetFirstGlobal(long pModule) {
+    return Natives.LLVMGetFirstGlobal(pModule);
+  }
+
+  @Override
+  public long LLVMGetLastGlobal(long pModule) {
+    return Natives.LLVMGetLastGlobal(pModule);
+  }
+
+  @Override
+  public long LLVMGetNextFunction(long pFunction) {
+    return Natives.LLVMGetNextFunction(pFunction);
+  }
+
+  @Override
+  public long LLVMGetPreviousFunction(long pFunction) {
+    return Natives.LLVMGetPreviousFunction(pFunction);
+  }
+
+  @Override
+  public long LLVMGetNextGlobal(long pGlobal) {
+    return Natives.LLVMGetNextGlobal(pGlobal);
+  }
+
+  @Override
+  public long LLVMGetPreviousGlobal(long pGlobal) {
+    return Natives.LLVMGetPreviousGlobal(pGlobal);
+  }
+
+  @Override
+  public int LLVMIsDeclaration(long pGlobal) {
+    return Natives.LLVMIsDeclaration(pGlobal);
+  }
+
+  @Override
+  public int LLVMGetLinkage(long pGlobal) {
+    return Natives.LLVMGetLinkage(pGlobal);
+  }
+
+  @Override
+  public int LLVMGetVisibility(long pGlobal) {
+    return Natives.LLVMGetVisibility(pGlobal);
+  }
+
+  @Override
+  public int LLVMGetAlignment(long pValue) {
+    return Natives.LLVMGetAlignment(pValue);
+  }
+
+  @Override
+  public long LLVMGetInitializer(long pGlobal) {
+    return Natives.LLVMGetInitializer(pGlobal);
+  }
+
+  @Override
+  public int LLVMIsThreadLocal(long pGlobal) {
+    return Natives.LLVMIsThreadLocal(pGlobal);
+  }
+
+  @Override
+  public int LLVMIsGlobalConstant(long pGlobal) {
+    return Natives.LLVMIsGlobalConstant(pGlobal);
+  }
+
+  @Override
+  public int LLVMIsExternallyInitialized(long pGlobal) {
+    return Natives.LLVMIsExternallyInitialized(pGlobal);
+  }
+
+  @Override
+  public int LLVMCountParams(long pFunction) {
+    return Natives.LLVMCountParams(pFunction);
+  }
+
+  @Override
+  public long LLVMGetParam(long pFunction, int pIndex) {
+    return Natives.LLVMGetParam(pFunction, pIndex);
+  }
+
+  @Override
+  public long LLVMGetFirstParam(long pFunction) {
+    return Natives.LLVMGetFirstParam(pFunction);
+  }
+
+  @Override
+  public long LLVMGetLastParam(long pFunction) {
+    return Natives.LLVMGetLastParam(pFunction);
+  }
+
+  @Override
+  public long LLVMGetNextParam(long pValue) {
+    return Natives.LLVMGetNextParam(pValue);
+  }
+
+  @Override
+  public long LLVMGetPreviousParam(long pValue) {
+    return Natives.LLVMGetPreviousParam(pValue);
+  }
+
+  @Override
+  public long LLVMGetParamParent(long pValue) {
+    return Natives.LLVMGetParamParent(pValue);
+  }
+
+  @Override
+  public int LLVMGetFunctionCallConv(long pFunction) {
+    return Natives.LLVMGetFunctionCallConv(pFunction);
+  }
+
+  @Override
+  public int LLVMCountBasicBlocks(long pFunction) {
+    return Natives.LLVMCountBasicBlocks(pFunction);
+  }
+
+  @Override
+  public long LLVMGetFirstBasicBlock(long pFunction) {
+    return Natives.LLVMGetFirstBasicBlock(pFunction);
+  }
+
+  @Override
+  public long LLVMGetLastBasicBlock(long pFunction) {
+    return Natives.LLVMGetLastBasicBlock(pFunction);
+  }
+
+  @Override
+  public long LLVMGetEntryBasicBlock(long pFunction) {
+    return Natives.LLVMGetEntryBasicBlock(pFunction);
+  }
+
+  @Override
+  public String LLVMGetValueName(long pValue) {
+    return Natives.LLVMGetValueName(pValue);
+  }
+
+  @Override
+  public long LLVMTypeOf(long pValue) {
+    return Natives.LLVMTypeOf(pValue);
+  }
+
+  @Override
+  public int LLVMIsConstant(long pValue) {
+    return Natives.LLVMIsConstant(pValue);
+  }
+
+  @Override
+  public int LLVMIsNull(long pValue) {
+    return Natives.LLVMIsNull(pValue);
+  }
+
+  @Override
+  public int LLVMIsUndef(long pValue) {
+    return Natives.LLVMIsUndef(pValue);
+  }
+
+  @Override
+  public int LLVMValueIsBasicBlock(long pValue) {
+    return Natives.LLVMValueIsBasicBlock(pValue);
+  }
+
+  @Override
+  public long LLVMValueAsBasicBlock(long pValue) {
+    return Natives.LLVMValueAsBasicBlock(pValue);
+  }
+
+  @Override
+  public long LLVMConstIntGetZExtValue(long pValue) {
+    return Natives.LLVMConstIntGetZExtValue(pValue);
+  }
+
+  @Override
+  public long LLVMConstIntGetSExtValue(long pValue) {
+    return Natives.LLVMConstIntGetSExtValue(pValue);
+  }
+
+  @Override
+  public int LLVMGetConstOpcode(long pValue) {
+    return Natives.LLVMGetConstOpcode(pValue);
+  }
+
+  @Override
+  public int LLVMGetNumOperands(long pValue) {
+    return Natives.LLVMGetNumOperands(pValue);
+  }
+
+  @Override
+  public long LLVMGetOperand(long pValue, int pIndex) {
+    return Natives.LLVMGetOperand(pValue, pIndex);
+  }
+
+  @Override
+  public long LLVMGetFirstUse(long pValue) {
+    return Natives.LLVMGetFirstUse(pValue);
+  }
+
+  @Override
+  public long LLVMGetNextUse(long pUse) {
+    return Natives.LLVMGetNextUse(pUse);
+  }
+
+  @Override
+  public long LLVMGetUser(long pUse) {
+    return Natives.LLVMGetUser(pUse);
+  }
+
+  @Override
+  public int LLVMGetMDNodeNumOperands(long pValue) {
+    return Natives.LLVMGetMDNodeNumOperands(pValue);
+  }
+
+  @Override
+  public void LLVMGetMDNodeOperands(long pValue, long[] pDest) {
+    Natives.LLVMGetMDNodeOperands(pValue, pDest);
+  }
+
+  @Override
+  public long LLVMGetNextBasicBlock(long pBasicBlock) {
+    return Natives.LLVMGetNextBasicBlock(pBasicBlock);
+  }
+
+  @Override
+  public long LLVMGetPreviousBasicBlock(long pBasicBlock) {
+    return Natives.LLVMGetPreviousBasicBlock(pBasicBlock);
+  }
+
+  @Override
+  public long LLVMGetFirstInstruction(long pBasicBlock) {
+    return Natives.LLVMGetFirstInstruction(pBasicBlock);
+  }
+
+  @Override
+  public long LLVMGetLastInstruction(long pBasicBlock) {
+    return Natives.LLVMGetLastInstruction(pBasicBlock);
+  }
+
+  @Override
+  public long LLVMGetBasicBlockTerminator(long pBasicBlock) {
+    return Natives.LLVMGetBasicBlockTerminator(pBasicBlock);
+  }
+
+  @Override
+  public long LLVMGetBasicBlockParent(long pBasicBlock) {
+    return Natives.LLVMGetBasicBlockParent(pBasicBlock);
+  }
+
+  @Override
+  public long LLVMBasicBlockAsValue(long pBasicBlock) {
+    return Natives.LLVMBasicBlockAsValue(pBasicBlock);
+  }
+
+  @Override
+  public long LLVMGetNextInstruction(long pInstruction) {
+    return Natives.LLVMGetNextInstruction(pInstruction);
+  }
+
+  @Override
+  public long LLVMGetPreviousInstruction(long pInstruction) {
+    return Natives.LLVMGetPreviousInstruction(pInstruction);
+  }
+
+  @Override
+  public long LLVMGetInstructionParent(long pInstruction) {
+    return Natives.LLVMGetInstructionParent(pInstruction);
+  }
+
+  @Override
+  public int LLVMGetInstructionOpcode(long pInstruction) {
+    return Natives.LLVMGetInstructionOpcode(pInstruction);
+  }
+
+  @Override
+  public int LLVMGetICmpPredicate(long pInstruction) {
+    return Natives.LLVMGetICmpPredicate(pInstruction);
+  }
+
+  @Override
+  public int LLVMGetFCmpPredicate(long pInstruction) {
+    return Natives.LLVMGetFCmpPredicate(pInstruction);
+  }
+
+  @Override
+  public int LLVMGetNumSuccessors(long pTerminator) {
+    return Natives.LLVMGetNumSuccessors(pTerminator);
+  }
+
+  @Override
+  public long LLVMGetSuccessor(long pTerminator, int pIndex) {
+    return Natives.LLVMGetSuccessor(pTerminator, pIndex);
+  }
+
+  @Override
+  public int LLVMIsConditional(long pBranch) {
+    return Natives.LLVMIsConditional(pBranch);
+  }
+
+  @Override
+  public long LLVMGetCondition(long pBranch) {
+    return Natives.LLVMGetCondition(pBranch);
+  }
+
+  @Override
+  public int LLVMCountIncoming(long pPhiNode) {
+    return Natives.LLVMCountIncoming(pPhiNode);
+  }
+
+  @Override
+  public long LLVMGetIncomingValue(long pPhiNode, int pIndex) {
+    return Natives.LLVMGetIncomingValue(pPhiNode, pIndex);
+  }
+
+  @Override
+  public long LLVMGetIncomingBlock(long pPhiNode, int pIndex) {
+    return Natives.LLVMGetIncomingBlock(pPhiNode, pIndex);
+  }
+
+  @Override
+  public long LLVMGetCalledValue(long pInstruction) {
+    return Natives.LLVMGetCalledValue(pInstruction);
+  }
+
+  @Override
+  public int LLVMGetNumArgOperands(long pInstruction) {
+    return Natives.LLVMGetNumArgOperands(pInstruction);
+  }
+
+  @Override
+  public int LLVMGetInstructionCallConv(long pInstruction) {
+    return Natives.LLVMGetInstructionCallConv(pInstruction);
+  }
+
+  @Override
+  public int LLVMIsTailCall(long pInstruction) {
+    return Natives.LLVMIsTailCall(pInstruction);
+  }
+
+  @Override
+  public long LLVMGetAllocatedType(long pInstruction) {
+    return Natives.LLVMGetAllocatedType(pInstruction);
+  }
+
+  @Override
+  public long LLVMIsAArgument(long pValue) {
+    return Natives.LLVMIsAArgument(pValue);
+  }
+
+  @Override
+  public long LLVMIsABasicBlock(long pValue) {
+    return Natives.LLVMIsABasicBlock(pValue);
+  }
+
+  @Override
+  public long LLVMIsAInlineAsm(long pValue) {
+    return Natives.LLVMIsAInlineAsm(pValue);
+  }
+
+  @Override
+  public long LLVMIsAUser(long pValue) {
+    return Natives.LLVMIsAUser(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantAggregateZero(long pValue) {
+    return Natives.LLVMIsAConstantAggregateZero(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantArray(long pValue) {
+    return Natives.LLVMIsAConstantArray(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantDataArray(long pValue) {
+    return Natives.LLVMIsAConstantDataArray(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantExpr(long pValue) {
+    return Natives.LLVMIsAConstantExpr(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantFP(long pValue) {
+    return Natives.LLVMIsAConstantFP(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantInt(long pValue) {
+    return Natives.LLVMIsAConstantInt(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantPointerNull(long pValue) {
+    return Natives.LLVMIsAConstantPointerNull(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantStruct(long pValue) {
+    return Natives.LLVMIsAConstantStruct(pValue);
+  }
+
+  @Override
+  public long LLVMIsAConstantVector(long pValue) {
+    return Natives.LLVMIsAConstantVector(pValue);
+  }
+
+  @Override
+  public long LLVMIsAGlobalValue(long pValue) {
+    return Natives.LLVMIsAGlobalValue(pValue);
+  }
+
+  @Override
+  public long LLVMIsAFunction(long pValue) {
+    return Natives.LLVMIsAFunction(pValue);
+  }
+
+  @Override
+  public long LLVMIsAGlobalAlias(long pValue) {
+    return Natives.LLVMIsAGlobalAlias(pValue);
+  }
+
+  @Override
+  public long LLVMIsAGlobalVariable(long pValue) {
+    return Natives.LLVMIsAGlobalVariable(pValue);
+  }
+
+  @Override
+  public long LLVMIsAUndefValue(long pValue) {
+    return Natives.LLVMIsAUndefValue(pValue);
+  }
+
+  @Override
+  public long LLVMIsAInstruction(long pValue) {
+    return Natives.LLVMIsAInstruction(pValue);
+  }
+
+  @Override
+  public long LLVMIsABinaryOperator(long pValue) {
+    return Natives.LLVMIsABinaryOperator(pValue);
+  }
+
+  @Override
+  public long LLVMIsACallInst(long pValue) {
+    return Natives.LLVMIsACallInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAIntrinsicInst(long pValue) {
+    return Natives.LLVMIsAIntrinsicInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsADbgInfoIntrinsic(long pValue) {
+    return Natives.LLVMIsADbgInfoIntrinsic(pValue);
+  }
+
+  @Override
+  public long LLVMIsADbgDeclareInst(long pValue) {
+    return Natives.LLVMIsADbgDeclareInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAMemIntrinsic(long pValue) {
+    return Natives.LLVMIsAMemIntrinsic(pValue);
+  }
+
+  @Override
+  public long LLVMIsAMemCpyInst(long pValue) {
+    return Natives.LLVMIsAMemCpyInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAMemMoveInst(long pValue) {
+    return Natives.LLVMIsAMemMoveInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAMemSetInst(long pValue) {
+    return Natives.LLVMIsAMemSetInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsACmpInst(long pValue) {
+    return Natives.LLVMIsACmpInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAFCmpInst(long pValue) {
+    return Natives.LLVMIsAFCmpInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAICmpInst(long pValue) {
+    return Natives.LLVMIsAICmpInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAExtractElementInst(long pValue) {
+    return Natives.LLVMIsAExtractElementInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAGetElementPtrInst(long pValue) {
+    return Natives.LLVMIsAGetElementPtrInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAInsertElementInst(long pValue) {
+    return Natives.LLVMIsAInsertElementInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAInsertValueInst(long pValue) {
+    return Natives.LLVMIsAInsertValueInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAPHINode(long pValue) {
+    return Natives.LLVMIsAPHINode(pValue);
+  }
+
+  @Override
+  public long LLVMIsASelectInst(long pValue) {
+    return Natives.LLVMIsASelectInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAShuffleVectorInst(long pValue) {
+    return Natives.LLVMIsAShuffleVectorInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAStoreInst(long pValue) {
+    return Natives.LLVMIsAStoreInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsATerminatorInst(long pValue) {
+    return Natives.LLVMIsATerminatorInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsABranchInst(long pValue) {
+    return Natives.LLVMIsABranchInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAIndirectBrInst(long pValue) {
+    return Natives.LLVMIsAIndirectBrInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAInvokeInst(long pValue) {
+    return Natives.LLVMIsAInvokeInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAReturnInst(long pValue) {
+    return Natives.LLVMIsAReturnInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsASwitchInst(long pValue) {
+    return Natives.LLVMIsASwitchInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAUnreachableInst(long pValue) {
+    return Natives.LLVMIsAUnreachableInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAUnaryInstruction(long pValue) {
+    return Natives.LLVMIsAUnaryInstruction(pValue);
+  }
+
+  @Override
+  public long LLVMIsAAllocaInst(long pValue) {
+    return Natives.LLVMIsAAllocaInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsACastInst(long pValue) {
+    return Natives.LLVMIsACastInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsABitCastInst(long pValue) {
+    return Natives.LLVMIsABitCastInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAFPExtInst(long pValue) {
+    return Natives.LLVMIsAFPExtInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAFPToSIInst(long pValue) {
+    return Natives.LLVMIsAFPToSIInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAFPToUIInst(long pValue) {
+    return Natives.LLVMIsAFPToUIInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAFPTruncInst(long pValue) {
+    return Natives.LLVMIsAFPTruncInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAIntToPtrInst(long pValue) {
+    return Natives.LLVMIsAIntToPtrInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAPtrToIntInst(long pValue) {
+    return Natives.LLVMIsAPtrToIntInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsASExtInst(long pValue) {
+    return Natives.LLVMIsASExtInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsASIToFPInst(long pValue) {
+    return Natives.LLVMIsASIToFPInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsATruncInst(long pValue) {
+    return Natives.LLVMIsATruncInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAUIToFPInst(long pValue) {
+    return Natives.LLVMIsAUIToFPInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAZExtInst(long pValue) {
+    return Natives.LLVMIsAZExtInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAExtractValueInst(long pValue) {
+    return Natives.LLVMIsAExtractValueInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsALoadInst(long pValue) {
+    return Natives.LLVMIsALoadInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAVAArgInst(long pValue) {
+    return Natives.LLVMIsAVAArgInst(pValue);
+  }
+
+  @Override
+  public long LLVMIsAMDNode(long pValue) {
+    return Natives.LLVMIsAMDNode(pValue);
+  }
+
+  @Override
+  public int LLVMGetTypeKind(long pType) {
+    return Natives.LLVMGetTypeKind(pType);
+  }
+
+  @Override
+  public int LLVMGetIntTypeWidth(long pType) {
+    return Natives.LLVMGetIntTypeWidth(pType);
+  }
+
+  @Override
+  public int LLVMIsFunctionVarArg(long pType) {
+    return Natives.LLVMIsFunctionVarArg(pType);
+  }
+
+  @Override
+  public long LLVMGetReturnType(long pType) {
+    return Natives.LLVMGetReturnType(pType);
+  }
+
+  @Override
+  public int LLVMCountParamTypes(long pType) {
+    return Natives.LLVMCountParamTypes(pType);
+  }
+
+  @Override
+  public int LLVMCountStructElementTypes(long pType) {
+    return Natives.LLVMCountStructElementTypes(pType);
+  }
+
+  @Override
+  public long LLVMStructGetTypeAtIndex(long pType, int pIndex) {
+    return Natives.LLVMStructGetTypeAtIndex(pType, pIndex);
+  }
+
+  @Override
+  public int LLVMIsPackedStruct(long pType) {
+    return Natives.LLVMIsPackedStruct(pType);
+  }
+
+  @Override
+  public int LLVMIsOpaqueStruct(long pType) {
+    return Natives.LLVMIsOpaqueStruct(pType);
+  }
+
+  @Override
+  public long LLVMGetElementType(long pType) {
+    return Natives.LLVMGetElementType(pType);
+  }
+
+  @Override
+  public int LLVMGetArrayLength(long pType) {
+    return Natives.LLVMGetArrayLength(pType);
+  }
+
+  @Override
+  public int LLVMGetPointerAddressSpace(long pType) {
+    return Natives.LLVMGetPointerAddressSpace(pType);
+  }
+
+  @Override
+  public int LLVMGetVectorSize(long pType) {
+    return Natives.LLVMGetVectorSize(pType);
+  }
+
+  @Override
+  public int LLVMRunFunctionPassManager(long pPassManager, long pFunction) {
+    return Natives.LLVMRunFunctionPassManager(pPassManager, pFunction);
+  }
+}
@@ -29,15 +29,33 @@
 
 package org.sosy_lab.llvm_j;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.Serializable;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /** {@link Exception} in an LLVM component. */
 public final class LLVMException extends Exception implements Serializable {
 
   private static final long serialVersionUID = 8265315876168727104L;
 
+  /** Severity of the LLVM diagnostic an exception is based on. */
+  public enum Severity {
+    ERROR,
+    WARNING,
+    REMARK,
+    NOTE
+  }
+
+  private final @Nullable Severity severity;
+
+  // 0 if unknown, LLVM counts lines and columns from 1
+  private final int line;
+  private final int column;
+
   /**
    * Creates a new <code>LLVMException</code> with the given exception message.
    *
@@ -46,5 +64,54 @@ public final class LLVMException extends Exception implements Serializable {
   public LLVMException(String message) {
     super(message);
     checkNotNull(message);
+    severity = null;
+    line = 0;
+    column = 0;
+  }
+
+  /**
+   * Creates a new <code>LLVMException</code> that is based on an LLVM diagnostic without source
+   * location.
+   *
+   * @param message the exception message
+   * @param pSeverity the severity of the LLVM diagnostic
+   */
+  public LLVMException(String message, Severity pSeverity) {
+    this(message, pSeverity, 0, 0);
+  }
+
+  /**
+   * Creates a new <code>LLVMException</code> that is based on an LLVM diagnostic for the given
+   * source location.
+   *
+   * @param message the exception message
+   * @param pSeverity the severity of the LLVM diagnostic
+   * @param pLine the line of the diagnostic, starting at 1, or 0 if unknown
+   * @param pColumn the column of the diagnostic, starting at 1, or 0 if unknown
+   */
+  public LLVMException(String message, Severity pSeverity, int pLine, int pColumn) {
+    super(message);
+    checkNotNull(message);
+    checkNotNull(pSeverity);
+    checkArgument(pLine >= 0, "Negative line %s", pLine);
+    checkArgument(pColumn >= 0, "Negative column %s", pColumn);
+    severity = pSeverity;
+    line = pLine;
+    column = pColumn;
+  }
+
+  /** Returns the severity of the LLVM diagnostic, if this exception is based on one. */
+  public Optional<Severity> getSeverity() {
+    return Optional.ofNullable(severity);
+  }
+
+  /** Returns the line the LLVM diagnostic refers to, if known. */
+  public OptionalInt getLine() {
+    return line > 0 ? OptionalInt.of(line) : OptionalInt.empty();
+  }
+
+  /** Returns the column the LLVM diagnostic refers to, if known. */
+  public OptionalInt getColumn() {
+    return column > 0 ? OptionalInt.of(column) : OptionalInt.empty();
   }
 }
@@ -0,0 +1,126 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.errorprone.annotations.Var;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Map from non-zero <code>long</code> keys, usually native addresses, to objects. Keys are stored
+ * unboxed in an open-addressing table with linear probing, so lookups do not allocate.
+ *
+ * <p>Single entries can not be removed, only all entries at once. This class is not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+final class LongObjectMap<V> {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  // 0 marks an empty slot
+  private long[] keys;
+  private @Nullable Object[] values;
+  private int size = 0;
+
+  LongObjectMap() {
+    keys = new long[INITIAL_CAPACITY];
+    values = new Object[INITIAL_CAPACITY];
+  }
+
+  /** Returns the number of entries of this map. */
+  int size() {
+    return size;
+  }
+
+  /** Removes all entries of this map. */
+  void clear() {
+    keys = new long[INITIAL_CAPACITY];
+    values = new Object[INITIAL_CAPACITY];
+    size = 0;
+  }
+
+  /** Returns the value for the given key, or <code>null</code> if there is none. */
+  @SuppressWarnings("unchecked")
+  @Nullable V get(long pKey) {
+    int mask = keys.length - 1;
+    @Var int slot = slotOf(pKey, mask);
+    while (keys[slot] != 0) {
+      if (keys[slot] == pKey) {
+        return (V) values[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return null;
+  }
+
+  /** Sets the value for the given key, replacing the previous value of the key, if any. */
+  void put(long pKey, V pValue) {
+    checkArgument(pKey != 0, "Key must not be 0");
+    int mask = keys.length - 1;
+    @Var int slot = slotOf(pKey, mask);
+    while (keys[slot] != 0) {
+      if (keys[slot] == pKey) {
+        values[slot] = pValue;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = pKey;
+    values[slot] = pValue;
+    size++;
+    if (size * 2 > keys.length) {
+      resize(keys.length * 2);
+    }
+  }
+
+  private void resize(int pCapacity) {
+    long[] oldKeys = keys;
+    @Nullable Object[] oldValues = values;
+    keys = new long[pCapacity];
+    values = new Object[pCapacity];
+    int mask = pCapacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != 0) {
+        @Var int slot = slotOf(oldKeys[i], mask);
+        while (keys[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int slotOf(long pKey, int pMask) {
+    // addresses are aligned, so mix the high bits into the low bits that select the slot
+    long hash = pKey * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & pMask;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class LongObjectMapTest {
+
+  @Test
+  public void test_get_missingKey() {
+    LongObjectMap<String> map = new LongObjectMap<>();
+
+    assertThat(map.get(42)).isNull();
+  }
+
+  @Test
+  public void test_put_replacesValue() {
+    LongObjectMap<String> map = new LongObjectMap<>();
+    map.put(42, "a");
+    map.put(42, "b");
+
+    assertThat(map.get(42)).isEqualTo("b");
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_clear() {
+    LongObjectMap<String> map = new LongObjectMap<>();
+    map.put(42, "a");
+    map.clear();
+
+    assertThat(map.get(42)).isNull();
+    assertThat(map.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_put_manyAlignedKeys() {
+    LongObjectMap<Long> map = new LongObjectMap<>();
+    int count = 10_000;
+    for (long i = 1; i <= count; i++) {
+      map.put(i * 16, i);
+    }
+
+    assertThat(map.size()).isEqualTo(count);
+    for (long i = 1; i <= count; i++) {
+      assertThat(map.get(i * 16)).isEqualTo(i);
+    }
+    assertThat(map.get(8)).isNull();
+  }
+}
@@ -0,0 +1,364 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+
+/**
+ * Immutable forest of the natural loops of a function. Blocks are identified by their ids in the
+ * {@link FunctionCfg} the forest was computed from, loops by dense <code>int</code> ids.
+ *
+ * <p>A natural loop is defined by its header, which dominates all blocks of the loop, and its
+ * latches, i.e., the sources of back edges to the header. All back edges to the same header form a
+ * single loop. Loops are either nested or disjoint, and loop ids follow the reverse postorder of
+ * their headers, so an enclosing loop always has a smaller id than the loops it contains.
+ *
+ * <p>Cycles that are entered through more than one block are not natural loops. Their entry
+ * blocks are reported as {@link #isIrreducibleEntry(int) irreducible entries}, but no loop is
+ * created for them.
+ *
+ * <p>The blocks of each loop are stored as a bitset, so membership tests take constant time.
+ *
+ * @see FunctionAnalyses#getLoops()
+ */
+public final class LoopForest {
+
+  private final int blockCount;
+  private final int wordsPerLoop;
+
+  private final int[] headers;
+  private final int[] parents; // -1 for top-level loops
+  private final int[] depths;
+  private final int[] loopSizes;
+  private final long[] members; // wordsPerLoop words for each loop
+
+  private final int[] latchStarts; // length + 1
+  private final ImmutableIntArray latches;
+  private final int[] exitingStarts; // length + 1
+  private final ImmutableIntArray exitingBlocks;
+  private final int[] exitStarts; // length + 1
+  private final ImmutableIntArray exitBlocks;
+
+  private final int[] blockLoops; // innermost loop of each block, -1 if none
+  private final boolean[] irreducibleEntries;
+  private final boolean[] irreducibleLoops;
+  private final boolean irreducible;
+
+  private LoopForest(FunctionCfg pCfg, DominatorTree pDominators) {
+    blockCount = pCfg.getBlockCount();
+    wordsPerLoop = (blockCount + 63) >>> 6;
+
+    // headers in reverse postorder, with their latches
+    ImmutableIntArray order = pCfg.getReversePostorder();
+    ImmutableIntArray.Builder headerList = ImmutableIntArray.builder();
+    ImmutableIntArray.Builder latchList = ImmutableIntArray.builder();
+    ImmutableIntArray.Builder latchStartList = ImmutableIntArray.builder();
+    @Var int latchCount = 0;
+    irreducibleEntries = new boolean[blockCount];
+    @Var boolean anyIrreducible = false;
+    for (int i = 0; i < order.length(); i++) {
+      int block = order.get(i);
+      @Var boolean isHeader = false;
+      for (int j = 0; j < pCfg.getPredecessorCount(block); j++) {
+        int predecessor = pCfg.getPredecessor(block, j);
+        if (!pCfg.isReachable(predecessor)
+            || pCfg.getReversePostorderNumber(predecessor) < i) {
+          continue; // not a retreating edge
+        }
+        if (pDominators.dominates(block, predecessor)) {
+          if (!isHeader) {
+            isHeader = true;
+            headerList.add(block);
+            latchStartList.add(latchCount);
+          }
+          latchList.add(predecessor);
+          latchCount++;
+        } else {
+          irreducibleEntries[block] = true;
+          anyIrreducible = true;
+        }
+      }
+    }
+    latchStartList.add(latchCount);
+    headers = headerList.build().toArray();
+    latchStarts = latchStartList.build().toArray();
+    latches = latchList.build();
+    irreducible = anyIrreducible;
+
+    int loopCount = headers.length;
+    parents = new int[loopCount];
+    depths = new int[loopCount];
+    loopSizes = new int[loopCount];
+    members = new long[loopCount * wordsPerLoop];
+    blockLoops = new int[blockCount];
+    Arrays.fill(blockLoops, -1);
+    irreducibleLoops = new boolean[loopCount];
+
+    // Loops are processed outside-in, so the innermost loop of a block is the last one that
+    // contains it, and the parent of a loop is the innermost earlier loop of its header.
+    int[] worklist = new int[blockCount];
+    for (int loop = 0; loop < loopCount; loop++) {
+      int header = headers[loop];
+      parents[loop] = blockLoops[header];
+      depths[loop] = parents[loop] < 0 ? 1 : depths[parents[loop]] + 1;
+
+      // the body consists of all blocks that reach a latch without passing the header
+      add(loop, header);
+      @Var int worklistSize = 0;
+      for (int i = latchStarts[loop]; i < latchStarts[loop + 1]; i++) {
+        int latch = latches.get(i);
+        if (add(loop, latch)) {
+          worklist[worklistSize++] = latch;
+        }
+      }
+      while (worklistSize > 0) {
+        int block = worklist[--worklistSize];
+        for (int j = 0; j < pCfg.getPredecessorCount(block); j++) {
+          int predecessor = pCfg.getPredecessor(block, j);
+          if (pCfg.isReachable(predecessor) && add(loop, predecessor)) {
+            worklist[worklistSize++] = predecessor;
+          }
+        }
+      }
+
+      for (@Var int block = getNextBlock(loop, 0);
+          block >= 0;
+          block = getNextBlock(loop, block + 1)) {
+        blockLoops[block] = loop;
+        if (irreducibleEntries[block]) {
+          irreducibleLoops[loop] = true;
+        }
+      }
+    }
+
+    // exiting blocks and exit blocks
+    ImmutableIntArray.Builder exitingList = ImmutableIntArray.builder();
+    ImmutableIntArray.Builder exitList = ImmutableIntArray.builder();
+    exitingStarts = new int[loopCount + 1];
+    exitStarts = new int[loopCount + 1];
+    boolean[] isExit = new boolean[blockCount];
+    @Var int exitingCount = 0;
+    @Var int exitCount = 0;
+    for (int loop = 0; loop < loopCount; loop++) {
+      exitingStarts[loop] = exitingCount;
+      exitStarts[loop] = exitCount;
+      Arrays.fill(isExit, false);
+      for (@Var int block = getNextBlock(loop, 0);
+          block >= 0;
+          block = getNextBlock(loop, block + 1)) {
+        @Var boolean exiting = false;
+        for (int j = 0; j < pCfg.getSuccessorCount(block); j++) {
+          int successor = pCfg.getSuccessor(block, j);
+          if (!contains(loop, successor)) {
+            exiting = true;
+            isExit[successor] = true;
+          }
+        }
+        if (exiting) {
+          exitingList.add(block);
+          exitingCount++;
+        }
+      }
+      for (int block = 0; block < blockCount; block++) {
+        if (isExit[block]) {
+          exitList.add(block);
+          exitCount++;
+        }
+      }
+    }
+    exitingStarts[loopCount] = exitingCount;
+    exitStarts[loopCount] = exitCount;
+    exitingBlocks = exitingList.build();
+    exitBlocks = exitList.build();
+  }
+
+  /**
+   * Computes the loop forest of a function from its control-flow graph and its dominator tree.
+   *
+   * @throws IllegalArgumentException if the given tree is a post-dominator tree or belongs to a
+   *     different graph
+   */
+  public static LoopForest create(FunctionCfg pCfg, DominatorTree pDominators) {
+    checkNotNull(pCfg);
+    checkNotNull(pDominators);
+    checkArgument(!pDominators.isPostDominatorTree(), "Loops require a dominator tree");
+    checkArgument(
+        pDominators.getBlockCount() == pCfg.getBlockCount(),
+        "Dominator tree does not belong to the control-flow graph");
+    return new LoopForest(pCfg, pDominators);
+  }
+
+  /** Adds the given block to the given loop and returns whether it was not contained yet. */
+  private boolean add(int pLoop, int pBlock) {
+    int word = pLoop * wordsPerLoop + (pBlock >>> 6);
+    long bit = 1L << pBlock;
+    if ((members[word] & bit) != 0) {
+      return false;
+    }
+    members[word] |= bit;
+    loopSizes[pLoop]++;
+    return true;
+  }
+
+  /** Returns the number of loops of the function. */
+  public int getLoopCount() {
+    return headers.length;
+  }
+
+  /** Returns the header of the given loop. */
+  public int getHeader(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return headers[pLoop];
+  }
+
+  /** Returns the innermost loop that contains the given loop, or -1 for a top-level loop. */
+  public int getParent(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return parents[pLoop];
+  }
+
+  /** Returns the nesting depth of the given loop, which is 1 for top-level loops. */
+  public int getDepth(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return depths[pLoop];
+  }
+
+  /** Returns the number of blocks of the given loop, including the blocks of nested loops. */
+  public int getSize(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return loopSizes[pLoop];
+  }
+
+  /** Returns whether the given block belongs to the given loop or to a loop nested in it. */
+  public boolean contains(int pLoop, int pBlock) {
+    checkElementIndex(pLoop, headers.length);
+    checkElementIndex(pBlock, blockCount);
+    return (members[pLoop * wordsPerLoop + (pBlock >>> 6)] & (1L << pBlock)) != 0;
+  }
+
+  /**
+   * Returns the smallest block of the given loop that is not smaller than the given block, or -1 if
+   * there is none. Iterates over the bitset of the loop, so visiting all blocks of a loop with
+   *
+   * <pre>{@code
+   * for (int b = forest.getNextBlock(loop, 0); b >= 0; b = forest.getNextBlock(loop, b + 1)) {
+   * }</pre>
+   *
+   * takes time proportional to the number of blocks of the function divided by 64 plus the size of
+   * the loop.
+   */
+  public int getNextBlock(int pLoop, int pFrom) {
+    checkElementIndex(pLoop, headers.length);
+    checkArgument(pFrom >= 0, "Negative block id %s", pFrom);
+    if (pFrom >= blockCount) {
+      return -1;
+    }
+    int offset = pLoop * wordsPerLoop;
+    @Var int index = pFrom >>> 6;
+    @Var long word = members[offset + index] & (-1L << pFrom);
+    while (word == 0) {
+      index++;
+      if (index == wordsPerLoop) {
+        return -1;
+      }
+      word = members[offset + index];
+    }
+    return (index << 6) + Long.numberOfTrailingZeros(word);
+  }
+
+  /** Returns the latches of the given loop, i.e., the sources of its back edges. */
+  public ImmutableIntArray getLatches(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return latches.subArray(latchStarts[pLoop], latchStarts[pLoop + 1]);
+  }
+
+  /**
+   * Returns the blocks of the given loop that have a successor outside of the loop, in ascending
+   * order.
+   */
+  public ImmutableIntArray getExitingBlocks(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return exitingBlocks.subArray(exitingStarts[pLoop], exitingStarts[pLoop + 1]);
+  }
+
+  /**
+   * Returns the blocks outside of the given loop that are successors of a block of the loop, in
+   * ascending order.
+   */
+  public ImmutableIntArray getExitBlocks(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return exitBlocks.subArray(exitStarts[pLoop], exitStarts[pLoop + 1]);
+  }
+
+  /**
+   * Returns whether the given loop contains an {@link #isIrreducibleEntry(int) irreducible entry},
+   * i.e., a cycle that is not a natural loop.
+   */
+  public boolean containsIrreducibleControlFlow(int pLoop) {
+    checkElementIndex(pLoop, headers.length);
+    return irreducibleLoops[pLoop];
+  }
+
+  /** Returns the innermost loop that contains the given block, or -1 if there is none. */
+  public int getLoopFor(int pBlock) {
+    checkElementIndex(pBlock, blockCount);
+    return blockLoops[pBlock];
+  }
+
+  /** Returns the number of loops that contain the given block. */
+  public int getLoopDepth(int pBlock) {
+    int loop = getLoopFor(pBlock);
+    return loop < 0 ? 0 : depths[loop];
+  }
+
+  /** Returns whether the given block is the header of a loop. */
+  public boolean isHeader(int pBlock) {
+    int loop = getLoopFor(pBlock);
+    return loop >= 0 && headers[loop] == pBlock;
+  }
+
+  /**
+   * Returns whether the given block is the target of a retreating edge whose source it does not
+   * dominate, i.e., the entry of a cycle with more than one entry.
+   */
+  public boolean isIrreducibleEntry(int pBlock) {
+    checkElementIndex(pBlock, blockCount);
+    return irreducibleEntries[pBlock];
+  }
+
+  /** Returns whether the function contains a cycle that is not a natural loop. */
+  public boolean hasIrreducibleControlFlow() {
+    return irreducible;
+  }
+}
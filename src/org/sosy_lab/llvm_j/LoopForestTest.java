@@ -0,0 +1,111 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class LoopForestTest extends ModuleTestCase {
+
+  // entry = 0, outer = 1, inner = 2, latch = 3, exit = 4
+  private static final String NESTED =
+      "define void @f(i32 %n) {\n"
+          + "entry:\n"
+          + "  br label %outer\n"
+          + "outer:\n"
+          + "  %i = phi i32 [ 0, %entry ], [ %i1, %latch ]\n"
+          + "  %c = icmp slt i32 %i, %n\n"
+          + "  br i1 %c, label %inner, label %exit\n"
+          + "inner:\n"
+          + "  %j = phi i32 [ 0, %outer ], [ %j1, %inner ]\n"
+          + "  %j1 = add i32 %j, 1\n"
+          + "  %d = icmp slt i32 %j1, %n\n"
+          + "  br i1 %d, label %inner, label %latch\n"
+          + "latch:\n"
+          + "  %i1 = add i32 %i, 1\n"
+          + "  br label %outer\n"
+          + "exit:\n"
+          + "  ret void\n"
+          + "}\n"
+          // a cycle of a and b that can be entered through both blocks
+          + "define void @g(i1 %c) {\n"
+          + "entry:\n"
+          + "  br i1 %c, label %a, label %b\n"
+          + "a:\n"
+          + "  br label %b\n"
+          + "b:\n"
+          + "  br i1 %c, label %a, label %exit\n"
+          + "exit:\n"
+          + "  ret void\n"
+          + "}\n";
+
+  public LoopForestTest() {
+    super(NESTED);
+  }
+
+  @Test
+  public void test_nestedLoops() {
+    LoopForest loops = module.getAnalyses(module.getFirstFunction().asFunction()).getLoops();
+
+    assertThat(loops.getLoopCount()).isEqualTo(2);
+    assertThat(loops.hasIrreducibleControlFlow()).isFalse();
+
+    assertThat(loops.getHeader(0)).isEqualTo(1);
+    assertThat(loops.getParent(0)).isEqualTo(-1);
+    assertThat(loops.getDepth(0)).isEqualTo(1);
+    assertThat(loops.getSize(0)).isEqualTo(3);
+    assertThat(loops.getLatches(0).asList()).containsExactly(3);
+    assertThat(loops.getExitingBlocks(0).asList()).containsExactly(1);
+    assertThat(loops.getExitBlocks(0).asList()).containsExactly(4);
+
+    assertThat(loops.getHeader(1)).isEqualTo(2);
+    assertThat(loops.getParent(1)).isEqualTo(0);
+    assertThat(loops.getDepth(1)).isEqualTo(2);
+    assertThat(loops.getLatches(1).asList()).containsExactly(2);
+    assertThat(loops.getExitBlocks(1).asList()).containsExactly(3);
+
+    assertThat(loops.contains(0, 2)).isTrue();
+    assertThat(loops.contains(1, 3)).isFalse();
+    assertThat(loops.getLoopFor(2)).isEqualTo(1);
+    assertThat(loops.getLoopFor(0)).isEqualTo(-1);
+    assertThat(loops.getLoopDepth(2)).isEqualTo(2);
+    assertThat(loops.isHeader(1)).isTrue();
+    assertThat(loops.isHeader(3)).isFalse();
+    assertThat(loops.getNextBlock(0, 2)).isEqualTo(2);
+    assertThat(loops.getNextBlock(0, 4)).isEqualTo(-1);
+  }
+
+  @Test
+  public void test_irreducibleCycle() {
+    LoopForest loops = module.getAnalyses(module.getLastFunction().asFunction()).getLoops();
+
+    assertThat(loops.getLoopCount()).isEqualTo(0);
+    assertThat(loops.hasIrreducibleControlFlow()).isTrue();
+  }
+}
@@ -29,21 +29,39 @@
 
 package org.sosy_lab.llvm_j;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.base.Ascii;
 import com.google.errorprone.annotations.Var;
 import com.sun.jna.Memory;
 import com.sun.jna.Native;
 import com.sun.jna.NativeLibrary;
-import com.sun.jna.NativeMappedConverter;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+import org.sosy_lab.llvm_j.binding.ext.NativeSize;
 
 /**
  * A compilation unit of the LLVM Intermediate Representation (LLVM IR).
@@ -56,13 +74,51 @@ import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 @SuppressWarnings("JavaLangClash")
 public final class Module implements Iterable<Value>, Closeable {
 
+  /** Magic number at the start of raw LLVM bitcode ("BC" 0xC0DE). */
+  private static final byte[] BITCODE_MAGIC = {'B', 'C', (byte) 0xC0, (byte) 0xDE};
+
+  /** Magic number at the start of LLVM bitcode in a bitcode wrapper (0x0B17C0DE, little endian). */
+  private static final byte[] BITCODE_WRAPPER_MAGIC = {
+    (byte) 0xDE, (byte) 0xC0, (byte) 0x17, (byte) 0x0B
+  };
+
+  /**
+   * Lower bound for the page size of all supported platforms. Every page size is a multiple of it.
+   */
+  private static final long MIN_PAGE_SIZE = 4096;
+
+  /** Location and severity of a diagnostic in the error message of the LLVM IR parser. */
+  private static final Pattern PARSER_DIAGNOSTIC =
+      Pattern.compile(":(\\d+):(\\d+): (error|warning|remark|note): ");
+
+  /** Identifier of memory buffers that are not read from a file, as native C string. */
+  private static final Pointer IN_MEMORY_BUFFER_NAME = toCString("<in-memory>");
+
+  /** Number of bytes that are copied to the heap at once when writing bitcode to a stream. */
+  private static final int STREAM_CHUNK_SIZE = 8192;
+
   private LLVMLibrary.LLVMModuleRef module;
   private String fileName;
 
+  /** Memory that LLVM may read from as long as this module is alive, if not owned by LLVM. */
+  private @Nullable Object backingMemory;
+
+  private @Nullable WrapperTable wrappers;
+
+  /** Cached analysis results by function address, created on first use. */
+  private @Nullable LongObjectMap<FunctionAnalyses> analyses;
+
+  /** Layout of the types of this module, created on first use. */
+  private @Nullable DataLayout dataLayout;
+
   LLVMLibrary.LLVMModuleRef getModule() {
     return module;
   }
 
+  @Nullable WrapperTable wrappers() {
+    return wrappers;
+  }
+
   private Module(LLVMLibrary.LLVMModuleRef pModule, String pFileName) {
     module = pModule;
     fileName = pFileName;
@@ -126,60 +182,430 @@ public final class Module implements Iterable<Value>, Closeable {
       throw new NullPointerException();
     }
 
-    @Var LLVMLibrary.LLVMContextRef context = pContext.context();
-    long messageBufferLength = 1000 * 1000; // bytes
-    Pointer outMsgAddr = new Memory(messageBufferLength);
+    LLVMLibrary.LLVMMemoryBufferRef buffer = readFileToBuffer(path);
+    return new Module(parseMemoryBuffer(pContext, buffer, path.endsWith(".bc")), path);
+  }
 
-    /* read the module into a buffer */
+  /**
+   * Reads the given file into a new LLVM memory buffer. The returned buffer is owned by the caller.
+   */
+  private static LLVMLibrary.LLVMMemoryBufferRef readFileToBuffer(String path)
+      throws LLVMException {
     PointerByReference pointerToBuffer = new PointerByReference();
     LLVMLibrary.LLVMMemoryBufferRef pointerToBufferWrapped =
         new LLVMLibrary.LLVMMemoryBufferRef(pointerToBuffer.getPointer());
-    PointerByReference outMsg = new PointerByReference(outMsgAddr);
-    @Var
-    LLVMLibrary.LLVMBool success =
-        LLVMLibrary.LLVMCreateMemoryBufferWithContentsOfFile(path, pointerToBufferWrapped, outMsg);
-    if (Utils.llvmBoolToJavaBool(success)) {
-      String errorMessage = refToString(outMsg);
+    PointerByReference outMsg = new PointerByReference();
+    LLVMLibrary.LLVMBool failure =
+        BitcodeNatives.LLVMCreateMemoryBufferWithContentsOfFile(
+            path, pointerToBufferWrapped, outMsg);
+    if (Utils.llvmBoolToJavaBool(failure)) {
+      String errorMessage = Utils.takeMessage(outMsg.getValue());
       throw new LLVMException("Reading bitcode failed. " + errorMessage);
     }
-    LLVMLibrary.LLVMMemoryBufferRef buffer =
-        new LLVMLibrary.LLVMMemoryBufferRef(pointerToBuffer.getValue());
+    return new LLVMLibrary.LLVMMemoryBufferRef(pointerToBuffer.getValue());
+  }
+
+  /**
+   * Parses a module from the given file on the given executor. Both LLVM bitcode and human-readable
+   * LLVM IR are accepted.
+   *
+   * <p>The given {@link Context} must not be used by any other thread until the returned future is
+   * done. The future is never done while the parse uses the context: cancelling it before the parse
+   * started skips the parse, but LLVM offers no way to interrupt a running parse, so once it has
+   * started, {@link CompletableFuture#cancel(boolean)} and all other attempts to complete the
+   * future return <code>false</code> and the future completes with the result of the parse.
+   *
+   * <p>To avoid memory leaks, the module of a successfully completed future always has to be
+   * disposed of using {@link #close()} after use.
+   *
+   * @param path the LLVM IR file to parse
+   * @param pContext {@link Context} to use for parsing
+   * @param pExecutor the executor to run the parse on
+   * @return a future of the parsed LLVM module structure, which fails with an {@link
+   *     LLVMException} if the file can not be parsed
+   */
+  public static CompletableFuture<Module> parseAsync(
+      String path, Context pContext, Executor pExecutor) {
+    checkNotNull(path);
+    checkNotNull(pContext);
+    checkNotNull(pExecutor);
+    ParseFuture future = new ParseFuture();
+    Runnable parse =
+        () -> {
+          if (!future.start()) {
+            return; // cancelled before the parse started
+          }
+          @Var @Nullable Module parsed = null;
+          @Var @Nullable Throwable failure = null;
+          try {
+            parsed = parseIR(path, pContext);
+          } catch (Throwable t) {
+            failure = t;
+          }
+          future.end(parsed, failure);
+        };
+    try {
+      pExecutor.execute(parse);
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
 
-    /* create a module from the memory buffer */
-    long moduleRefSize = getSize(LLVMLibrary.LLVMModuleRef.class);
-    PointerByReference pointerToModule = new PointerByReference(new Memory(moduleRefSize));
-    LLVMLibrary.LLVMModuleRef pointerToModuleWrapped =
-        new LLVMLibrary.LLVMModuleRef(pointerToModule.getPointer());
+  /**
+   * Future of {@link #parseAsync(String, Context, Executor)} that can not be completed by anyone
+   * else while the parse is running, so that the context is free once the future is done.
+   */
+  private static final class ParseFuture extends CompletableFuture<Module> {
 
-    if (path.endsWith(".bc")) {
-      success = LLVMLibrary.LLVMParseBitcodeInContext2(context, buffer, pointerToModuleWrapped);
-      if (Utils.llvmBoolToJavaBool(success)) {
-        throw new LLVMException("Parsing bitcode failed");
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int ENDED = 2;
+
+    private final AtomicInteger state = new AtomicInteger(NEW);
+
+    /** Returns whether the parse may run, i.e., whether this future was not completed before. */
+    boolean start() {
+      return state.compareAndSet(NEW, RUNNING);
+    }
+
+    /** Completes this future with the result of the parse. Exactly one argument is non-null. */
+    void end(@Nullable Module pParsed, @Nullable Throwable pFailure) {
+      state.set(ENDED);
+      if (pFailure != null) {
+        super.completeExceptionally(pFailure);
+      } else if (!super.complete(pParsed)) {
+        // completed right after the parse ended, nobody else will ever close the module
+        checkNotNull(pParsed).close();
       }
+    }
 
-      /* free the buffer allocated by readFileToBuffer */
-      // FIXME: This returns a segfault when done for LLVMParseIRInContext. Why?
-      LLVMLibrary.LLVMDisposeMemoryBuffer(buffer);
+    /** Returns whether this future may be completed by other means than the parse. */
+    private boolean mayCompleteOtherwise() {
+      return state.compareAndSet(NEW, ENDED) || state.get() == ENDED;
+    }
+
+    @Override
+    public boolean complete(Module pValue) {
+      return mayCompleteOtherwise() && super.complete(pValue);
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable pException) {
+      return mayCompleteOtherwise() && super.completeExceptionally(pException);
+    }
+
+    @Override
+    public boolean cancel(boolean pMayInterruptIfRunning) {
+      return mayCompleteOtherwise() && super.cancel(pMayInterruptIfRunning);
+    }
+  }
+
+  /**
+   * Opens the given bitcode file lazily. Only the module-level structure (globals, function
+   * declarations, types, and metadata) is read eagerly; the body of each function is read from the
+   * bitcode when it is first accessed, for example through {@link Function#iterator()}, {@link
+   * Value#getFirstBasicBlock()} or {@link Value#getBasicBlocks()}.
+   *
+   * <p>This is considerably cheaper than {@link #parseIR(String, Context)} if only a few functions
+   * of a large module are inspected. The bitcode stays in memory until the returned module is
+   * {@link #close() closed}. Human-readable LLVM IR can not be read lazily.
+   *
+   * @param path the LLVM bitcode file to open
+   * @param pContext {@link Context} to use for parsing
+   * @return the lazily read LLVM module structure
+   * @see #parseIR(String, Context)
+   */
+  public static Module openLazy(String path, Context pContext) throws LLVMException {
+    checkNotNull(path);
+    checkNotNull(pContext);
+
+    LLVMLibrary.LLVMMemoryBufferRef buffer = readFileToBuffer(path);
+
+    PointerByReference outModule = new PointerByReference();
+    LLVMLibrary.LLVMModuleRef outModuleWrapped =
+        new LLVMLibrary.LLVMModuleRef(outModule.getPointer());
+    // On success, the module takes ownership of the buffer. On failure, LLVM frees the buffer.
+    Context.DiagnosticCollector diagnostics = pContext.collectDiagnostics();
+    try {
+      LLVMLibrary.LLVMBool failure =
+          BitcodeNatives.LLVMGetBitcodeModuleInContext2(
+              pContext.context(), buffer, outModuleWrapped);
+      if (Utils.llvmBoolToJavaBool(failure)) {
+        throw diagnostics.toException("Reading bitcode lazily failed");
+      }
+    } finally {
+      pContext.stopCollectingDiagnostics();
+    }
+
+    return new Module(new LLVMLibrary.LLVMModuleRef(outModule.getValue()), path);
+  }
+
+  /**
+   * Parses a module from the given bytes. Both LLVM bitcode and human-readable LLVM IR are
+   * accepted; the format is recognized by the bitcode magic number at the start of the input.
+   *
+   * <p>The given array is copied to native memory once and is not referenced after this method
+   * returns.
+   *
+   * @param pBytes the LLVM IR to parse
+   * @param pContext {@link Context} to use for parsing
+   * @return the parsed LLVM module structure
+   * @see #parseIR(String, Context)
+   */
+  public static Module parseIR(byte[] pBytes, Context pContext) throws LLVMException {
+    checkNotNull(pBytes);
+    checkNotNull(pContext);
+
+    Memory copy = new Memory(pBytes.length + 1L);
+    copy.write(0, pBytes, 0, pBytes.length);
+    copy.setByte(pBytes.length, (byte) 0);
+    return parseIR(copy, pBytes.length, pContext);
+  }
+
+  /**
+   * Parses a module from the remaining bytes of the given buffer. Both LLVM bitcode and
+   * human-readable LLVM IR are accepted; the format is recognized by the bitcode magic number at
+   * the start of the input.
+   *
+   * <p>If the buffer is {@link ByteBuffer#isDirect() direct}, LLVM reads bitcode directly from the
+   * memory of the buffer without copying it. Otherwise, the remaining bytes are copied to native
+   * memory once. The position of the buffer is not changed.
+   *
+   * @param pBuffer the LLVM IR to parse
+   * @param pContext {@link Context} to use for parsing
+   * @return the parsed LLVM module structure
+   * @see #parseIR(String, Context)
+   */
+  public static Module parseIR(ByteBuffer pBuffer, Context pContext) throws LLVMException {
+    checkNotNull(pBuffer);
+    checkNotNull(pContext);
+
+    int length = pBuffer.remaining();
+    if (pBuffer.isDirect()) {
+      Pointer data = Native.getDirectBufferPointer(pBuffer).share(pBuffer.position());
+      try {
+        return parseIR(data, length, pContext);
+      } finally {
+        Reference.reachabilityFence(pBuffer);
+      }
     } else {
-      success = LLVMLibrary.LLVMParseIRInContext(context, buffer, pointerToModuleWrapped, outMsg);
-      if (Utils.llvmBoolToJavaBool(success)) {
-        throw new LLVMException(
-            "Parsing bitcode (human-readable format) failed. " + refToString(outMsg));
+      byte[] bytes = new byte[length];
+      pBuffer.duplicate().get(bytes);
+      return parseIR(bytes, pContext);
+    }
+  }
+
+  /**
+   * Parses a module from the given range of native memory. Both LLVM bitcode and human-readable
+   * LLVM IR are accepted; the format is recognized by the bitcode magic number at the start of the
+   * input.
+   *
+   * <p>Bitcode is read directly from the given memory without copying it. Human-readable LLVM IR
+   * has to be null-terminated for the LLVM parser, so it is copied once unless the byte directly
+   * after the given range is readable and zero. The given memory has to stay valid until this
+   * method returns.
+   *
+   * @param pData the start of the memory range that contains the LLVM IR
+   * @param pLength the length of the memory range in bytes
+   * @param pContext {@link Context} to use for parsing
+   * @return the parsed LLVM module structure
+   * @see #parseIR(String, Context)
+   */
+  public static Module parseIR(Pointer pData, long pLength, Context pContext)
+      throws LLVMException {
+    checkNotNull(pData);
+    checkNotNull(pContext);
+    checkArgument(pLength >= 0, "Negative length %s", pLength);
+
+    return new Module(
+        parseMemoryRange(pContext, pData, pLength, isNullTerminated(pData, pLength)));
+  }
+
+  /**
+   * Parses a module from the given file by mapping it into memory. Both LLVM bitcode and
+   * human-readable LLVM IR are accepted; the format is recognized by the bitcode magic number at
+   * the start of the file.
+   *
+   * <p>In contrast to {@link #parseIR(String, Context)}, the file content is not read into a heap
+   * buffer owned by LLVM. LLVM reads bitcode directly from the mapped pages, which are shared with
+   * the page cache and thus with other processes that read the same file. The mapping is kept
+   * alive until the returned module is {@link #close() closed}.
+   *
+   * <p>Human-readable LLVM IR is only read in place if the file size is not a multiple of the page
+   * size (so that the zero-filled rest of the last page provides the null terminator that LLVM
+   * requires), and is copied once otherwise.
+   *
+   * <p>Files larger than {@link Integer#MAX_VALUE} bytes cannot be mapped.
+   *
+   * @param pPath the LLVM IR file to parse
+   * @param pContext {@link Context} to use for parsing
+   * @return the parsed LLVM module structure
+   * @throws IOException if the file can not be mapped into memory
+   * @see #parseIR(String, Context)
+   */
+  public static Module parseIRMapped(Path pPath, Context pContext)
+      throws LLVMException, IOException {
+    checkNotNull(pPath);
+    checkNotNull(pContext);
+
+    MappedByteBuffer mapping;
+    try (FileChannel channel = FileChannel.open(pPath, StandardOpenOption.READ)) {
+      mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    long length = mapping.capacity();
+    if (length == 0) {
+      // Nothing to map, an empty buffer is not backed by any native memory.
+      Module empty = parseIR(new byte[0], pContext);
+      empty.fileName = pPath.toString();
+      return empty;
+    }
+
+    Pointer data = Native.getDirectBufferPointer(mapping);
+    try {
+      Module parsed =
+          new Module(
+              parseMemoryRange(pContext, data, length, length % MIN_PAGE_SIZE != 0),
+              pPath.toString());
+      parsed.backingMemory = mapping;
+      return parsed;
+    } finally {
+      Reference.reachabilityFence(mapping);
+    }
+  }
+
+  /**
+   * Parses the module contained in the given range of native memory. The memory is only copied if
+   * it contains human-readable LLVM IR that is not null-terminated.
+   *
+   * @param pIsNullTerminated whether the byte directly after the given range is readable and zero
+   */
+  private static LLVMLibrary.LLVMModuleRef parseMemoryRange(
+      Context pContext, Pointer pData, long pLength, boolean pIsNullTerminated)
+      throws LLVMException {
+    boolean isBitcode = isBitcode(pData, pLength);
+    @Var Pointer data = pData;
+    if (!isBitcode && !pIsNullTerminated) {
+      Memory copy = new Memory(pLength + 1);
+      copy.write(0, pData.getByteArray(0, Math.toIntExact(pLength)), 0, (int) pLength);
+      copy.setByte(pLength, (byte) 0);
+      data = copy;
+    }
+
+    try {
+      LLVMLibrary.LLVMMemoryBufferRef buffer =
+          createMemoryBufferWithRange(data, pLength, !isBitcode);
+      return parseMemoryBuffer(pContext, buffer, isBitcode);
+    } finally {
+      Reference.reachabilityFence(data);
+    }
+  }
+
+  /**
+   * Creates an LLVM memory buffer that refers to the given memory range without copying it. The
+   * memory has to stay valid as long as the returned buffer is in use.
+   */
+  private static LLVMLibrary.LLVMMemoryBufferRef createMemoryBufferWithRange(
+      Pointer pData, long pLength, boolean pRequiresNullTerminator) {
+    return BitcodeNatives.LLVMCreateMemoryBufferWithMemoryRange(
+        pData,
+        new NativeSize(pLength),
+        IN_MEMORY_BUFFER_NAME,
+        Utils.javaBoolToLlvmBool(pRequiresNullTerminator));
+  }
+
+  /**
+   * Parses the module contained in the given memory buffer.
+   *
+   * <p>The buffer is always disposed of, either by this method or by LLVM, after this method
+   * returns.
+   */
+  private static LLVMLibrary.LLVMModuleRef parseMemoryBuffer(
+      Context pContext, LLVMLibrary.LLVMMemoryBufferRef pBuffer, boolean pIsBitcode)
+      throws LLVMException {
+    LLVMLibrary.LLVMContextRef context = pContext.context();
+    PointerByReference outModule = new PointerByReference();
+    LLVMLibrary.LLVMModuleRef outModuleWrapped =
+        new LLVMLibrary.LLVMModuleRef(outModule.getPointer());
+
+    if (pIsBitcode) {
+      // Errors in bitcode are only reported through the diagnostic handler of the context
+      Context.DiagnosticCollector diagnostics = pContext.collectDiagnostics();
+      try {
+        LLVMLibrary.LLVMBool failure =
+            BitcodeNatives.LLVMParseBitcodeInContext2(context, pBuffer, outModuleWrapped);
+        // LLVMParseBitcodeInContext2 only borrows the buffer, so we have to free it
+        BitcodeNatives.LLVMDisposeMemoryBuffer(pBuffer);
+        if (Utils.llvmBoolToJavaBool(failure)) {
+          throw diagnostics.toException("Parsing bitcode failed");
+        }
+      } finally {
+        pContext.stopCollectingDiagnostics();
+      }
+
+    } else {
+      // LLVMParseIRInContext takes ownership of the buffer and frees it itself
+      PointerByReference outMsg = new PointerByReference();
+      LLVMLibrary.LLVMBool failure =
+          BitcodeNatives.LLVMParseIRInContext(context, pBuffer, outModuleWrapped, outMsg);
+      if (Utils.llvmBoolToJavaBool(failure)) {
+        throw toParseException(
+            "Parsing bitcode (human-readable format) failed. ",
+            Utils.takeMessage(outMsg.getValue()));
       }
     }
 
-    LLVMLibrary.LLVMModuleRef module = new LLVMLibrary.LLVMModuleRef(pointerToModule.getValue());
+    return new LLVMLibrary.LLVMModuleRef(outModule.getValue());
+  }
+
+  /**
+   * Creates an exception for the given error message of the LLVM IR parser. The message has the
+   * form <code>buffer:line:column: severity: description</code>, followed by the affected source
+   * line.
+   */
+  private static LLVMException toParseException(String pPrefix, @Nullable String pMessage) {
+    if (pMessage == null) {
+      return new LLVMException(pPrefix);
+    }
+    Matcher matcher = PARSER_DIAGNOSTIC.matcher(pMessage);
+    if (!matcher.find()) {
+      return new LLVMException(pPrefix + pMessage);
+    }
+    return new LLVMException(
+        pPrefix + pMessage,
+        LLVMException.Severity.valueOf(Ascii.toUpperCase(matcher.group(3))),
+        Integer.parseInt(matcher.group(1)),
+        Integer.parseInt(matcher.group(2)));
+  }
 
-    return new Module(module, path);
+  /**
+   * Returns whether the given memory starts with the magic number of LLVM bitcode, either raw or
+   * in a bitcode wrapper.
+   */
+  private static boolean isBitcode(Pointer pData, long pLength) {
+    if (pLength < 4) {
+      return false;
+    }
+    byte[] magic = pData.getByteArray(0, 4);
+    return Arrays.equals(magic, BITCODE_MAGIC) || Arrays.equals(magic, BITCODE_WRAPPER_MAGIC);
   }
 
-  private static String refToString(PointerByReference pRef) {
-    return pRef.getValue().getString(0);
+  /**
+   * Returns whether the byte directly after the given memory range is known to be readable and
+   * zero, as required by LLVM for parsing human-readable LLVM IR.
+   */
+  private static boolean isNullTerminated(Pointer pData, long pLength) {
+    return pData instanceof Memory
+        && ((Memory) pData).size() > pLength
+        && pData.getByte(pLength) == 0;
   }
 
-  private static long getSize(Class<?> pClass) {
-    Class<?> nativeClass = NativeMappedConverter.getInstance(pClass).nativeType();
-    return Native.getNativeSize(nativeClass);
+  private static Pointer toCString(String pString) {
+    byte[] bytes = pString.getBytes(StandardCharsets.UTF_8);
+    Memory cString = new Memory(bytes.length + 1L);
+    cString.write(0, bytes, 0, bytes.length);
+    cString.setByte(bytes.length, (byte) 0);
+    return cString;
   }
 
   /**
@@ -193,7 +619,7 @@ public final class Module implements Iterable<Value>, Closeable {
    */
   public static Module createWithName(String moduleID) {
     checkNotNull(moduleID);
-    return new Module(LLVMLibrary.LLVMModuleCreateWithName(moduleID));
+    return new Module(CoreNatives.LLVMModuleCreateWithName(moduleID));
   }
 
   /**
@@ -211,7 +637,7 @@ public final class Module implements Iterable<Value>, Closeable {
     if (c == null) {
       throw new NullPointerException();
     }
-    return new Module(LLVMLibrary.LLVMModuleCreateWithNameInContext(moduleID, c.context()));
+    return new Module(CoreNatives.LLVMModuleCreateWithNameInContext(moduleID, c.context()));
   }
 
   /**
@@ -221,7 +647,85 @@ public final class Module implements Iterable<Value>, Closeable {
    * use.
    */
   public static Module createGlobalParentOf(Value pValue) {
-    return new Module(LLVMLibrary.LLVMGetGlobalParent(pValue.value()));
+    return new Module(CoreNatives.LLVMGetGlobalParent(pValue.value()));
+  }
+
+  /**
+   * Creates a deep copy of this module in the same {@link Context}. The copy is independent of this
+   * module and stays valid after this module is closed.
+   *
+   * <p>To avoid memory leaks, a model always has to be disposed of using {@link #close()} after
+   * use.
+   */
+  public Module copy() {
+    Module copy = new Module(CoreNatives.LLVMCloneModule(module));
+    copy.fileName = fileName;
+    return copy;
+  }
+
+  void setOriginFileName(@Nullable String pFileName) {
+    fileName = pFileName;
+  }
+
+  /**
+   * Makes all {@link Value}, {@link Function}, {@link BasicBlock} and {@link TypeRef} objects that
+   * are obtained from this module, directly or through other such objects, unique per LLVM object.
+   * Thus, they can be compared by identity and repeated traversals of the module do not create new
+   * wrapper objects.
+   *
+   * <p>This only affects objects obtained after this call. All objects are kept until this module
+   * is closed or {@link #invalidateAnalyses()} is called, so this is only useful if the module is
+   * traversed more than once. A function is represented by the same {@link Function} object
+   * whether it is obtained as a {@link Value} or as a {@link Function}.
+   *
+   * <p>The kept objects are not updated when this module is modified. If an LLVM object is deleted,
+   * a new object may get its address, so {@link #invalidateAnalyses()} has to be called after
+   * deleting objects. Objects obtained before that call stay usable, but are not identical to the
+   * objects obtained afterwards.
+   */
+  public void enableInterning() {
+    if (wrappers == null) {
+      wrappers = new WrapperTable();
+    }
+  }
+
+  /**
+   * Returns the cached analysis results of the given function of this module. Results are computed
+   * on first request and kept until {@link #invalidateAnalyses()} is called or this module is
+   * closed.
+   *
+   * @throws IllegalArgumentException if the function does not belong to this module
+   */
+  public FunctionAnalyses getAnalyses(Function pFunction) {
+    checkNotNull(pFunction);
+    checkArgument(
+        CoreNatives.LLVMGetGlobalParent(pFunction.value()).equals(module),
+        "Function does not belong to this module: %s",
+        pFunction);
+    if (analyses == null) {
+      analyses = new LongObjectMap<>();
+    }
+    long address = pFunction.getAddress();
+    @Var FunctionAnalyses result = analyses.get(address);
+    if (result == null) {
+      result = new FunctionAnalyses(pFunction);
+      analyses.put(address, result);
+    }
+    return result;
+  }
+
+  /**
+   * Discards all results cached by {@link #getAnalyses(Function)} and all objects kept since
+   * {@link #enableInterning()}. This has to be called after this module was modified, e.g., by
+   * {@link Value#setOperand(int, Value)} or by deleting a function. Running a {@link PassManager}
+   * on the whole module, or running a function pass manager created by {@link
+   * PassManager#createForModule(Module)} on one of its functions, calls this method automatically.
+   */
+  public void invalidateAnalyses() {
+    analyses = null;
+    if (wrappers != null) {
+      wrappers.clear();
+    }
   }
 
   /** Returns the origin of this module, i.e., its source file name. */
@@ -231,17 +735,35 @@ public final class Module implements Iterable<Value>, Closeable {
 
   /** Returns the data layout string for this module. */
   public String getDataLayoutString() {
-    return LLVMLibrary.LLVMGetDataLayout(module);
+    return CoreNatives.LLVMGetDataLayout(module);
   }
 
-  /** Returns the data layout object for this module. */
+  /**
+   * Returns the data layout object for this module.
+   *
+   * @deprecated this method creates a new target data object on every call and never disposes of
+   *     it, thus creating a memory leak. Use {@link #getTargetDataLayout()} instead.
+   */
+  @Deprecated
   public LLVMLibrary.LLVMTargetDataRef getDataLayout() {
-    return LLVMLibrary.LLVMCreateTargetData(getDataLayoutString());
+    return CoreNatives.LLVMCreateTargetData(getDataLayoutString());
+  }
+
+  /**
+   * Returns the sizes, alignments and struct layouts of types according to the data layout of this
+   * module. The returned object is created on first request, caches all its results and is
+   * disposed of when this module is closed.
+   */
+  public DataLayout getTargetDataLayout() {
+    if (dataLayout == null) {
+      dataLayout = new DataLayout(CoreNatives.LLVMCreateTargetData(getDataLayoutString()));
+    }
+    return dataLayout;
   }
 
   /** Returns the target triple for this module. */
   public String getTargetString() {
-    return LLVMLibrary.LLVMGetTarget(module);
+    return CoreNatives.LLVMGetTarget(module);
   }
 
   /*public int addTypeName(String name, LLVMTypeRef ty) {
@@ -257,7 +779,7 @@ public final class Module implements Iterable<Value>, Closeable {
   /** Returns a {@link TypeRef} from this module by its registered name. */
   public TypeRef getTypeByName(String name) {
     checkNotNull(name);
-    return new TypeRef(LLVMLibrary.LLVMGetTypeByName(module, name));
+    return WrapperTable.type(wrappers, CoreNatives.LLVMGetTypeByName(module, name));
   }
 
   /*public String getTypeName(LLVMTypeRef ty) {
@@ -272,7 +794,68 @@ public final class Module implements Iterable<Value>, Closeable {
    */
   public int writeBitcodeToFile(String path) {
     checkNotNull(path);
-    return LLVMLibrary.LLVMWriteBitcodeToFile(module, path);
+    return BitcodeNatives.LLVMWriteBitcodeToFile(module, path);
+  }
+
+  /** Returns the bitcode of this module. */
+  public byte[] writeBitcode() {
+    LLVMLibrary.LLVMMemoryBufferRef buffer = BitcodeNatives.LLVMWriteBitcodeToMemoryBuffer(module);
+    try {
+      ByteBuffer content = Utils.getBufferContent(buffer);
+      byte[] bitcode = new byte[content.remaining()];
+      content.get(bitcode);
+      return bitcode;
+    } finally {
+      BitcodeNatives.LLVMDisposeMemoryBuffer(buffer);
+    }
+  }
+
+  /**
+   * Writes the bitcode of this module into the given buffer, starting at its current position. The
+   * position of the buffer is advanced by the size of the bitcode.
+   *
+   * @throws java.nio.BufferOverflowException if the remaining space of the buffer is too small. The
+   *     buffer is not modified in this case.
+   */
+  public void writeBitcode(ByteBuffer pTarget) {
+    checkNotNull(pTarget);
+    LLVMLibrary.LLVMMemoryBufferRef buffer = BitcodeNatives.LLVMWriteBitcodeToMemoryBuffer(module);
+    try {
+      pTarget.put(Utils.getBufferContent(buffer));
+    } finally {
+      BitcodeNatives.LLVMDisposeMemoryBuffer(buffer);
+    }
+  }
+
+  /** Writes the bitcode of this module to the given channel. The channel is not closed. */
+  public void writeBitcode(WritableByteChannel pChannel) throws IOException {
+    checkNotNull(pChannel);
+    LLVMLibrary.LLVMMemoryBufferRef buffer = BitcodeNatives.LLVMWriteBitcodeToMemoryBuffer(module);
+    try {
+      ByteBuffer content = Utils.getBufferContent(buffer);
+      while (content.hasRemaining()) {
+        pChannel.write(content);
+      }
+    } finally {
+      BitcodeNatives.LLVMDisposeMemoryBuffer(buffer);
+    }
+  }
+
+  /** Writes the bitcode of this module to the given stream. The stream is not closed. */
+  public void writeBitcode(OutputStream pStream) throws IOException {
+    checkNotNull(pStream);
+    LLVMLibrary.LLVMMemoryBufferRef buffer = BitcodeNatives.LLVMWriteBitcodeToMemoryBuffer(module);
+    try {
+      ByteBuffer content = Utils.getBufferContent(buffer);
+      byte[] chunk = new byte[Math.min(content.remaining(), STREAM_CHUNK_SIZE)];
+      while (content.hasRemaining()) {
+        int length = Math.min(content.remaining(), chunk.length);
+        content.get(chunk, 0, length);
+        pStream.write(chunk, 0, length);
+      }
+    } finally {
+      BitcodeNatives.LLVMDisposeMemoryBuffer(buffer);
+    }
   }
 
   /** Returns the module context. */
@@ -283,18 +866,14 @@ public final class Module implements Iterable<Value>, Closeable {
   /** Returns the named global in this module with the given name. */
   public Value getNamedGlobal(String name) {
     checkNotNull(name);
-    return new Value(LLVMLibrary.LLVMGetNamedGlobal(getModule(), name));
+    return WrapperTable.value(wrappers, CoreNatives.LLVMGetNamedGlobal(getModule(), name));
   }
 
   /** Returns the first global value in this module. */
   public Value getFirstGlobal() {
     try {
-      LLVMLibrary.LLVMValueRef ref = LLVMLibrary.LLVMGetFirstGlobal(getModule());
-      if (ref != null) {
-        return new Value(ref);
-      } else {
-        return null;
-      }
+      return WrapperTable.valueOrNull(
+          wrappers, AddressBinding.LLVMGetFirstGlobal(AddressBinding.addressOf(module)));
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -303,7 +882,8 @@ public final class Module implements Iterable<Value>, Closeable {
   /** Returns the last global value in this module. */
   public Value getLastGlobal() {
     try {
-      return new Value(LLVMLibrary.LLVMGetLastGlobal(getModule()));
+      return WrapperTable.valueOrNull(
+          wrappers, AddressBinding.LLVMGetLastGlobal(AddressBinding.addressOf(module)));
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -321,19 +901,21 @@ public final class Module implements Iterable<Value>, Closeable {
     checkNotNull(ty);
     checkNotNull(aliasee);
     checkNotNull(name);
-    return new Value(LLVMLibrary.LLVMAddAlias(module, ty.type(), aliasee.value(), name));
+    return WrapperTable.value(
+        wrappers, CoreNatives.LLVMAddAlias(module, ty.type(), aliasee.value(), name));
   }
 
   /** Returns a {@link Function} from this module by its name. */
   public Function getNamedFunction(String name) {
     checkNotNull(name);
-    return new Function(LLVMLibrary.LLVMGetNamedFunction(module, name));
+    return WrapperTable.function(wrappers, CoreNatives.LLVMGetNamedFunction(module, name));
   }
 
   /** Returns an iterator to the first Function in this module. */
   public Value getFirstFunction() {
     try {
-      return new Value(LLVMLibrary.LLVMGetFirstFunction(module));
+      return WrapperTable.valueOrNull(
+          wrappers, AddressBinding.LLVMGetFirstFunction(AddressBinding.addressOf(module)));
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -342,7 +924,8 @@ public final class Module implements Iterable<Value>, Closeable {
   /** Returns an iterator to the last Function in this module. */
   public Value getLastFunction() {
     try {
-      return new Value(LLVMLibrary.LLVMGetLastFunction(module));
+      return WrapperTable.valueOrNull(
+          wrappers, AddressBinding.LLVMGetLastFunction(AddressBinding.addressOf(module)));
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -354,8 +937,16 @@ public final class Module implements Iterable<Value>, Closeable {
    */
   @Override
   public void close() {
-    LLVMLibrary.LLVMDisposeModule(module);
+    CoreNatives.LLVMDisposeModule(module);
     module = null;
+    wrappers = null;
+    analyses = null;
+    if (dataLayout != null) {
+      dataLayout.close();
+      dataLayout = null;
+    }
+    Reference.reachabilityFence(backingMemory);
+    backingMemory = null;
   }
 
   private class ModuleIterator implements Iterator<Value> {
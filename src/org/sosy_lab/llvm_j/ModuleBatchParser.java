@@ -0,0 +1,274 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses many LLVM IR files in parallel.
+ *
+ * <p>A {@link Context} must not be used by more than one thread at a time, so each worker thread
+ * of this parser owns its own context. Every parsed {@link Module} is handed to a {@link
+ * ModuleHandler} on the worker thread that parsed it and is closed as soon as the handler returns.
+ * Thus, at most one module per worker thread is alive at any time, regardless of the number of
+ * files.
+ *
+ * <p>Types and constants are never freed from a context while it is alive, so each worker replaces
+ * its context after a fixed number of modules to bound memory consumption.
+ */
+public final class ModuleBatchParser {
+
+  /** Default number of modules that are parsed in the same context before it is replaced. */
+  private static final int DEFAULT_MODULES_PER_CONTEXT = 100;
+
+  /**
+   * Handles a single parsed module.
+   *
+   * @param <R> the type of the result computed for each module
+   */
+  @FunctionalInterface
+  public interface ModuleHandler<R> {
+
+    /**
+     * Computes a result for the given module. Called on a worker thread of the parser. The module
+     * and its context are only valid until this method returns, so neither the module nor any
+     * {@link Value}, {@link BasicBlock} or {@link TypeRef} derived from it may be part of the
+     * result.
+     *
+     * @param pFile the file the module was parsed from
+     * @param pModule the parsed module
+     * @return the result for the module
+     * @throws LLVMException if the module can not be handled. This aborts the whole batch.
+     */
+    R handle(Path pFile, Module pModule) throws LLVMException;
+  }
+
+  private final int threads;
+  private final int modulesPerContext;
+
+  private ModuleBatchParser(int pThreads, int pModulesPerContext) {
+    threads = pThreads;
+    modulesPerContext = pModulesPerContext;
+  }
+
+  /** Creates a new batch parser that uses one worker thread per available processor. */
+  public static ModuleBatchParser create() {
+    return create(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new batch parser.
+   *
+   * @param pThreads the number of worker threads, and thus of modules alive at the same time
+   */
+  public static ModuleBatchParser create(int pThreads) {
+    return create(pThreads, DEFAULT_MODULES_PER_CONTEXT);
+  }
+
+  /**
+   * Creates a new batch parser.
+   *
+   * @param pThreads the number of worker threads, and thus of modules alive at the same time
+   * @param pModulesPerContext the number of modules each worker parses in the same {@link Context}
+   *     before the context is replaced by a fresh one
+   */
+  public static ModuleBatchParser create(int pThreads, int pModulesPerContext) {
+    checkArgument(pThreads > 0, "Number of threads must be positive, but is %s", pThreads);
+    checkArgument(
+        pModulesPerContext > 0,
+        "Number of modules per context must be positive, but is %s",
+        pModulesPerContext);
+    return new ModuleBatchParser(pThreads, pModulesPerContext);
+  }
+
+  /**
+   * Parses all LLVM IR files (file suffixes <code>.bc</code> and <code>.ll</code>) in the given
+   * directory and its subdirectories and hands each parsed module to the given handler.
+   *
+   * @return the results of the handler, ordered by the paths of the parsed files. May contain
+   *     <code>null</code> if the handler returns <code>null</code>.
+   * @throws IOException if the directory can not be read
+   * @throws LLVMException if a file can not be parsed or the handler fails for one module
+   * @throws InterruptedException if the current thread is interrupted while waiting for the workers
+   * @see #parse(List, ModuleHandler)
+   */
+  public <R> List<R> parseDirectory(Path pDirectory, ModuleHandler<R> pHandler)
+      throws IOException, LLVMException, InterruptedException {
+    checkNotNull(pDirectory);
+    checkNotNull(pHandler);
+
+    List<Path> files;
+    try (Stream<Path> entries = Files.walk(pDirectory)) {
+      files =
+          entries
+              .filter(Files::isRegularFile)
+              .filter(p -> p.toString().endsWith(".bc") || p.toString().endsWith(".ll"))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    return parse(files, pHandler);
+  }
+
+  /**
+   * Parses the given LLVM IR files in parallel and hands each parsed module to the given handler.
+   * Files are parsed with {@link Module#parseIR(String, Context)}.
+   *
+   * <p>If parsing or handling fails for one file, no further files are parsed and the failure is
+   * rethrown once all workers have stopped. If the current thread is interrupted while waiting, the
+   * workers are interrupted and do not start parsing any further files.
+   *
+   * @return the results of the handler, in the order of the given files. May contain <code>null
+   *     </code> if the handler returns <code>null</code>.
+   * @throws LLVMException if a file can not be parsed or the handler fails for one module
+   * @throws InterruptedException if the current thread is interrupted while waiting for the workers
+   */
+  public <R> List<R> parse(List<Path> pFiles, ModuleHandler<R> pHandler)
+      throws LLVMException, InterruptedException {
+    checkNotNull(pFiles);
+    checkNotNull(pHandler);
+
+    List<Path> files = ImmutableList.copyOf(pFiles);
+    if (files.isEmpty()) {
+      return ImmutableList.of();
+    }
+
+    Utils.instantiateLibrary();
+    Utils.checkLlvmState(
+        Utils.llvmBoolToJavaBool(CoreNatives.LLVMStartMultithreaded()),
+        "LLVM library was built without thread support");
+
+    Object[] results = new Object[files.size()];
+    AtomicInteger nextFile = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    int workerCount = Math.min(threads, files.size());
+    ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+    try {
+      List<Future<?>> workers = new ArrayList<>(workerCount);
+      for (int i = 0; i < workerCount; i++) {
+        workers.add(
+            executor.submit(
+                () -> {
+                  runWorker(files, pHandler, results, nextFile, failed);
+                  return null;
+                }));
+      }
+      @Var ExecutionException failure = null;
+      for (Future<?> worker : workers) {
+        try {
+          worker.get();
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e;
+          }
+        } catch (InterruptedException e) {
+          failed.set(true);
+          throw e;
+        }
+      }
+      if (failure != null) {
+        throwCause(failure);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // results may contain null, so we can not use an ImmutableList
+    @SuppressWarnings("unchecked")
+    List<R> resultList = (List<R>) Arrays.asList(results);
+    return Collections.unmodifiableList(resultList);
+  }
+
+  /**
+   * Parses and handles files until all files are taken, a worker failed or the worker is
+   * interrupted. The worker uses its own {@link Context} and replaces it after {@link
+   * #modulesPerContext} modules.
+   */
+  private <R> void runWorker(
+      List<Path> pFiles,
+      ModuleHandler<R> pHandler,
+      Object[] pResults,
+      AtomicInteger pNextFile,
+      AtomicBoolean pFailed)
+      throws LLVMException {
+    @Var Context context = Context.create();
+    try {
+      @Var int parsedInContext = 0;
+      for (int i = pNextFile.getAndIncrement();
+          i < pFiles.size() && !pFailed.get() && !Thread.currentThread().isInterrupted();
+          i = pNextFile.getAndIncrement()) {
+        if (parsedInContext == modulesPerContext) {
+          context.close();
+          context = Context.create();
+          parsedInContext = 0;
+        }
+        Path file = pFiles.get(i);
+        try (Module module = Module.parseIR(file.toString(), context)) {
+          pResults[i] = pHandler.handle(file, module);
+        } catch (Throwable t) {
+          pFailed.set(true);
+          throw t;
+        }
+        parsedInContext++;
+      }
+    } finally {
+      context.close();
+    }
+  }
+
+  private static void throwCause(ExecutionException pException) throws LLVMException {
+    Throwable cause = pException.getCause();
+    if (cause instanceof LLVMException) {
+      throw (LLVMException) cause;
+    } else if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    } else {
+      throw new AssertionError("Unexpected checked exception", cause);
+    }
+  }
+}
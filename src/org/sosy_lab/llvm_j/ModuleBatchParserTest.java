@@ -0,0 +1,137 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModuleBatchParserTest {
+
+  @Before
+  public void setUp_library() {
+    Path libraryPath = Paths.get("lib", "java", "runtime");
+    Module.addLibraryLookupPaths(ImmutableList.of(libraryPath));
+  }
+
+  @Test
+  public void test_parse_resultsInInputOrder() throws LLVMException, InterruptedException {
+    List<Path> files =
+        ImmutableList.of(
+            Paths.get("build/test.bc"), Paths.get("build/test.ll"), Paths.get("build/test.bc"));
+
+    List<Path> results = ModuleBatchParser.create(2).parse(files, (file, module) -> file);
+
+    assertThat(results).isEqualTo(files);
+  }
+
+  @Test
+  public void test_parse_contextReplaced() throws LLVMException, InterruptedException {
+    List<Path> files =
+        ImmutableList.of(Paths.get("build/test.bc"), Paths.get("build/test.bc"));
+
+    List<Boolean> results =
+        ModuleBatchParser.create(1, 1)
+            .parse(files, (file, module) -> module.getFirstFunction() != null);
+
+    assertThat(results).containsExactly(true, true);
+  }
+
+  @Test
+  public void test_parse_errorStopsBatch() {
+    List<Path> files = ImmutableList.copyOf(Collections.nCopies(10, Paths.get("build/test.bc")));
+    AtomicInteger handled = new AtomicInteger();
+
+    LinkageError thrown =
+        assertThrows(
+            LinkageError.class,
+            () ->
+                ModuleBatchParser.create(1)
+                    .parse(
+                        files,
+                        (file, module) -> {
+                          handled.incrementAndGet();
+                          throw new LinkageError("test");
+                        }));
+
+    assertThat(thrown.getMessage()).isEqualTo("test");
+    assertThat(handled.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_parse_interruptStopsBatch() throws InterruptedException {
+    List<Path> files = ImmutableList.copyOf(Collections.nCopies(10, Paths.get("build/test.bc")));
+    CountDownLatch firstStarted = new CountDownLatch(1);
+    CountDownLatch firstReleased = new CountDownLatch(1);
+    CountDownLatch secondStarted = new CountDownLatch(1);
+    AtomicInteger handled = new AtomicInteger();
+    AtomicReference<Throwable> thrown = new AtomicReference<>();
+
+    Thread caller =
+        new Thread(
+            () -> {
+              try {
+                ModuleBatchParser.create(1)
+                    .parse(
+                        files,
+                        (file, module) -> {
+                          if (handled.incrementAndGet() == 1) {
+                            firstStarted.countDown();
+                            Uninterruptibles.awaitUninterruptibly(firstReleased);
+                          } else {
+                            secondStarted.countDown();
+                          }
+                          return file;
+                        });
+              } catch (LLVMException | InterruptedException | RuntimeException e) {
+                thrown.set(e);
+              }
+            });
+    caller.start();
+    firstStarted.await();
+    caller.interrupt();
+    caller.join();
+    firstReleased.countDown();
+
+    assertThat(thrown.get()).isInstanceOf(InterruptedException.class);
+    assertThat(secondStarted.await(1, TimeUnit.SECONDS)).isFalse();
+    assertThat(handled.get()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Cache of parsed LLVM modules that avoids parsing the same file more than once.
+ *
+ * <p>The cache keeps one pristine copy of each parsed module and hands out {@link Module#copy()
+ * copies} of it, so callers may modify and have to {@link Module#close() close} the returned
+ * modules as usual. Cloning a module is considerably cheaper than parsing it again.
+ *
+ * <p>The amount of native memory used by a parsed module is not available from LLVM, so each
+ * cached module is weighed with the size of the file it was parsed from, which is proportional to
+ * it. If the total size exceeds the capacity of the cache, the least recently used modules are
+ * evicted and closed.
+ *
+ * <p>All cached modules and their copies belong to the {@link Context} of the cache, which has to
+ * outlive them. An LLVM context is not thread-safe, and both cache hits and misses work on it, so
+ * this class is not thread-safe either: callers have to serialize all uses of the cache, its
+ * context and all modules handed out by it, e.g., by using them from a single thread only.
+ */
+public final class ModuleCache implements Closeable {
+
+  /** Determines when two files are considered to contain the same module. */
+  public enum KeyMode {
+    /**
+     * Files are identified by their path, last-modified time and size. This needs no file access
+     * for cache hits, but does not detect changes that keep the time stamp and size.
+     */
+    FILE_ATTRIBUTES,
+
+    /**
+     * Files are identified by a hash of their content. Each lookup reads the whole file, but
+     * identical files at different paths share a cache entry and all changes are detected.
+     */
+    CONTENT_HASH
+  }
+
+  /** Key for {@link KeyMode#FILE_ATTRIBUTES}. */
+  private static final class FileKey {
+    private final Path path;
+    private final FileTime lastModified;
+    private final long size;
+
+    private FileKey(Path pPath, FileTime pLastModified, long pSize) {
+      path = pPath;
+      lastModified = pLastModified;
+      size = pSize;
+    }
+
+    @Override
+    public boolean equals(Object pOther) {
+      if (this == pOther) {
+        return true;
+      }
+      if (!(pOther instanceof FileKey)) {
+        return false;
+      }
+      FileKey other = (FileKey) pOther;
+      return size == other.size
+          && path.equals(other.path)
+          && lastModified.equals(other.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, lastModified, size);
+    }
+  }
+
+  private static final class Entry {
+    private final Module module;
+    private final long size;
+
+    private Entry(Module pModule, long pSize) {
+      module = pModule;
+      size = pSize;
+    }
+  }
+
+  private final Context context;
+  private final long capacity;
+  private final KeyMode keyMode;
+
+  // access-ordered, so iteration starts at the least recently used entry
+  private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long currentSize = 0;
+
+  private long hits = 0;
+  private long misses = 0;
+
+  private ModuleCache(Context pContext, long pCapacity, KeyMode pKeyMode) {
+    context = pContext;
+    capacity = pCapacity;
+    keyMode = pKeyMode;
+  }
+
+  /**
+   * Creates a new, empty module cache that identifies files by their path, last-modified time and
+   * size.
+   *
+   * @param pContext the {@link Context} to parse modules in
+   * @param pCapacity the maximum total size in bytes of the files whose modules are kept
+   */
+  public static ModuleCache create(Context pContext, long pCapacity) {
+    return create(pContext, pCapacity, KeyMode.FILE_ATTRIBUTES);
+  }
+
+  /**
+   * Creates a new, empty module cache.
+   *
+   * @param pContext the {@link Context} to parse modules in
+   * @param pCapacity the maximum total size in bytes of the files whose modules are kept
+   * @param pKeyMode how to decide whether a file was parsed before
+   */
+  public static ModuleCache create(Context pContext, long pCapacity, KeyMode pKeyMode) {
+    checkNotNull(pContext);
+    checkNotNull(pKeyMode);
+    checkArgument(pCapacity >= 0, "Capacity must not be negative, but is %s", pCapacity);
+    return new ModuleCache(pContext, pCapacity, pKeyMode);
+  }
+
+  /**
+   * Returns the module of the given LLVM IR file. Both LLVM bitcode and human-readable LLVM IR are
+   * accepted. The file is only parsed if it is not in the cache.
+   *
+   * <p>To avoid memory leaks, the returned module always has to be disposed of using {@link
+   * Module#close()} after use.
+   *
+   * @param pPath the LLVM IR file
+   * @return a new copy of the module of the file
+   * @throws IOException if the file can not be read
+   * @throws LLVMException if the file can not be parsed
+   */
+  public Module get(Path pPath) throws IOException, LLVMException {
+    checkNotNull(pPath);
+    String fileName = pPath.toString();
+
+    Object key;
+    byte @Nullable [] content = null;
+    long size;
+    if (keyMode == KeyMode.CONTENT_HASH) {
+      content = Files.readAllBytes(pPath);
+      HashCode hash = Hashing.sha256().hashBytes(content);
+      key = hash;
+      size = content.length;
+    } else {
+      BasicFileAttributes attributes = Files.readAttributes(pPath, BasicFileAttributes.class);
+      size = attributes.size();
+      key = new FileKey(pPath.toAbsolutePath().normalize(), attributes.lastModifiedTime(), size);
+    }
+
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      hits++;
+      return copyOf(entry.module, fileName);
+    }
+    misses++;
+
+    Module parsed;
+    if (content != null) {
+      parsed = Module.parseIR(content, context);
+      parsed.setOriginFileName(fileName);
+    } else {
+      parsed = Module.parseIR(fileName, context);
+    }
+    if (size > capacity) {
+      // would be evicted right away
+      return parsed;
+    }
+    entries.put(key, new Entry(parsed, size));
+    currentSize += size;
+    evict();
+    return copyOf(parsed, fileName);
+  }
+
+  /** Copies the given module, which may have been parsed from a different file. */
+  private static Module copyOf(Module pModule, String pFileName) {
+    Module copy = pModule.copy();
+    copy.setOriginFileName(pFileName);
+    return copy;
+  }
+
+  /** Evicts and closes the least recently used modules until the capacity is not exceeded. */
+  private void evict() {
+    Iterator<Entry> it = entries.values().iterator();
+    while (currentSize > capacity && it.hasNext()) {
+      Entry eldest = it.next();
+      it.remove();
+      currentSize -= eldest.size;
+      eldest.module.close();
+    }
+  }
+
+  /** Returns the number of lookups that were answered from the cache. */
+  public long getHitCount() {
+    return hits;
+  }
+
+  /** Returns the number of lookups that required parsing a file. */
+  public long getMissCount() {
+    return misses;
+  }
+
+  /** Returns the total size in bytes of the files whose modules are currently cached. */
+  public long getSize() {
+    return currentSize;
+  }
+
+  /** Closes all cached modules and empties this cache. Modules handed out stay valid. */
+  @Override
+  public void close() {
+    for (Entry entry : entries.values()) {
+      entry.module.close();
+    }
+    entries.clear();
+    currentSize = 0;
+  }
+}
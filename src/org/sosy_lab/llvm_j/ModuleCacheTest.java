@@ -0,0 +1,101 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModuleCacheTest {
+
+  private Context context;
+
+  @Before
+  public void setUp_library() {
+    Path libraryPath = Paths.get("lib", "java", "runtime");
+    Module.addLibraryLookupPaths(ImmutableList.of(libraryPath));
+    context = Context.create();
+  }
+
+  @After
+  public void tearDown_context() {
+    context.close();
+  }
+
+  @Test
+  public void test_get_secondLookupHits() throws LLVMException, IOException {
+    Path llvmFile = Paths.get("build/test.bc");
+
+    try (ModuleCache cache = ModuleCache.create(context, Long.MAX_VALUE);
+        Module m1 = cache.get(llvmFile);
+        Module m2 = cache.get(llvmFile)) {
+      assertThat(m1).isNotEqualTo(m2);
+      assertThat(m2.getFirstFunction()).isNotNull();
+      assertThat(m2.getOriginFileName()).isEqualTo(llvmFile.toString());
+      assertThat(cache.getMissCount()).isEqualTo(1L);
+      assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void test_get_contentHash() throws LLVMException, IOException {
+    Path llvmFile = Paths.get("build/test.ll");
+
+    try (ModuleCache cache =
+            ModuleCache.create(context, Long.MAX_VALUE, ModuleCache.KeyMode.CONTENT_HASH);
+        Module m1 = cache.get(llvmFile);
+        Module m2 = cache.get(llvmFile)) {
+      assertThat(m1).isNotEqualTo(m2);
+      assertThat(m2.getFirstFunction()).isNotNull();
+      assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void test_get_evictsLeastRecentlyUsed() throws LLVMException, IOException {
+    Path bitcodeFile = Paths.get("build/test.bc");
+    Path textFile = Paths.get("build/test.ll");
+    long capacity = Math.max(Files.size(bitcodeFile), Files.size(textFile));
+
+    try (ModuleCache cache = ModuleCache.create(context, capacity)) {
+      cache.get(bitcodeFile).close();
+      cache.get(textFile).close();
+      assertThat(cache.getSize()).isEqualTo(Files.size(textFile));
+
+      cache.get(bitcodeFile).close();
+      assertThat(cache.getMissCount()).isEqualTo(3L);
+    }
+  }
+}
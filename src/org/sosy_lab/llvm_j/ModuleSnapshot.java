@@ -0,0 +1,784 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.errorprone.annotations.Var;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of the structure of a {@link Module}, stored in flat primitive arrays.
+ *
+ * <p>Functions, basic blocks, instructions, types and all other values that are used as operands
+ * are identified by dense <code>int</code> ids, separately for each of these kinds and starting at
+ * 0. Ids follow the order of the module: the basic blocks of a function have consecutive ids, as
+ * do the instructions of a basic block.
+ *
+ * <p>The module is read once when the snapshot is created. Afterwards, no method of this class
+ * calls into LLVM, so analyses that run over the snapshot many times avoid the cost of native calls
+ * and the snapshot can be used by many threads concurrently. The native addresses stored in the
+ * snapshot are only meaningful while the module is alive and unchanged.
+ *
+ * <p>Snapshots can be {@link #writeTo(Path) stored} in a versioned binary file and {@link
+ * #load(Path) loaded} again without the LLVM library.
+ */
+public final class ModuleSnapshot {
+
+  /** Kinds of values an operand can refer to, each with its own id space. */
+  public enum OperandKind {
+    /** An instruction of the module. */
+    INSTRUCTION,
+    /** A basic block of the module, e.g., the target of a branch. */
+    BASIC_BLOCK,
+    /** A function of the module. */
+    FUNCTION,
+    /** Any other value, e.g., a constant, a global variable or a function argument. */
+    OTHER
+  }
+
+  private static final OperandKind[] OPERAND_KINDS = OperandKind.values();
+
+  /** Magic number at the start of a snapshot file ("LLJS"). */
+  private static final int FILE_MAGIC = 0x534A4C4C;
+
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  /** Version of the snapshot file format. Has to be increased on every change of the format. */
+  private static final int FILE_VERSION = 1;
+
+  // functions
+  private final long[] functionAddresses;
+  private final String[] functionNames;
+  private final int[] functionBlockStarts; // length + 1
+
+  // basic blocks
+  private final long[] blockAddresses;
+  private final int[] blockFunctions;
+  private final int[] blockInstructionStarts; // length + 1
+  private final int[] successorStarts; // length + 1
+  private final int[] successors;
+
+  // instructions
+  private final long[] instructionAddresses;
+  private final int[] instructionBlocks;
+  private final int[] opCodes;
+  private final int[] instructionTypes;
+  private final int[] operandStarts; // length + 1
+  private final int[] operandKinds;
+  private final int[] operands;
+
+  // types
+  private final long[] typeAddresses;
+  private final int[] typeKinds;
+
+  // other operand values
+  private final long[] otherAddresses;
+
+  private ModuleSnapshot(
+      long[] pFunctionAddresses,
+      String[] pFunctionNames,
+      int[] pFunctionBlockStarts,
+      long[] pBlockAddresses,
+      int[] pBlockFunctions,
+      int[] pBlockInstructionStarts,
+      int[] pSuccessorStarts,
+      int[] pSuccessors,
+      long[] pInstructionAddresses,
+      int[] pInstructionBlocks,
+      int[] pOpCodes,
+      int[] pInstructionTypes,
+      int[] pOperandStarts,
+      int[] pOperandKinds,
+      int[] pOperands,
+      long[] pTypeAddresses,
+      int[] pTypeKinds,
+      long[] pOtherAddresses) {
+    functionAddresses = pFunctionAddresses;
+    functionNames = pFunctionNames;
+    functionBlockStarts = pFunctionBlockStarts;
+    blockAddresses = pBlockAddresses;
+    blockFunctions = pBlockFunctions;
+    blockInstructionStarts = pBlockInstructionStarts;
+    successorStarts = pSuccessorStarts;
+    successors = pSuccessors;
+    instructionAddresses = pInstructionAddresses;
+    instructionBlocks = pInstructionBlocks;
+    opCodes = pOpCodes;
+    instructionTypes = pInstructionTypes;
+    operandStarts = pOperandStarts;
+    operandKinds = pOperandKinds;
+    operands = pOperands;
+    typeAddresses = pTypeAddresses;
+    typeKinds = pTypeKinds;
+    otherAddresses = pOtherAddresses;
+  }
+
+  /**
+   * Creates a snapshot of the given module. Function bodies that were not materialized yet are
+   * materialized.
+   */
+  public static ModuleSnapshot create(Module pModule) {
+    checkNotNull(pModule);
+    Builder builder = new Builder();
+    builder.readStructure(AddressBinding.addressOf(pModule.getModule()));
+    builder.readInstructions();
+    builder.readSuccessors();
+    builder.readTypes();
+    return builder.build();
+  }
+
+  /** Collects the content of a snapshot while the module is read. */
+  private static final class Builder {
+    private final AddressIndex functions = new AddressIndex();
+    private final List<String> functionNames = new ArrayList<>();
+    private final ImmutableIntArray.Builder functionBlockStarts = ImmutableIntArray.builder();
+
+    private final AddressIndex blocks = new AddressIndex();
+    private final ImmutableIntArray.Builder blockFunctions = ImmutableIntArray.builder();
+    private final ImmutableIntArray.Builder blockInstructionStarts = ImmutableIntArray.builder();
+    private final ImmutableIntArray.Builder successorStarts = ImmutableIntArray.builder();
+    private final ImmutableIntArray.Builder successors = ImmutableIntArray.builder();
+    private int successorCount = 0;
+
+    private final AddressIndex instructions = new AddressIndex();
+    private final ImmutableIntArray.Builder instructionBlocks = ImmutableIntArray.builder();
+    private int[] opCodes = new int[0];
+    private int[] instructionTypes = new int[0];
+    private final ImmutableIntArray.Builder operandStarts = ImmutableIntArray.builder();
+    private final ImmutableIntArray.Builder operandKinds = ImmutableIntArray.builder();
+    private final ImmutableIntArray.Builder operands = ImmutableIntArray.builder();
+    private int operandCount = 0;
+
+    private final AddressIndex types = new AddressIndex();
+    private int[] typeKinds = new int[0];
+
+    private final AddressIndex others = new AddressIndex();
+
+    /** Assigns ids to all functions, basic blocks and instructions. */
+    private void readStructure(long pModule) {
+      for (@Var long function = AddressBinding.LLVMGetFirstFunction(pModule);
+          function != 0;
+          function = AddressBinding.LLVMGetNextFunction(function)) {
+        int functionId = functions.add(function);
+        functionNames.add(AddressBinding.LLVMGetValueName(function));
+        functionBlockStarts.add(blocks.size());
+
+        for (@Var long block = InstructionCursor.getFirstBasicBlock(function);
+            block != 0;
+            block = AddressBinding.LLVMGetNextBasicBlock(block)) {
+          int blockId = blocks.add(block);
+          blockFunctions.add(functionId);
+          blockInstructionStarts.add(instructions.size());
+
+          for (@Var long instruction = AddressBinding.LLVMGetFirstInstruction(block);
+              instruction != 0;
+              instruction = AddressBinding.LLVMGetNextInstruction(instruction)) {
+            instructions.add(instruction);
+            instructionBlocks.add(blockId);
+          }
+        }
+      }
+      functionBlockStarts.add(blocks.size());
+      blockInstructionStarts.add(instructions.size());
+    }
+
+    /**
+     * Reads op code, type and operands of all instructions. Needs the ids of all instructions, as
+     * operands may refer to later instructions.
+     */
+    private void readInstructions() {
+      int count = instructions.size();
+      opCodes = new int[count];
+      instructionTypes = new int[count];
+      for (int id = 0; id < count; id++) {
+        long instruction = instructions.get(id);
+        opCodes[id] = AddressBinding.LLVMGetInstructionOpcode(instruction);
+        instructionTypes[id] = types.add(AddressBinding.LLVMTypeOf(instruction));
+
+        operandStarts.add(operandCount);
+        int instructionOperands = AddressBinding.LLVMGetNumOperands(instruction);
+        for (int i = 0; i < instructionOperands; i++) {
+          addOperand(AddressBinding.LLVMGetOperand(instruction, i));
+        }
+      }
+      operandStarts.add(operandCount);
+    }
+
+    private void addOperand(long pOperand) {
+      operandCount++;
+      if (pOperand == 0) {
+        operandKinds.add(OperandKind.OTHER.ordinal());
+        operands.add(-1);
+        return;
+      }
+      @Var int id = instructions.indexOf(pOperand);
+      if (id >= 0) {
+        operandKinds.add(OperandKind.INSTRUCTION.ordinal());
+        operands.add(id);
+        return;
+      }
+      // the value of a basic block has the same address as the basic block
+      id = blocks.indexOf(pOperand);
+      if (id >= 0) {
+        operandKinds.add(OperandKind.BASIC_BLOCK.ordinal());
+        operands.add(id);
+        return;
+      }
+      id = functions.indexOf(pOperand);
+      if (id >= 0) {
+        operandKinds.add(OperandKind.FUNCTION.ordinal());
+        operands.add(id);
+        return;
+      }
+      operandKinds.add(OperandKind.OTHER.ordinal());
+      operands.add(others.add(pOperand));
+    }
+
+    /** Reads the successors of all basic blocks from their terminator instructions. */
+    private void readSuccessors() {
+      ImmutableIntArray starts = blockInstructionStarts.build();
+      for (int block = 0; block < blocks.size(); block++) {
+        successorStarts.add(successorCount);
+        int end = starts.get(block + 1);
+        if (end == starts.get(block)) {
+          continue; // no instructions
+        }
+        long terminator = instructions.get(end - 1);
+        if (AddressBinding.LLVMIsATerminatorInst(terminator) == 0) {
+          continue;
+        }
+        int count = AddressBinding.LLVMGetNumSuccessors(terminator);
+        for (int i = 0; i < count; i++) {
+          successors.add(blocks.indexOf(AddressBinding.LLVMGetSuccessor(terminator, i)));
+        }
+        successorCount += count;
+      }
+      successorStarts.add(successorCount);
+    }
+
+    private void readTypes() {
+      typeKinds = new int[types.size()];
+      for (int id = 0; id < typeKinds.length; id++) {
+        typeKinds[id] = AddressBinding.LLVMGetTypeKind(types.get(id));
+      }
+    }
+
+    private ModuleSnapshot build() {
+      return new ModuleSnapshot(
+          functions.toArray(),
+          functionNames.toArray(new String[0]),
+          functionBlockStarts.build().toArray(),
+          blocks.toArray(),
+          blockFunctions.build().toArray(),
+          blockInstructionStarts.build().toArray(),
+          successorStarts.build().toArray(),
+          successors.build().toArray(),
+          instructions.toArray(),
+          instructionBlocks.build().toArray(),
+          opCodes,
+          instructionTypes,
+          operandStarts.build().toArray(),
+          operandKinds.build().toArray(),
+          operands.build().toArray(),
+          types.toArray(),
+          typeKinds,
+          others.toArray());
+    }
+  }
+
+  /**
+   * Writes this snapshot to the given file, which is replaced if it exists. The file can be loaded
+   * with {@link #load(Path)} without the LLVM library.
+   *
+   * <p>The file consists of a header with a magic number and the format version, followed by the
+   * arrays of this snapshot. Each array is stored as its length followed by its elements in little
+   * endian byte order. Strings are stored as UTF-8.
+   */
+  public void writeTo(Path pPath) throws IOException {
+    writeTo(pPath, new ArrayList<>());
+  }
+
+  /**
+   * Writes this snapshot to the given file like {@link #writeTo(Path)} and adds the file offset of
+   * each array, in the order in which they are stored, to the given list.
+   */
+  void writeTo(Path pPath, List<Long> pArrayOffsets) throws IOException {
+    checkNotNull(pPath);
+    try (FileChannel channel =
+        FileChannel.open(
+            pPath,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer header = newBuffer(8).putInt(FILE_MAGIC).putInt(FILE_VERSION);
+      write(channel, header);
+      writeLongs(channel, functionAddresses, pArrayOffsets);
+      writeStrings(channel, functionNames, pArrayOffsets);
+      writeInts(channel, functionBlockStarts, pArrayOffsets);
+      writeLongs(channel, blockAddresses, pArrayOffsets);
+      writeInts(channel, blockFunctions, pArrayOffsets);
+      writeInts(channel, blockInstructionStarts, pArrayOffsets);
+      writeInts(channel, successorStarts, pArrayOffsets);
+      writeInts(channel, successors, pArrayOffsets);
+      writeLongs(channel, instructionAddresses, pArrayOffsets);
+      writeInts(channel, instructionBlocks, pArrayOffsets);
+      writeInts(channel, opCodes, pArrayOffsets);
+      writeInts(channel, instructionTypes, pArrayOffsets);
+      writeInts(channel, operandStarts, pArrayOffsets);
+      writeInts(channel, operandKinds, pArrayOffsets);
+      writeInts(channel, operands, pArrayOffsets);
+      writeLongs(channel, typeAddresses, pArrayOffsets);
+      writeInts(channel, typeKinds, pArrayOffsets);
+      writeLongs(channel, otherAddresses, pArrayOffsets);
+    }
+  }
+
+  /**
+   * Loads a snapshot from a file written by {@link #writeTo(Path)}. The file is memory-mapped and
+   * copied in bulk, so loading is fast and does neither need the LLVM library nor any parsing.
+   *
+   * <p>The native addresses in the loaded snapshot are those of the module the snapshot was created
+   * from. They can only serve to identify elements.
+   *
+   * @throws IOException if the file can not be read, is no snapshot file, was written with an
+   *     incompatible version of the format, or is truncated or corrupt, i.e., its arrays do not fit
+   *     together or contain ids out of range
+   */
+  public static ModuleSnapshot load(Path pPath) throws IOException {
+    checkNotNull(pPath);
+    try (FileChannel channel = FileChannel.open(pPath, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Snapshot file " + pPath + " is too large");
+      }
+      ByteBuffer in =
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(BYTE_ORDER);
+      try {
+        if (in.getInt() != FILE_MAGIC) {
+          throw new IOException("File " + pPath + " is not a module snapshot");
+        }
+        int version = in.getInt();
+        if (version != FILE_VERSION) {
+          throw new IOException(
+              "Snapshot file " + pPath + " has unsupported format version " + version);
+        }
+        ModuleSnapshot snapshot =
+            new ModuleSnapshot(
+                readLongs(in),
+                readStrings(in),
+                readInts(in),
+                readLongs(in),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readLongs(in),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readLongs(in),
+                readInts(in),
+                readLongs(in));
+        if (in.hasRemaining()) {
+          throw new IOException("Snapshot file " + pPath + " has trailing data");
+        }
+        snapshot.checkConsistency(pPath);
+        return snapshot;
+      } catch (BufferUnderflowException | IllegalArgumentException e) {
+        throw new IOException("Snapshot file " + pPath + " is truncated or corrupt", e);
+      }
+    }
+  }
+
+  /**
+   * Checks that the arrays of this snapshot fit together and that all stored ids are in range, so
+   * that no getter fails for valid arguments.
+   */
+  private void checkConsistency(Path pPath) throws IOException {
+    int functionCount = functionAddresses.length;
+    int blockCount = blockAddresses.length;
+    int instructionCount = instructionAddresses.length;
+    int typeCount = typeAddresses.length;
+
+    checkLength(pPath, "functionNames", functionNames.length, functionCount);
+    checkStarts(pPath, "functionBlockStarts", functionBlockStarts, functionCount, blockCount);
+    checkLength(pPath, "blockFunctions", blockFunctions.length, blockCount);
+    checkOwners(pPath, "blockFunctions", blockFunctions, functionBlockStarts);
+    checkStarts(
+        pPath, "blockInstructionStarts", blockInstructionStarts, blockCount, instructionCount);
+    checkStarts(pPath, "successorStarts", successorStarts, blockCount, successors.length);
+    checkIds(pPath, "successors", successors, 0, blockCount);
+
+    checkLength(pPath, "instructionBlocks", instructionBlocks.length, instructionCount);
+    checkOwners(pPath, "instructionBlocks", instructionBlocks, blockInstructionStarts);
+    checkLength(pPath, "opCodes", opCodes.length, instructionCount);
+    for (int opCode : opCodes) {
+      if (!Value.OpCode.isValue(opCode)) {
+        throw corrupt(pPath, "opCodes", "unknown op code " + opCode);
+      }
+    }
+    checkLength(pPath, "instructionTypes", instructionTypes.length, instructionCount);
+    checkIds(pPath, "instructionTypes", instructionTypes, 0, typeCount);
+    checkStarts(pPath, "operandStarts", operandStarts, instructionCount, operands.length);
+    checkLength(pPath, "operandKinds", operandKinds.length, operands.length);
+    checkIds(pPath, "operandKinds", operandKinds, 0, OPERAND_KINDS.length);
+    for (int i = 0; i < operands.length; i++) {
+      if (!isValidOperand(OPERAND_KINDS[operandKinds[i]], operands[i])) {
+        throw corrupt(pPath, "operands", "operand id " + operands[i] + " out of range");
+      }
+    }
+
+    checkLength(pPath, "typeKinds", typeKinds.length, typeCount);
+    for (int typeKind : typeKinds) {
+      if (!TypeRef.TypeKind.isValue(typeKind)) {
+        throw corrupt(pPath, "typeKinds", "unknown type kind " + typeKind);
+      }
+    }
+  }
+
+  private boolean isValidOperand(OperandKind pKind, int pOperand) {
+    switch (pKind) {
+      case INSTRUCTION:
+        return pOperand >= 0 && pOperand < instructionAddresses.length;
+      case BASIC_BLOCK:
+        return pOperand >= 0 && pOperand < blockAddresses.length;
+      case FUNCTION:
+        return pOperand >= 0 && pOperand < functionAddresses.length;
+      case OTHER:
+        // missing operands have the id -1
+        return pOperand >= -1 && pOperand < otherAddresses.length;
+      default:
+        throw new AssertionError(pKind);
+    }
+  }
+
+  private static void checkLength(Path pPath, String pArray, int pLength, int pExpected)
+      throws IOException {
+    if (pLength != pExpected) {
+      throw corrupt(pPath, pArray, "length " + pLength + " instead of " + pExpected);
+    }
+  }
+
+  /**
+   * Checks that the given start indices of <code>pCount</code> elements are monotonic and cover
+   * exactly the indices 0 to <code>pTotal</code>.
+   */
+  private static void checkStarts(Path pPath, String pArray, int[] pStarts, int pCount, int pTotal)
+      throws IOException {
+    checkLength(pPath, pArray, pStarts.length, pCount + 1);
+    if (pStarts[0] != 0 || pStarts[pCount] != pTotal) {
+      throw corrupt(pPath, pArray, "does not cover 0 to " + pTotal);
+    }
+    for (int i = 0; i < pCount; i++) {
+      if (pStarts[i] > pStarts[i + 1]) {
+        throw corrupt(pPath, pArray, "not monotonic at index " + i);
+      }
+    }
+  }
+
+  /** Checks that all ids are in the range from <code>pMin</code> to <code>pEnd</code> - 1. */
+  private static void checkIds(Path pPath, String pArray, int[] pIds, int pMin, int pEnd)
+      throws IOException {
+    for (int id : pIds) {
+      if (id < pMin || id >= pEnd) {
+        throw corrupt(pPath, pArray, "id " + id + " out of range");
+      }
+    }
+  }
+
+  /**
+   * Checks that the owner of each element, e.g., the function of a basic block, is the one whose
+   * range in the given start indices contains the element.
+   */
+  private static void checkOwners(Path pPath, String pArray, int[] pOwners, int[] pStarts)
+      throws IOException {
+    for (int owner = 0; owner + 1 < pStarts.length; owner++) {
+      for (int element = pStarts[owner]; element < pStarts[owner + 1]; element++) {
+        if (pOwners[element] != owner) {
+          throw corrupt(pPath, pArray, "wrong owner of element " + element);
+        }
+      }
+    }
+  }
+
+  private static IOException corrupt(Path pPath, String pArray, String pReason) {
+    return new IOException(
+        "Snapshot file " + pPath + " is corrupt, array " + pArray + ": " + pReason);
+  }
+
+  private static ByteBuffer newBuffer(int pSize) {
+    return ByteBuffer.allocate(pSize).order(BYTE_ORDER);
+  }
+
+  private static void write(FileChannel pChannel, ByteBuffer pBuffer) throws IOException {
+    pBuffer.flip();
+    while (pBuffer.hasRemaining()) {
+      pChannel.write(pBuffer);
+    }
+  }
+
+  private static void writeInts(FileChannel pChannel, int[] pValues, List<Long> pOffsets)
+      throws IOException {
+    pOffsets.add(pChannel.position());
+    ByteBuffer buffer = newBuffer(Integer.BYTES + pValues.length * Integer.BYTES);
+    buffer.putInt(pValues.length);
+    buffer.asIntBuffer().put(pValues);
+    buffer.position(buffer.limit());
+    write(pChannel, buffer);
+  }
+
+  private static void writeLongs(FileChannel pChannel, long[] pValues, List<Long> pOffsets)
+      throws IOException {
+    pOffsets.add(pChannel.position());
+    ByteBuffer buffer = newBuffer(Integer.BYTES + pValues.length * Long.BYTES);
+    buffer.putInt(pValues.length);
+    buffer.asLongBuffer().put(pValues);
+    buffer.position(buffer.limit());
+    write(pChannel, buffer);
+  }
+
+  private static void writeStrings(FileChannel pChannel, String[] pValues, List<Long> pOffsets)
+      throws IOException {
+    pOffsets.add(pChannel.position());
+    byte[][] encoded = new byte[pValues.length][];
+    @Var int size = Integer.BYTES;
+    for (int i = 0; i < pValues.length; i++) {
+      encoded[i] = pValues[i].getBytes(StandardCharsets.UTF_8);
+      size += Integer.BYTES + encoded[i].length;
+    }
+    ByteBuffer buffer = newBuffer(size);
+    buffer.putInt(pValues.length);
+    for (byte[] value : encoded) {
+      buffer.putInt(value.length).put(value);
+    }
+    write(pChannel, buffer);
+  }
+
+  private static int readLength(ByteBuffer pIn, int pElementSize) throws IOException {
+    int length = pIn.getInt();
+    if (length < 0 || (long) length * pElementSize > pIn.remaining()) {
+      throw new IOException("Invalid array length " + length + " in snapshot file");
+    }
+    return length;
+  }
+
+  private static int[] readInts(ByteBuffer pIn) throws IOException {
+    int[] values = new int[readLength(pIn, Integer.BYTES)];
+    pIn.asIntBuffer().get(values);
+    pIn.position(pIn.position() + values.length * Integer.BYTES);
+    return values;
+  }
+
+  private static long[] readLongs(ByteBuffer pIn) throws IOException {
+    long[] values = new long[readLength(pIn, Long.BYTES)];
+    pIn.asLongBuffer().get(values);
+    pIn.position(pIn.position() + values.length * Long.BYTES);
+    return values;
+  }
+
+  private static String[] readStrings(ByteBuffer pIn) throws IOException {
+    String[] values = new String[readLength(pIn, Integer.BYTES)];
+    for (int i = 0; i < values.length; i++) {
+      byte[] value = new byte[readLength(pIn, 1)];
+      pIn.get(value);
+      values[i] = new String(value, StandardCharsets.UTF_8);
+    }
+    return values;
+  }
+
+  // Functions
+
+  /** Returns the number of functions, including declarations. */
+  public int getFunctionCount() {
+    return functionAddresses.length;
+  }
+
+  /** Returns the native address of the given function. */
+  public long getFunctionAddress(int pFunction) {
+    return functionAddresses[pFunction];
+  }
+
+  /** Returns the name of the given function. */
+  public String getFunctionName(int pFunction) {
+    return functionNames[pFunction];
+  }
+
+  /** Returns whether the given function has no basic blocks, i.e., is only declared. */
+  public boolean isDeclaration(int pFunction) {
+    return functionBlockStarts[pFunction] == functionBlockStarts[pFunction + 1];
+  }
+
+  /** Returns the id of the first basic block of the given function. */
+  public int getFirstBlock(int pFunction) {
+    checkElementIndex(pFunction, functionAddresses.length);
+    return functionBlockStarts[pFunction];
+  }
+
+  /** Returns the id after the last basic block of the given function. */
+  public int getBlockEnd(int pFunction) {
+    checkElementIndex(pFunction, functionAddresses.length);
+    return functionBlockStarts[pFunction + 1];
+  }
+
+  // Basic blocks
+
+  /** Returns the number of basic blocks of all functions. */
+  public int getBlockCount() {
+    return blockAddresses.length;
+  }
+
+  /** Returns the native address of the given basic block. */
+  public long getBlockAddress(int pBlock) {
+    return blockAddresses[pBlock];
+  }
+
+  /** Returns the id of the function the given basic block belongs to. */
+  public int getBlockFunction(int pBlock) {
+    return blockFunctions[pBlock];
+  }
+
+  /** Returns the id of the first instruction of the given basic block. */
+  public int getFirstInstruction(int pBlock) {
+    checkElementIndex(pBlock, blockAddresses.length);
+    return blockInstructionStarts[pBlock];
+  }
+
+  /** Returns the id after the last instruction of the given basic block. */
+  public int getInstructionEnd(int pBlock) {
+    checkElementIndex(pBlock, blockAddresses.length);
+    return blockInstructionStarts[pBlock + 1];
+  }
+
+  /** Returns the number of successors of the given basic block. */
+  public int getSuccessorCount(int pBlock) {
+    checkElementIndex(pBlock, blockAddresses.length);
+    return successorStarts[pBlock + 1] - successorStarts[pBlock];
+  }
+
+  /** Returns the id of the successor of the given basic block at the given index. */
+  public int getSuccessor(int pBlock, int pIndex) {
+    checkElementIndex(pIndex, getSuccessorCount(pBlock));
+    return successors[successorStarts[pBlock] + pIndex];
+  }
+
+  // Instructions
+
+  /** Returns the number of instructions of all functions. */
+  public int getInstructionCount() {
+    return instructionAddresses.length;
+  }
+
+  /** Returns the native address of the given instruction. */
+  public long getInstructionAddress(int pInstruction) {
+    return instructionAddresses[pInstruction];
+  }
+
+  /** Returns the id of the basic block the given instruction belongs to. */
+  public int getInstructionBlock(int pInstruction) {
+    checkElementIndex(pInstruction, instructionAddresses.length);
+    return instructionBlocks[pInstruction];
+  }
+
+  /** Returns the op code of the given instruction. */
+  public Value.OpCode getOpCode(int pInstruction) {
+    checkElementIndex(pInstruction, instructionAddresses.length);
+    return Value.OpCode.fromValue(opCodes[pInstruction]);
+  }
+
+  /** Returns the type id of the given instruction. */
+  public int getInstructionType(int pInstruction) {
+    checkElementIndex(pInstruction, instructionAddresses.length);
+    return instructionTypes[pInstruction];
+  }
+
+  /** Returns the number of operands of the given instruction. */
+  public int getOperandCount(int pInstruction) {
+    checkElementIndex(pInstruction, instructionAddresses.length);
+    return operandStarts[pInstruction + 1] - operandStarts[pInstruction];
+  }
+
+  /** Returns the kind of the value the operand of the given instruction at the given index is. */
+  public OperandKind getOperandKind(int pInstruction, int pIndex) {
+    checkElementIndex(pIndex, getOperandCount(pInstruction));
+    return OPERAND_KINDS[operandKinds[operandStarts[pInstruction] + pIndex]];
+  }
+
+  /**
+   * Returns the id of the operand of the given instruction at the given index, in the id space of
+   * its {@link #getOperandKind(int, int) kind}. Missing operands have the id -1.
+   */
+  public int getOperand(int pInstruction, int pIndex) {
+    checkElementIndex(pIndex, getOperandCount(pInstruction));
+    return operands[operandStarts[pInstruction] + pIndex];
+  }
+
+  // Types
+
+  /** Returns the number of distinct types of instructions. */
+  public int getTypeCount() {
+    return typeAddresses.length;
+  }
+
+  /** Returns the native address of the given type. */
+  public long getTypeAddress(int pType) {
+    checkElementIndex(pType, typeAddresses.length);
+    return typeAddresses[pType];
+  }
+
+  /** Returns the kind of the given type. */
+  public TypeRef.TypeKind getTypeKind(int pType) {
+    checkElementIndex(pType, typeAddresses.length);
+    return TypeRef.toTypeKind(typeKinds[pType]);
+  }
+
+  // Other values
+
+  /** Returns the number of operand values that are no instruction, basic block or function. */
+  public int getOtherValueCount() {
+    return otherAddresses.length;
+  }
+
+  /** Returns the native address of the given operand value of kind {@link OperandKind#OTHER}. */
+  public long getOtherValueAddress(int pValue) {
+    return otherAddresses[pValue];
+  }
+}
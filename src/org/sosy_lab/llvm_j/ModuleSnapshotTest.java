@@ -0,0 +1,205 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModuleSnapshotTest {
+
+  private static final String DIAMOND =
+      "define i32 @f(i1 %c) {\n"
+          + "entry:\n"
+          + "  br i1 %c, label %a, label %b\n"
+          + "a:\n"
+          + "  br label %join\n"
+          + "b:\n"
+          + "  br label %join\n"
+          + "join:\n"
+          + "  %x = phi i32 [ 1, %a ], [ 2, %b ]\n"
+          + "  ret i32 %x\n"
+          + "}\n"
+          + "declare void @g()\n";
+
+  private Context context;
+
+  @Before
+  public void setUp_context() {
+    Path libraryPath = Paths.get("lib", "java", "runtime");
+    Module.addLibraryLookupPaths(ImmutableList.of(libraryPath));
+    context = Context.create();
+  }
+
+  @After
+  public void tearDown_context() {
+    context.close();
+  }
+
+  @Test
+  public void test_create_matchesCursor() throws LLVMException {
+    try (Module m = Module.parseIR("build/test.bc", context)) {
+      ModuleSnapshot snapshot = ModuleSnapshot.create(m);
+
+      InstructionCursor cursor = InstructionCursor.create(m);
+      int id = 0;
+      while (cursor.next()) {
+        assertThat(snapshot.getInstructionAddress(id)).isEqualTo(cursor.getInstructionAddress());
+        assertThat(snapshot.getOpCode(id)).isEqualTo(cursor.getOpCode());
+        assertThat(snapshot.getOperandCount(id)).isEqualTo(cursor.getNumOperands());
+        assertThat(snapshot.getTypeKind(snapshot.getInstructionType(id)))
+            .isEqualTo(cursor.getTypeKind());
+        id++;
+      }
+      assertThat(snapshot.getInstructionCount()).isEqualTo(id);
+    }
+  }
+
+  @Test
+  public void test_create_controlFlow() throws LLVMException {
+    try (Module m = Module.parseIR(DIAMOND.getBytes(StandardCharsets.US_ASCII), context)) {
+      ModuleSnapshot snapshot = ModuleSnapshot.create(m);
+
+      assertThat(snapshot.getFunctionCount()).isEqualTo(2);
+      assertThat(snapshot.getFunctionName(0)).isEqualTo("f");
+      assertThat(snapshot.isDeclaration(0)).isFalse();
+      assertThat(snapshot.isDeclaration(1)).isTrue();
+      assertThat(snapshot.getBlockCount()).isEqualTo(4);
+
+      // entry -> a, b
+      assertThat(snapshot.getSuccessorCount(0)).isEqualTo(2);
+      assertThat(snapshot.getSuccessor(0, 0)).isEqualTo(1);
+      assertThat(snapshot.getSuccessor(0, 1)).isEqualTo(2);
+      assertThat(snapshot.getSuccessorCount(3)).isEqualTo(0);
+
+      // %x = phi i32 [ 1, %a ], [ 2, %b ] is used by ret
+      int phi = snapshot.getFirstInstruction(3);
+      int ret = phi + 1;
+      assertThat(snapshot.getOpCode(phi)).isEqualTo(Value.OpCode.PHI);
+      assertThat(snapshot.getOperandKind(ret, 0))
+          .isEqualTo(ModuleSnapshot.OperandKind.INSTRUCTION);
+      assertThat(snapshot.getOperand(ret, 0)).isEqualTo(phi);
+
+      // br label %join
+      int branch = snapshot.getFirstInstruction(1);
+      assertThat(snapshot.getOperandKind(branch, 0))
+          .isEqualTo(ModuleSnapshot.OperandKind.BASIC_BLOCK);
+      assertThat(snapshot.getOperand(branch, 0)).isEqualTo(3);
+    }
+  }
+
+  @Test
+  public void test_writeTo_load_roundTrip() throws LLVMException, IOException {
+    Path file = Files.createTempFile("snapshot", ".bin");
+    try {
+      ModuleSnapshot snapshot;
+      try (Module m = Module.parseIR(DIAMOND.getBytes(StandardCharsets.US_ASCII), context)) {
+        snapshot = ModuleSnapshot.create(m);
+      }
+      snapshot.writeTo(file);
+
+      ModuleSnapshot loaded = ModuleSnapshot.load(file);
+
+      assertThat(loaded.getFunctionName(0)).isEqualTo("f");
+      assertThat(loaded.getBlockCount()).isEqualTo(snapshot.getBlockCount());
+      assertThat(loaded.getInstructionCount()).isEqualTo(snapshot.getInstructionCount());
+      for (int i = 0; i < snapshot.getInstructionCount(); i++) {
+        assertThat(loaded.getOpCode(i)).isEqualTo(snapshot.getOpCode(i));
+        assertThat(loaded.getOperandCount(i)).isEqualTo(snapshot.getOperandCount(i));
+        for (int k = 0; k < snapshot.getOperandCount(i); k++) {
+          assertThat(loaded.getOperandKind(i, k)).isEqualTo(snapshot.getOperandKind(i, k));
+          assertThat(loaded.getOperand(i, k)).isEqualTo(snapshot.getOperand(i, k));
+        }
+      }
+      assertThat(loaded.getSuccessor(0, 1)).isEqualTo(snapshot.getSuccessor(0, 1));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void test_load_noSnapshot() throws IOException {
+    Path file = Files.createTempFile("snapshot", ".bin");
+    try {
+      Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+      assertThrows(IOException.class, () -> ModuleSnapshot.load(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void test_load_successorOutOfRange() throws LLVMException, IOException {
+    // successors are the 8th array of the file
+    assertLoadFailsWithElement(7, 0, 99);
+  }
+
+  @Test
+  public void test_load_unknownOpCode() throws LLVMException, IOException {
+    // op codes are the 11th array of the file
+    assertLoadFailsWithElement(10, 0, 9999);
+  }
+
+  /**
+   * Writes a snapshot of {@link #DIAMOND}, replaces an element of one of the stored int arrays, and
+   * checks that the file is rejected.
+   */
+  private void assertLoadFailsWithElement(int pArray, int pIndex, int pValue)
+      throws LLVMException, IOException {
+    Path file = Files.createTempFile("snapshot", ".bin");
+    try {
+      List<Long> arrayOffsets = new ArrayList<>();
+      try (Module m = Module.parseIR(DIAMOND.getBytes(StandardCharsets.US_ASCII), context)) {
+        ModuleSnapshot.create(m).writeTo(file, arrayOffsets);
+      }
+      byte[] content = Files.readAllBytes(file);
+      // skip the length of the array
+      int offset = Math.toIntExact(arrayOffsets.get(pArray)) + Integer.BYTES * (1 + pIndex);
+      ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, pValue);
+      Files.write(file, content);
+
+      assertThrows(IOException.class, () -> ModuleSnapshot.load(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
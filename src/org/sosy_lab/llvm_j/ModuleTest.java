@@ -28,11 +28,22 @@
 package org.sosy_lab.llvm_j;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
 
 import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -92,6 +103,169 @@ public class ModuleTest {
     }
   }
 
+  @Test
+  public void test_parseBitcode_fromBytes_valid() throws LLVMException, IOException {
+    byte[] llvmBytes = Files.readAllBytes(Paths.get("build/test.bc"));
+
+    try (Module m = Module.parseIR(llvmBytes, context)) {
+      expectComponentsExist(m);
+    }
+  }
+
+  @Test
+  public void test_parseLl_fromBytes_valid() throws LLVMException, IOException {
+    byte[] llvmBytes = Files.readAllBytes(Paths.get("build/test.ll"));
+
+    try (Module m = Module.parseIR(llvmBytes, context)) {
+      expectComponentsExist(m);
+    }
+  }
+
+  @Test
+  public void test_parseBitcode_fromDirectBuffer_valid() throws LLVMException, IOException {
+    byte[] llvmBytes = Files.readAllBytes(Paths.get("build/test.bc"));
+    ByteBuffer buffer = ByteBuffer.allocateDirect(llvmBytes.length);
+    buffer.put(llvmBytes).flip();
+
+    try (Module m = Module.parseIR(buffer, context)) {
+      expectComponentsExist(m);
+    }
+    assertThat(buffer.position()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_parseBitcode_mapped_valid() throws LLVMException, IOException {
+    Path llvmFile = Paths.get("build/test.bc");
+
+    try (Module m = Module.parseIRMapped(llvmFile, context)) {
+      expectComponentsExist(m);
+      assertThat(m.getOriginFileName()).isEqualTo(llvmFile.toString());
+    }
+  }
+
+  @Test
+  public void test_parseLl_mapped_valid() throws LLVMException, IOException {
+    Path llvmFile = Paths.get("build/test.ll");
+
+    try (Module m = Module.parseIRMapped(llvmFile, context)) {
+      expectComponentsExist(m);
+    }
+  }
+
+  @Test
+  public void test_openLazy_bitcode_valid() throws LLVMException {
+    String llvmFile = "build/test.bc";
+
+    try (Module m = Module.openLazy(llvmFile, context)) {
+      expectComponentsExist(m);
+    }
+  }
+
+  @Test
+  public void test_parseLl_fromBytes_invalid() {
+    // reported at the type of the returned value
+    byte[] llvmBytes = "define i32 @f() {\n  ret i64 0\n}\n".getBytes(StandardCharsets.US_ASCII);
+
+    try {
+      Module.parseIR(llvmBytes, context).close();
+      fail("Parsing invalid IR succeeded");
+    } catch (LLVMException e) {
+      assertThat(e.getSeverity()).isEqualTo(Optional.of(LLVMException.Severity.ERROR));
+      assertThat(e.getLine()).isEqualTo(OptionalInt.of(2));
+      assertThat(e.getColumn()).isEqualTo(OptionalInt.of(7));
+    }
+  }
+
+  @Test
+  public void test_parseLl_fromBytes_invalidMessageIsUtf8() {
+    String source = "define i32 @f() {\n  ret i64 0 ; \u00e4\u20ac\n}\n";
+
+    try {
+      Module.parseIR(source.getBytes(StandardCharsets.UTF_8), context).close();
+      fail("Parsing invalid IR succeeded");
+    } catch (LLVMException e) {
+      // the error is reported on line 2 and the message repeats that line
+      assertThat(e.getMessage()).contains("ret i64 0 ; \u00e4\u20ac");
+    }
+  }
+
+  @Test
+  public void test_writeBitcode_roundTrip() throws LLVMException {
+    byte[] bitcode;
+    try (Module m = Module.parseIR("build/test.ll", context)) {
+      bitcode = m.writeBitcode();
+    }
+
+    try (Module m = Module.parseIR(bitcode, context)) {
+      expectComponentsExist(m);
+    }
+  }
+
+  @Test
+  public void test_writeBitcode_toChannel() throws LLVMException, IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] bitcode;
+    try (Module m = Module.parseIR("build/test.bc", context)) {
+      bitcode = m.writeBitcode();
+      m.writeBitcode(Channels.newChannel(out));
+    }
+
+    assertThat(out.toByteArray()).isEqualTo(bitcode);
+  }
+
+  @Test
+  public void test_parseAsync_valid() throws Exception {
+    String llvmFile = "build/test.bc";
+
+    CompletableFuture<Module> future = Module.parseAsync(llvmFile, context, Runnable::run);
+
+    try (Module m = future.get()) {
+      expectComponentsExist(m);
+    }
+  }
+
+  @Test
+  public void test_parseAsync_cancelledBeforeStart() {
+    List<Runnable> pending = new ArrayList<>();
+
+    CompletableFuture<Module> future = Module.parseAsync("build/test.bc", context, pending::add);
+    future.cancel(true);
+    pending.forEach(Runnable::run);
+
+    assertThat(future.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void test_enableInterning_sameWrappers() throws LLVMException {
+    try (Module m = Module.parseIR("build/test.bc", context)) {
+      m.enableInterning();
+
+      Value function = m.getFirstFunction();
+      BasicBlock block = function.getFirstBasicBlock();
+      Value instruction = block.getFirstInstruction();
+
+      assertThat(m.getFirstFunction()).isSameInstanceAs(function);
+      assertThat(function.getFirstBasicBlock()).isSameInstanceAs(block);
+      assertThat(block.getFirstInstruction()).isSameInstanceAs(instruction);
+      assertThat(instruction.typeOf()).isSameInstanceAs(instruction.typeOf());
+      assertThat(function.asFunction()).isSameInstanceAs(m.getFirstFunction());
+      assertThat(function).isInstanceOf(Function.class);
+    }
+  }
+
+  @Test
+  public void test_enableInterning_invalidated() throws LLVMException {
+    try (Module m = Module.parseIR("build/test.bc", context)) {
+      m.enableInterning();
+      Value function = m.getFirstFunction();
+
+      m.invalidateAnalyses();
+
+      assertThat(m.getFirstFunction()).isNotSameInstanceAs(function);
+      assertThat(m.getFirstFunction()).isEqualTo(function);
+    }
+  }
+
   /** Check that basic components of the provided {@link Module} exist. */
   private static void expectComponentsExist(Module pModule) {
     assertThat(pModule).isNotNull();
@@ -0,0 +1,76 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.google.common.collect.ImmutableList;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.After;
+import org.junit.Before;
+
+/**
+ * Base class for tests that run on a single module. Before each test, a new {@link Context} is
+ * created and the module is parsed in it, and both are closed after the test.
+ */
+abstract class ModuleTestCase {
+
+  private final @Nullable String ir;
+
+  Context context;
+  Module module;
+
+  /** Runs the tests on the module of the file <code>build/test.bc</code>. */
+  ModuleTestCase() {
+    ir = null;
+  }
+
+  /** Runs the tests on the module of the given human-readable LLVM IR. */
+  ModuleTestCase(String pIr) {
+    ir = pIr;
+  }
+
+  @Before
+  public void setUp_module() throws LLVMException {
+    Path libraryPath = Paths.get("lib", "java", "runtime");
+    Module.addLibraryLookupPaths(ImmutableList.of(libraryPath));
+    context = Context.create();
+    if (ir == null) {
+      module = Module.parseIR("build/test.bc", context);
+    } else {
+      module = Module.parseIR(ir.getBytes(StandardCharsets.US_ASCII), context);
+    }
+  }
+
+  @After
+  public void tearDown_module() {
+    module.close();
+    context.close();
+  }
+}
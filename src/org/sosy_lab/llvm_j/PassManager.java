@@ -33,6 +33,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.Closeable;
 import java.io.IOException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 
 /** Pass manager. Always has to be disposed of with {@link #close()} to avoid memory leaks. */
@@ -40,12 +41,16 @@ public final class PassManager implements Closeable {
 
   private LLVMLibrary.LLVMPassManagerRef manager;
 
+  /** The module this function pass manager was created for, if known. */
+  private final @Nullable Module module;
+
   LLVMLibrary.LLVMPassManagerRef manager() {
     return manager;
   }
 
-  private PassManager(LLVMLibrary.LLVMPassManagerRef manager) {
+  private PassManager(LLVMLibrary.LLVMPassManagerRef manager, @Nullable Module module) {
     this.manager = manager;
+    this.module = module;
   }
 
   /**
@@ -53,25 +58,30 @@ public final class PassManager implements Closeable {
    * optimization and whole-module transformations.
    */
   public static PassManager create() {
-    return new PassManager(LLVMLibrary.LLVMCreatePassManager());
+    return new PassManager(PassNatives.LLVMCreatePassManager(), null);
   }
 
   /**
    * Constructs a new function-by-function pass pipeline over the module provider. It does not take
    * ownership of the module provider. This type of pipeline is suitable for code generation and JIT
-   * compilation tasks.
+   * compilation tasks. Analysis results cached by the module are invalidated after each run of
+   * {@link #runForFunction(Function)}.
    */
   public static PassManager createForModule(Module m) {
     if (m == null) {
       throw new NullPointerException();
     }
-    return new PassManager(LLVMLibrary.LLVMCreateFunctionPassManagerForModule(m.getModule()));
+    return new PassManager(PassNatives.LLVMCreateFunctionPassManagerForModule(m.getModule()), m);
   }
 
-  /** Deprecated: Use LLVMCreateFunctionPassManagerForModule instead. */
+  /**
+   * Deprecated: Use LLVMCreateFunctionPassManagerForModule instead. The returned pass manager does
+   * not know the {@link Module} behind the module provider, so {@link Module#invalidateAnalyses()}
+   * has to be called manually after {@link #runForFunction(Function)}.
+   */
   public static PassManager createFPM(LLVMLibrary.LLVMModuleProviderRef mp) {
     checkNotNull(mp);
-    return new PassManager(LLVMLibrary.LLVMCreateFunctionPassManager(mp));
+    return new PassManager(PassNatives.LLVMCreateFunctionPassManager(mp), null);
   }
 
   /* PassManager */
@@ -84,7 +94,7 @@ public final class PassManager implements Closeable {
    *     initialization
    */
   public void initialize() throws LLVMException {
-    LLVMLibrary.LLVMBool errB = LLVMLibrary.LLVMInitializeFunctionPassManager(manager);
+    LLVMLibrary.LLVMBool errB = PassNatives.LLVMInitializeFunctionPassManager(manager);
     boolean err = Utils.llvmBoolToJavaBool(errB);
     if (err) {
       throw new LLVMException("error in LLVMInitializeFunctionPassManager");
@@ -93,13 +103,14 @@ public final class PassManager implements Closeable {
 
   /**
    * Initializes, executes on the provided module, and finalizes all of the passes scheduled in the
-   * pass manager.
+   * pass manager. Analysis results cached by the module are invalidated.
    *
    * @param m module to run on
    * @throws LLVMException if error occurs in the underlying LLVM run pass manager.
    */
   public void runForModule(Module m) throws LLVMException {
-    LLVMLibrary.LLVMBool errB = LLVMLibrary.LLVMRunPassManager(manager, m.getModule());
+    LLVMLibrary.LLVMBool errB = PassNatives.LLVMRunPassManager(manager, m.getModule());
+    m.invalidateAnalyses();
     boolean err = Utils.llvmBoolToJavaBool(errB);
     if (err) {
       throw new LLVMException("error in LLVMRunPassManager");
@@ -108,30 +119,35 @@ public final class PassManager implements Closeable {
 
   /**
    * Executes all of the function passes scheduled in the function pass manager on the provided
-   * function.
+   * function. If this pass manager was created by {@link #createForModule(Module)}, analysis
+   * results cached by that module are invalidated.
    *
    * @param f function to run on
    * @throws LLVMException if an error occurs in the underlying LLVM function pass manager.
    */
   public void runForFunction(Function f) throws LLVMException {
-    LLVMLibrary.LLVMBool errB = LLVMLibrary.LLVMRunFunctionPassManager(manager, f.value());
-    boolean err = Utils.llvmBoolToJavaBool(errB);
-    if (err) {
+    int err =
+        AddressBinding.LLVMRunFunctionPassManager(
+            AddressBinding.addressOf(manager), f.getAddress());
+    if (module != null) {
+      module.invalidateAnalyses();
+    }
+    if (err != 0) {
       throw new LLVMException("error in LLVMRunFunctionPassManager");
     }
   }
 
   /* Function Pass Manager */
   public void addArgumentPromotionPass() {
-    LLVMLibrary.LLVMAddArgumentPromotionPass(manager);
+    PassNatives.LLVMAddArgumentPromotionPass(manager);
   }
 
   public void addConstantMergePass() {
-    LLVMLibrary.LLVMAddConstantMergePass(manager);
+    PassNatives.LLVMAddConstantMergePass(manager);
   }
 
   public void addDeadArgEliminationPass() {
-    LLVMLibrary.LLVMAddDeadArgEliminationPass(manager);
+    PassNatives.LLVMAddDeadArgEliminationPass(manager);
   }
 
   /*public void addDeadTypeEliminationPass() {
@@ -139,23 +155,23 @@ public final class PassManager implements Closeable {
   }*/
 
   public void addFunctionAttrsPass() {
-    LLVMLibrary.LLVMAddFunctionAttrsPass(manager);
+    PassNatives.LLVMAddFunctionAttrsPass(manager);
   }
 
   public void addFunctionInliningPass() {
-    LLVMLibrary.LLVMAddFunctionInliningPass(manager);
+    PassNatives.LLVMAddFunctionInliningPass(manager);
   }
 
   public void addGlobalDCEPass() {
-    LLVMLibrary.LLVMAddGlobalDCEPass(manager);
+    PassNatives.LLVMAddGlobalDCEPass(manager);
   }
 
   public void addGlobalOptimizerPass() {
-    LLVMLibrary.LLVMAddGlobalOptimizerPass(manager);
+    PassNatives.LLVMAddGlobalOptimizerPass(manager);
   }
 
   public void addIPConstantPropagationPass() {
-    LLVMLibrary.LLVMAddIPConstantPropagationPass(manager);
+    PassNatives.LLVMAddIPConstantPropagationPass(manager);
   }
 
   /*public void addLowerSetJmpPass() {
@@ -163,15 +179,15 @@ public final class PassManager implements Closeable {
   }*/
 
   public void addPruneEHPass() {
-    LLVMLibrary.LLVMAddPruneEHPass(manager);
+    PassNatives.LLVMAddPruneEHPass(manager);
   }
 
   public void addIPSCCPPass() {
-    LLVMLibrary.LLVMAddIPSCCPPass(manager);
+    PassNatives.LLVMAddIPSCCPPass(manager);
   }
 
   public void addInternalizePass(boolean allButMain) {
-    LLVMLibrary.LLVMAddInternalizePass(allButMain ? 1 : 0);
+    PassNatives.LLVMAddInternalizePass(allButMain ? 1 : 0);
   }
 
   /*public void addRaiseAllocationsPass() {
@@ -179,110 +195,110 @@ public final class PassManager implements Closeable {
   }*/
 
   public void addStripDeadPrototypesPass() {
-    LLVMLibrary.LLVMAddStripDeadPrototypesPass(manager);
+    PassNatives.LLVMAddStripDeadPrototypesPass(manager);
   }
 
   public void addStripSymbolsPass() {
-    LLVMLibrary.LLVMAddStripSymbolsPass(manager);
+    PassNatives.LLVMAddStripSymbolsPass(manager);
   }
 
   public void addAggressiveDCEPass() {
-    LLVMLibrary.LLVMAddAggressiveDCEPass(manager);
+    PassNatives.LLVMAddAggressiveDCEPass(manager);
   }
 
   public void addCFGSimplificationPass() {
-    LLVMLibrary.LLVMAddCFGSimplificationPass(manager);
+    PassNatives.LLVMAddCFGSimplificationPass(manager);
   }
 
   public void addDeadStoreEliminationPass() {
-    LLVMLibrary.LLVMAddDeadStoreEliminationPass(manager);
+    PassNatives.LLVMAddDeadStoreEliminationPass(manager);
   }
 
   public void addGVNPass() {
-    LLVMLibrary.LLVMAddGVNPass(manager);
+    PassNatives.LLVMAddGVNPass(manager);
   }
 
   public void addIndVarSimplifyPass() {
-    LLVMLibrary.LLVMAddIndVarSimplifyPass(manager);
+    PassNatives.LLVMAddIndVarSimplifyPass(manager);
   }
 
   public void addInstructionCombiningPass() {
-    LLVMLibrary.LLVMAddInstructionCombiningPass(manager);
+    PassNatives.LLVMAddInstructionCombiningPass(manager);
   }
 
   public void addJumpThreadingPass() {
-    LLVMLibrary.LLVMAddJumpThreadingPass(manager);
+    PassNatives.LLVMAddJumpThreadingPass(manager);
   }
 
   public void addLICMPass() {
-    LLVMLibrary.LLVMAddLICMPass(manager);
+    PassNatives.LLVMAddLICMPass(manager);
   }
 
   public void addLoopDeletionPass() {
-    LLVMLibrary.LLVMAddLoopDeletionPass(manager);
+    PassNatives.LLVMAddLoopDeletionPass(manager);
   }
 
   public void addLoopRotatePass() {
-    LLVMLibrary.LLVMAddLoopRotatePass(manager);
+    PassNatives.LLVMAddLoopRotatePass(manager);
   }
 
   public void addLoopUnrollPass() {
-    LLVMLibrary.LLVMAddLoopUnrollPass(manager);
+    PassNatives.LLVMAddLoopUnrollPass(manager);
   }
 
   public void addLoopUnswitchPass() {
-    LLVMLibrary.LLVMAddLoopUnswitchPass(manager);
+    PassNatives.LLVMAddLoopUnswitchPass(manager);
   }
 
   public void addMemCpyOptPass() {
-    LLVMLibrary.LLVMAddMemCpyOptPass(manager);
+    PassNatives.LLVMAddMemCpyOptPass(manager);
   }
 
   public void addPromoteMemoryToRegisterPass() {
-    LLVMLibrary.LLVMAddPromoteMemoryToRegisterPass(manager);
+    PassNatives.LLVMAddPromoteMemoryToRegisterPass(manager);
   }
 
   public void addReassociatePass() {
-    LLVMLibrary.LLVMAddReassociatePass(manager);
+    PassNatives.LLVMAddReassociatePass(manager);
   }
 
   public void addSCCPPass() {
-    LLVMLibrary.LLVMAddSCCPPass(manager);
+    PassNatives.LLVMAddSCCPPass(manager);
   }
 
   public void addScalarReplAggregatesPass() {
-    LLVMLibrary.LLVMAddScalarReplAggregatesPass(manager);
+    PassNatives.LLVMAddScalarReplAggregatesPass(manager);
   }
 
   public void addScalarReplAggregatesPassWithThreshold(int threshold) {
-    LLVMLibrary.LLVMAddScalarReplAggregatesPassWithThreshold(manager, threshold);
+    PassNatives.LLVMAddScalarReplAggregatesPassWithThreshold(manager, threshold);
   }
 
   public void addSimplifyLibCallsPass() {
-    LLVMLibrary.LLVMAddSimplifyLibCallsPass(manager);
+    PassNatives.LLVMAddSimplifyLibCallsPass(manager);
   }
 
   public void addTailCallEliminationPass() {
-    LLVMLibrary.LLVMAddTailCallEliminationPass(manager);
+    PassNatives.LLVMAddTailCallEliminationPass(manager);
   }
 
   public void addConstantPropagationPass() {
-    LLVMLibrary.LLVMAddConstantPropagationPass(manager);
+    PassNatives.LLVMAddConstantPropagationPass(manager);
   }
 
   public void addDemoteMemoryToRegisterPass() {
-    LLVMLibrary.LLVMAddDemoteMemoryToRegisterPass(manager);
+    PassNatives.LLVMAddDemoteMemoryToRegisterPass(manager);
   }
 
   public void addVerifierPass() {
-    LLVMLibrary.LLVMAddVerifierPass(manager);
+    PassNatives.LLVMAddVerifierPass(manager);
   }
 
   @Override
   public void close() throws IOException {
-    LLVMLibrary.LLVMBool successB = LLVMLibrary.LLVMFinalizeFunctionPassManager(manager);
+    LLVMLibrary.LLVMBool successB = PassNatives.LLVMFinalizeFunctionPassManager(manager);
     boolean success = Utils.llvmBoolToJavaBool(successB);
-    LLVMLibrary.LLVMDisposePassManager(manager);
+    PassNatives.LLVMDisposePassManager(manager);
     manager = null;
     if (success) {
       throw new IOException(new LLVMException("error in LLVMFinalizeFunctionPassManager"));
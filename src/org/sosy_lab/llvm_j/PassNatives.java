@@ -0,0 +1,139 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.sun.jna.Native;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * Native methods of LLVM for pass managers and passes. They are registered when this class is
+ * first used, so programs that do not run passes never resolve these symbols.
+ *
+ * @see CoreNatives
+ */
+final class PassNatives {
+
+  static {
+    Native.register(PassNatives.class, LLVMLibrary.JNA_NATIVE_LIB);
+  }
+
+  private PassNatives() {}
+
+  static native void LLVMAddAggressiveDCEPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddArgumentPromotionPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddCFGSimplificationPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddConstantMergePass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddConstantPropagationPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddDeadArgEliminationPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddDeadStoreEliminationPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddDemoteMemoryToRegisterPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddFunctionAttrsPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddFunctionInliningPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddGVNPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddGlobalDCEPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddGlobalOptimizerPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddIPConstantPropagationPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddIPSCCPPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddIndVarSimplifyPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddInstructionCombiningPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddInternalizePass(int pAllButMain);
+
+  static native void LLVMAddJumpThreadingPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddLICMPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddLoopDeletionPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddLoopRotatePass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddLoopUnrollPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddLoopUnswitchPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddMemCpyOptPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddPromoteMemoryToRegisterPass(
+      LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddPruneEHPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddReassociatePass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddSCCPPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddScalarReplAggregatesPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddScalarReplAggregatesPassWithThreshold(
+      LLVMLibrary.LLVMPassManagerRef pPassManager, int pThreshold);
+
+  static native void LLVMAddSimplifyLibCallsPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddStripDeadPrototypesPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddStripSymbolsPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddTailCallEliminationPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native void LLVMAddVerifierPass(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native LLVMLibrary.LLVMPassManagerRef LLVMCreateFunctionPassManager(
+      LLVMLibrary.LLVMModuleProviderRef pModuleProvider);
+
+  static native LLVMLibrary.LLVMPassManagerRef LLVMCreateFunctionPassManagerForModule(
+      LLVMLibrary.LLVMModuleRef pModule);
+
+  static native LLVMLibrary.LLVMPassManagerRef LLVMCreatePassManager();
+
+  static native void LLVMDisposePassManager(LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native LLVMLibrary.LLVMBool LLVMFinalizeFunctionPassManager(
+      LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native LLVMLibrary.LLVMBool LLVMInitializeFunctionPassManager(
+      LLVMLibrary.LLVMPassManagerRef pPassManager);
+
+  static native LLVMLibrary.LLVMBool LLVMRunPassManager(
+      LLVMLibrary.LLVMPassManagerRef pPassManager, LLVMLibrary.LLVMModuleRef pModule);
+}
@@ -0,0 +1,104 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * All incoming edges of a PHI node, i.e., pairs of an incoming value and the basic block it comes
+ * from. The edges are read from LLVM in a single pass and stored as parallel arrays of native
+ * addresses, so accessing them needs no further native calls. Wrapper objects are only created on
+ * request.
+ *
+ * <p>This is a snapshot: later changes of the PHI node are not reflected.
+ *
+ * @see Value#getIncoming()
+ */
+public final class PhiIncoming {
+
+  private final long[] values;
+  private final long[] blocks;
+  private final @Nullable WrapperTable wrappers;
+
+  private PhiIncoming(long[] pValues, long[] pBlocks, @Nullable WrapperTable pWrappers) {
+    values = pValues;
+    blocks = pBlocks;
+    wrappers = pWrappers;
+  }
+
+  /** Reads all incoming edges of the PHI node at the given native address. */
+  static PhiIncoming read(long pPhi, @Nullable WrapperTable pWrappers) {
+    int count = AddressBinding.LLVMCountIncoming(pPhi);
+    long[] values = new long[count];
+    long[] blocks = new long[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = AddressBinding.LLVMGetIncomingValue(pPhi, i);
+      blocks[i] = AddressBinding.LLVMGetIncomingBlock(pPhi, i);
+    }
+    return new PhiIncoming(values, blocks, pWrappers);
+  }
+
+  /** Returns the number of incoming edges. */
+  public int size() {
+    return values.length;
+  }
+
+  /** Returns the native address of the incoming value of the edge at the given index. */
+  public long getValueAddress(int pIndex) {
+    checkElementIndex(pIndex, values.length);
+    return values[pIndex];
+  }
+
+  /** Returns the native address of the incoming basic block of the edge at the given index. */
+  public long getBlockAddress(int pIndex) {
+    checkElementIndex(pIndex, blocks.length);
+    return blocks[pIndex];
+  }
+
+  /** Returns the incoming value of the edge at the given index. */
+  public Value getValue(int pIndex) {
+    return WrapperTable.value(wrappers, getValueAddress(pIndex));
+  }
+
+  /** Returns the incoming basic block of the edge at the given index. */
+  public BasicBlock getBlock(int pIndex) {
+    return WrapperTable.basicBlock(wrappers, getBlockAddress(pIndex));
+  }
+
+  /** Returns the native addresses of all incoming values, ordered by edge index. */
+  public long[] getValueAddresses() {
+    return values.clone();
+  }
+
+  /** Returns the native addresses of all incoming basic blocks, ordered by edge index. */
+  public long[] getBlockAddresses() {
+    return blocks.clone();
+  }
+}
@@ -37,6 +37,7 @@ import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import java.util.ArrayList;
 import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 
 /** Type of a value in the LLVM IR. */
@@ -45,93 +46,101 @@ public class TypeRef {
   /** Types in LLVM IR. */
   public enum TypeKind {
     /** Void type, i.e., no type. */
-    Void,
+    Void(LLVMLibrary.LLVMTypeKind.LLVMVoidTypeKind),
     /** 16 bit floating point type. */
-    Half,
+    Half(LLVMLibrary.LLVMTypeKind.LLVMHalfTypeKind),
     /** 32 bit floating point type. */
-    Float,
+    Float(LLVMLibrary.LLVMTypeKind.LLVMFloatTypeKind),
     /** 64 bit floating point type. */
-    Double,
+    Double(LLVMLibrary.LLVMTypeKind.LLVMDoubleTypeKind),
     /** 80 bit floating point type (X87). */
-    X86_FP80,
+    X86_FP80(LLVMLibrary.LLVMTypeKind.LLVMX86_FP80TypeKind),
     /** 128 bit floating point type (112-bit mantissa). */
-    FP128,
+    FP128(LLVMLibrary.LLVMTypeKind.LLVMFP128TypeKind),
     /** 128 bit floating point type (two 64-bits). */
-    PPC_FP128,
+    PPC_FP128(LLVMLibrary.LLVMTypeKind.LLVMPPC_FP128TypeKind),
     /** Label type. */
-    Label,
+    Label(LLVMLibrary.LLVMTypeKind.LLVMLabelTypeKind),
     /** Type of arbitrary bit width integers. */
-    Integer,
+    Integer(LLVMLibrary.LLVMTypeKind.LLVMIntegerTypeKind),
     /** Function type. */
-    Function,
+    Function(LLVMLibrary.LLVMTypeKind.LLVMFunctionTypeKind),
     /** Structure type. */
-    Struct,
+    Struct(LLVMLibrary.LLVMTypeKind.LLVMStructTypeKind),
     /** Array type. */
-    Array,
+    Array(LLVMLibrary.LLVMTypeKind.LLVMArrayTypeKind),
     /** Pointer type. */
-    Pointer,
+    Pointer(LLVMLibrary.LLVMTypeKind.LLVMPointerTypeKind),
     /** SIMD 'packed' format, or other vector type. */
-    Vector,
+    Vector(LLVMLibrary.LLVMTypeKind.LLVMVectorTypeKind),
     /** Type of LLVM metadata. */
-    Metadata,
+    Metadata(LLVMLibrary.LLVMTypeKind.LLVMMetadataTypeKind),
     /** X86 MMX type. */
-    X86_MMX,
+    X86_MMX(LLVMLibrary.LLVMTypeKind.LLVMX86_MMXTypeKind),
     /** Type of tokens. */
-    Token,
+    Token(LLVMLibrary.LLVMTypeKind.LLVMTokenTypeKind);
+
+    private final int value;
+
+    TypeKind(int pValue) {
+      value = pValue;
+    }
+
+    public int getValue() {
+      return value;
+    }
+
+    private static final @Nullable TypeKind[] BY_VALUE =
+        Utils.indexByValue(values(), TypeKind::getValue);
+
+    static TypeKind fromValue(int pValue) {
+      return Utils.lookUpByValue(BY_VALUE, pValue);
+    }
+
+    static boolean isValue(int pValue) {
+      return Utils.hasValue(BY_VALUE, pValue);
+    }
   }
 
   private final LLVMLibrary.LLVMTypeRef type;
+  private final @Nullable WrapperTable wrappers;
 
   public LLVMLibrary.LLVMTypeRef type() {
     return type;
   }
 
   TypeRef(LLVMLibrary.LLVMTypeRef type) {
+    this(type, null);
+  }
+
+  TypeRef(LLVMLibrary.LLVMTypeRef type, @Nullable WrapperTable pWrappers) {
     checkNotNull(type);
     this.type = type;
+    wrappers = pWrappers;
+  }
+
+  private long address() {
+    return AddressBinding.addressOf(type);
+  }
+
+  /**
+   * Returns this type in textual LLVM IR. This calls into LLVM each time.
+   *
+   * @see IrPrinter
+   */
+  @Override
+  public String toString() {
+    return IrPrinter.print(this);
   }
 
   /** Returns the enumerated type of this type instance. */
   public TypeKind getTypeKind() {
-    int typeInt = LLVMLibrary.LLVMGetTypeKind(type);
-
-    if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMHalfTypeKind) {
-      return TypeKind.Half;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMFloatTypeKind) {
-      return TypeKind.Float;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMDoubleTypeKind) {
-      return TypeKind.Double;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMX86_FP80TypeKind) {
-      return TypeKind.X86_FP80;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMFP128TypeKind) {
-      return TypeKind.FP128;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMPPC_FP128TypeKind) {
-      return TypeKind.PPC_FP128;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMLabelTypeKind) {
-      return TypeKind.Label;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMIntegerTypeKind) {
-      return TypeKind.Integer;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMFunctionTypeKind) {
-      return TypeKind.Function;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMStructTypeKind) {
-      return TypeKind.Struct;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMArrayTypeKind) {
-      return TypeKind.Array;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMPointerTypeKind) {
-      return TypeKind.Pointer;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMMetadataTypeKind) {
-      return TypeKind.Metadata;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMTokenTypeKind) {
-      return TypeKind.Token;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMVoidTypeKind) {
-      return TypeKind.Void;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMX86_MMXTypeKind) {
-      return TypeKind.X86_MMX;
-    } else if (typeInt == LLVMLibrary.LLVMTypeKind.LLVMVectorTypeKind) {
-      return TypeKind.Vector;
-    } else {
-      throw new AssertionError("Unhanlded type kind id " + typeInt);
-    }
+    return toTypeKind(AddressBinding.LLVMGetTypeKind(address()));
+  }
+
+  /** Returns the enumerated type kind for the given LLVM type kind id. */
+  static TypeKind toTypeKind(int typeInt) {
+    return TypeKind.fromValue(typeInt);
   }
 
   /**
@@ -142,11 +151,12 @@ public class TypeRef {
    * @return the offset of the given element index from the address of this struct
    * @throws IllegalStateException if this type is not a struct
    * @see #getTypeKind()
+   * @see DataLayout#getOffsetOfElement(TypeRef, int)
    */
   public long getOffsetOfElement(int idx, LLVMLibrary.LLVMTargetDataRef td) {
     checkNotNull(td);
-    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct");
-    return LLVMLibrary.LLVMOffsetOfElement(td, type, idx);
+    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct: %s", this);
+    return CoreNatives.LLVMOffsetOfElement(td, type, idx);
   }
 
   /** Returns the {@link Context} with which this type instance is associated. */
@@ -161,9 +171,9 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public int getIntTypeWidth() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Integer), "Type is not an integer");
+    checkLlvmState(getTypeKind().equals(TypeKind.Integer), "Type is not an integer: %s", this);
 
-    return LLVMLibrary.LLVMGetIntTypeWidth(type);
+    return AddressBinding.LLVMGetIntTypeWidth(address());
   }
 
   /**
@@ -173,10 +183,9 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public boolean isFunctionVarArg() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Function), "Type is not a function");
+    checkLlvmState(getTypeKind().equals(TypeKind.Function), "Type is not a function: %s", this);
 
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsFunctionVarArg(type);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsFunctionVarArg(address()) != 0;
   }
 
   /**
@@ -186,9 +195,9 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public TypeRef getReturnType() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Function), "Type is not a function");
+    checkLlvmState(getTypeKind().equals(TypeKind.Function), "Type is not a function: %s", this);
 
-    return new TypeRef(LLVMLibrary.LLVMGetReturnType(type));
+    return WrapperTable.type(wrappers, AddressBinding.LLVMGetReturnType(address()));
   }
 
   /**
@@ -198,10 +207,10 @@ public class TypeRef {
    * @throws IllegalStateException if this type is not a function type s@see #getTypeKind()
    */
   public int countParamTypes() {
-    checkLlvmState(
-        getTypeKind().equals(TypeKind.Function), "Type is not a function: " + getTypeKind());
+    TypeKind kind = getTypeKind();
+    checkLlvmState(kind.equals(TypeKind.Function), "Type is not a function: %s", kind);
 
-    return LLVMLibrary.LLVMCountParamTypes(type);
+    return AddressBinding.LLVMCountParamTypes(address());
   }
 
   /**
@@ -211,7 +220,7 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public List<TypeRef> getParamTypes() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Function), "Type is not a function");
+    checkLlvmState(getTypeKind().equals(TypeKind.Function), "Type is not a function: %s", this);
 
     int paramCount = countParamTypes();
     List<TypeRef> params = new ArrayList<>(paramCount);
@@ -220,13 +229,13 @@ public class TypeRef {
       int typeRefSize = Native.getNativeSize(LLVMLibrary.LLVMTypeRef.class);
       Memory arrayPointer = new Memory(paramCount * typeRefSize);
       LLVMLibrary.LLVMTypeRef typeRefArray = new LLVMLibrary.LLVMTypeRef(arrayPointer);
-      LLVMLibrary.LLVMGetParamTypes(type, typeRefArray);
+      CoreNatives.LLVMGetParamTypes(type, typeRefArray);
 
       Pointer[] paramRefs = new Pointer[paramCount];
       arrayPointer.read(0, paramRefs, 0, paramCount);
       for (int i = 0; i < paramCount; i++) {
         LLVMLibrary.LLVMTypeRef paramRef = new LLVMLibrary.LLVMTypeRef(paramRefs[i]);
-        params.add(new TypeRef(paramRef));
+        params.add(WrapperTable.type(wrappers, paramRef));
       }
     }
 
@@ -241,8 +250,8 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public int countStructElementTypes() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct");
-    return LLVMLibrary.LLVMCountStructElementTypes(type);
+    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct: %s", this);
+    return AddressBinding.LLVMCountStructElementTypes(address());
   }
 
   /**
@@ -252,7 +261,7 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public List<TypeRef> getStructElementTypes() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct");
+    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct: %s", this);
 
     int memberCount = countStructElementTypes();
     List<TypeRef> members = new ArrayList<>(memberCount);
@@ -261,14 +270,14 @@ public class TypeRef {
       int typeRefSize = Native.getNativeSize(LLVMLibrary.LLVMTypeRef.class);
       Memory arrayPointer = new Memory(memberCount * typeRefSize);
       LLVMLibrary.LLVMTypeRef typeRefArray = new LLVMLibrary.LLVMTypeRef(arrayPointer);
-      LLVMLibrary.LLVMGetStructElementTypes(type, typeRefArray);
+      CoreNatives.LLVMGetStructElementTypes(type, typeRefArray);
 
       Pointer[] memberRefs = new Pointer[memberCount];
       arrayPointer.read(0, memberRefs, 0, memberCount);
 
       for (int i = 0; i < memberCount; i++) {
         LLVMLibrary.LLVMTypeRef memberRef = new LLVMLibrary.LLVMTypeRef(memberRefs[i]);
-        members.add(new TypeRef(memberRef));
+        members.add(WrapperTable.type(wrappers, memberRef));
       }
     }
 
@@ -277,7 +286,7 @@ public class TypeRef {
 
   /** Returns whether this type is a named struct. */
   public boolean isStructNamed() {
-    String name = LLVMLibrary.LLVMGetStructName(type);
+    String name = CoreNatives.LLVMGetStructName(type);
     return name != null;
   }
 
@@ -289,9 +298,9 @@ public class TypeRef {
    * @see #isStructNamed()
    */
   public String getStructName() {
-    checkLlvmState(isStructNamed(), "Type is not named struct");
+    checkLlvmState(isStructNamed(), "Type is not named struct: %s", this);
 
-    return LLVMLibrary.LLVMGetStructName(type);
+    return CoreNatives.LLVMGetStructName(type);
   }
 
   /**
@@ -301,9 +310,8 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public boolean isPackedStruct() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct");
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsPackedStruct(type);
-    return Utils.llvmBoolToJavaBool(b);
+    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct: %s", this);
+    return AddressBinding.LLVMIsPackedStruct(address()) != 0;
   }
 
   /**
@@ -313,9 +321,8 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public boolean isOpaqueStruct() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct");
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsOpaqueStruct(type);
-    return Utils.llvmBoolToJavaBool(b);
+    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct: %s", this);
+    return AddressBinding.LLVMIsOpaqueStruct(address()) != 0;
   }
 
   /**
@@ -331,9 +338,10 @@ public class TypeRef {
         typeKind.equals(TypeKind.Array)
             || typeKind.equals(TypeKind.Vector)
             || typeKind.equals(TypeKind.Pointer),
-        "Type neither array, nor vector, nor pointer");
+        "Type neither array, nor vector, nor pointer: %s",
+        this);
 
-    return new TypeRef(LLVMLibrary.LLVMGetElementType(type));
+    return WrapperTable.type(wrappers, AddressBinding.LLVMGetElementType(address()));
   }
 
   /**
@@ -343,8 +351,8 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public TypeRef getTypeAtIndex(int idx) {
-    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct");
-    return new TypeRef(LLVMLibrary.LLVMStructGetTypeAtIndex(type, idx));
+    checkLlvmState(getTypeKind().equals(TypeKind.Struct), "Type is not a struct: %s", this);
+    return WrapperTable.type(wrappers, AddressBinding.LLVMStructGetTypeAtIndex(address(), idx));
   }
 
   /**
@@ -354,8 +362,8 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public int getArrayLength() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Array), "Type is not an array");
-    return LLVMLibrary.LLVMGetArrayLength(type);
+    checkLlvmState(getTypeKind().equals(TypeKind.Array), "Type is not an array: %s", this);
+    return AddressBinding.LLVMGetArrayLength(address());
   }
 
   /**
@@ -365,8 +373,8 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public int getPointerAddressSpace() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Pointer), "Type is not a pointer");
-    return LLVMLibrary.LLVMGetPointerAddressSpace(type);
+    checkLlvmState(getTypeKind().equals(TypeKind.Pointer), "Type is not a pointer: %s", this);
+    return AddressBinding.LLVMGetPointerAddressSpace(address());
   }
 
   /**
@@ -376,17 +384,17 @@ public class TypeRef {
    * @see #getTypeKind()
    */
   public int getVectorSize() {
-    checkLlvmState(getTypeKind().equals(TypeKind.Vector), "Type is not a vector");
-    return LLVMLibrary.LLVMGetVectorSize(type);
+    checkLlvmState(getTypeKind().equals(TypeKind.Vector), "Type is not a vector: %s", this);
+    return AddressBinding.LLVMGetVectorSize(address());
   }
 
   /** Returns the alignment of this type. */
   public Value alignOf() {
-    return new Value(LLVMLibrary.LLVMAlignOf(type));
+    return WrapperTable.value(wrappers, CoreNatives.LLVMAlignOf(type));
   }
 
   /** Returns the size of this type. */
   public Value sizeOf() {
-    return new Value(LLVMLibrary.LLVMSizeOf(type));
+    return WrapperTable.value(wrappers, CoreNatives.LLVMSizeOf(type));
   }
 }
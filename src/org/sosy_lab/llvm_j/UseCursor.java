@@ -0,0 +1,122 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.sun.jna.Pointer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * Cursor over the uses of a {@link Value}, i.e., its def-use chain as maintained by LLVM. The
+ * cursor only holds native addresses and advances in place, so moving it and reading the address
+ * of the current use or user does not create any objects. Wrapper objects for the current
+ * position are only created on request.
+ *
+ * <p>A value that is used several times by the same user, e.g., <code>add i32 %x, %x</code>, has
+ * one use for each of these operands. Uses are visited in the order in which LLVM stores them.
+ *
+ * <p>A cursor must not be used after its module is closed or the uses of its value are modified.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * UseCursor cursor = value.useCursor();
+ * while (cursor.next()) {
+ *   visit(cursor.getUserAddress());
+ * }
+ * }</pre>
+ *
+ * @see Value#uses()
+ * @see Value#users()
+ */
+public final class UseCursor {
+
+  private final long value;
+  private final @Nullable WrapperTable wrappers;
+
+  // native address of the current use, 0 if none
+  private long use = 0;
+
+  private boolean started = false;
+
+  private UseCursor(long pValue, @Nullable WrapperTable pWrappers) {
+    value = pValue;
+    wrappers = pWrappers;
+  }
+
+  /** Creates a cursor that is positioned before the first use of the given value. */
+  public static UseCursor create(Value pValue) {
+    checkNotNull(pValue);
+    return new UseCursor(pValue.getAddress(), pValue.wrappers());
+  }
+
+  /**
+   * Moves this cursor to the next use.
+   *
+   * @return whether there is a next use. If not, the cursor stays after the last use.
+   */
+  public boolean next() {
+    if (use != 0) {
+      use = AddressBinding.LLVMGetNextUse(use);
+    } else if (!started) {
+      started = true;
+      use = AddressBinding.LLVMGetFirstUse(value);
+    }
+    return use != 0;
+  }
+
+  private void checkPositioned() {
+    checkState(use != 0, "Cursor is not positioned at a use");
+  }
+
+  /** Returns the native address of the current use. */
+  public long getUseAddress() {
+    checkPositioned();
+    return use;
+  }
+
+  /** Returns the native address of the user of the current use. */
+  public long getUserAddress() {
+    checkPositioned();
+    return AddressBinding.LLVMGetUser(use);
+  }
+
+  /** Returns the current use as {@link Use}. */
+  public Use getUse() {
+    checkPositioned();
+    return new Use(new LLVMLibrary.LLVMUseRef(new Pointer(use)));
+  }
+
+  /** Returns the user of the current use. The returned value corresponds to a llvm::User type. */
+  public Value getUser() {
+    return WrapperTable.value(wrappers, getUserAddress());
+  }
+}
@@ -29,13 +29,31 @@
 
 package org.sosy_lab.llvm_j;
 
+import com.google.common.base.Strings;
 import com.sun.jna.Pointer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 
 /** Util methods for the llvm parser. */
 public final class Utils {
 
+  /**
+   * Name of the system property that selects how the native methods of LLVM are registered: <code>
+   * full</code> (default) or <code>lazy</code>.
+   *
+   * @see #instantiateLibrary()
+   */
+  static final String REGISTRATION_PROPERTY = "org.sosy_lab.llvm_j.registration";
+
+  private static final boolean LAZY_REGISTRATION =
+      isLazyRegistration(System.getProperty(REGISTRATION_PROPERTY));
+
+  private static volatile boolean libraryInstantiated = false;
+
   private Utils() {}
 
   /**
@@ -59,6 +77,115 @@ public final class Utils {
     }
   }
 
+  /**
+   * Converts the given Java boolean to an {@link
+   * org.sosy_lab.llvm_j.binding.LLVMLibrary.LLVMBool LLVMBool} that can be passed to native code.
+   */
+  static LLVMLibrary.LLVMBool javaBoolToLlvmBool(boolean pBool) {
+    // Inverse of llvmBoolToJavaBool: the int value is carried as the pointer address.
+    return new LLVMLibrary.LLVMBool(pBool ? new Pointer(1) : Pointer.NULL);
+  }
+
+  /**
+   * Returns the content of the given string that was allocated by LLVM and frees its memory. The
+   * given pointer must not be used afterwards. LLVM strings are decoded as UTF-8, like in {@link
+   * IrPrinter}, independent of the platform encoding.
+   *
+   * @return the content of the string, or <code>null</code> if the given pointer is null
+   */
+  static @Nullable String takeMessage(@Nullable Pointer pMessage) {
+    if (pMessage == null) {
+      return null;
+    }
+    try {
+      return pMessage.getString(0, StandardCharsets.UTF_8.name());
+    } finally {
+      CoreNatives.LLVMDisposeMessage(pMessage);
+    }
+  }
+
+  /**
+   * Returns a view of the native memory holding the content of the given memory buffer. The view
+   * must not be used after the buffer is disposed.
+   */
+  static ByteBuffer getBufferContent(LLVMLibrary.LLVMMemoryBufferRef pBuffer) {
+    Pointer start = BitcodeNatives.LLVMGetBufferStart(pBuffer);
+    long size = BitcodeNatives.LLVMGetBufferSize(pBuffer).longValue();
+    return start.getByteBuffer(0, size);
+  }
+
+  /**
+   * Registers the native methods of {@link LLVMLibrary} and thereby loads the LLVM library, if this
+   * was not done before by this method. Registration resolves every function of the library, so
+   * this is considerably cheaper than calling {@link LLVMLibrary#instantiate()} each time.
+   *
+   * <p>The classes of this package do not need this registration, because they call LLVM through
+   * {@link CoreNatives}, {@link BitcodeNatives}, {@link PassNatives} and {@link AddressBinding},
+   * which each register their own methods when they are first used. It is only done for callers
+   * that use {@link LLVMLibrary} directly, and is skipped if the system property {@value
+   * #REGISTRATION_PROPERTY} is set to <code>lazy</code>.
+   */
+  static void instantiateLibrary() {
+    if (LAZY_REGISTRATION) {
+      return;
+    }
+    if (!libraryInstantiated) {
+      synchronized (Utils.class) {
+        if (!libraryInstantiated) {
+          LLVMLibrary.instantiate();
+          libraryInstantiated = true;
+        }
+      }
+    }
+  }
+
+  static boolean isLazyRegistration(@Nullable String pMode) {
+    if (pMode == null || pMode.equals("full")) {
+      return false;
+    } else if (pMode.equals("lazy")) {
+      return true;
+    } else {
+      throw new IllegalArgumentException(
+          "Unknown value for " + REGISTRATION_PROPERTY + ": " + pMode + ", expected full or lazy");
+    }
+  }
+
+  /**
+   * Creates a table that maps the integer value that the LLVM C API uses for each of the given enum
+   * constants to the constant, for look-ups with {@link #lookUpByValue(Enum[], int)}. The values
+   * have to be small and non-negative.
+   */
+  static <E extends Enum<E>> @Nullable E[] indexByValue(E[] pConstants, ToIntFunction<E> pValueOf) {
+    int maxValue = Arrays.stream(pConstants).mapToInt(pValueOf).max().orElse(-1);
+    @Nullable E[] table = Arrays.copyOf(pConstants, maxValue + 1);
+    Arrays.fill(table, null);
+    for (E constant : pConstants) {
+      table[pValueOf.applyAsInt(constant)] = constant;
+    }
+    return table;
+  }
+
+  /**
+   * Returns the enum constant for the given value from a table created by {@link #indexByValue}.
+   */
+  static <E extends Enum<E>> E lookUpByValue(@Nullable E[] pTable, int pValue) {
+    if (pValue >= 0 && pValue < pTable.length) {
+      E constant = pTable[pValue];
+      if (constant != null) {
+        return constant;
+      }
+    }
+    throw new AssertionError("Unhandled code id " + pValue);
+  }
+
+  /**
+   * Returns whether a table created by {@link #indexByValue} has an enum constant for the given
+   * value.
+   */
+  static boolean hasValue(@Nullable Enum<?>[] pTable, int pValue) {
+    return pValue >= 0 && pValue < pTable.length && pTable[pValue] != null;
+  }
+
   static void checkLlvmState(boolean pState) {
     if (!pState) {
       throw new IllegalStateException("Invalid state");
@@ -70,4 +197,15 @@ public final class Utils {
       throw new IllegalStateException(pMessage);
     }
   }
+
+  /**
+   * Like {@link #checkLlvmState(boolean, String)}, but the message is only built if the state is
+   * invalid. Each <code>%s</code> in the template is replaced by the argument, so, e.g., a {@link
+   * Value} is only printed on failure.
+   */
+  static void checkLlvmState(boolean pState, String pTemplate, @Nullable Object pArgument) {
+    if (!pState) {
+      throw new IllegalStateException(Strings.lenientFormat(pTemplate, pArgument));
+    }
+  }
 }
@@ -27,6 +27,8 @@
 
 package org.sosy_lab.llvm_j;
 
+import static org.junit.Assert.assertThrows;
+
 import com.google.common.truth.Truth;
 import org.junit.Test;
 
@@ -38,4 +40,59 @@ public class UtilsTest {
 
     Truth.assertThat(actualValue).isFalse();
   }
+
+  @Test
+  public void testEnumLookUp() {
+    for (Value.OpCode code : Value.OpCode.values()) {
+      Truth.assertThat(Value.OpCode.fromValue(code.getValue())).isSameInstanceAs(code);
+    }
+    for (Value.CallConv callConv : Value.CallConv.values()) {
+      Truth.assertThat(Value.CallConv.fromValue(callConv.getValue())).isSameInstanceAs(callConv);
+    }
+    for (Value.RealPredicate predicate : Value.RealPredicate.values()) {
+      Truth.assertThat(Value.RealPredicate.fromValue(predicate.getValue()))
+          .isSameInstanceAs(predicate);
+    }
+    for (TypeRef.TypeKind kind : TypeRef.TypeKind.values()) {
+      Truth.assertThat(TypeRef.toTypeKind(kind.getValue())).isSameInstanceAs(kind);
+    }
+  }
+
+  @Test
+  public void testEnumLookUp_unknownValue() {
+    AssertionError thrown = assertThrows(AssertionError.class, () -> Value.OpCode.fromValue(6));
+
+    Truth.assertThat(thrown.getMessage()).contains("Unhandled code id 6");
+  }
+
+  @Test
+  public void testCheckLlvmState_formatsMessageOnFailure() {
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () -> Utils.checkLlvmState(false, "Value is not a call: %s", "foo"));
+
+    Truth.assertThat(thrown.getMessage()).isEqualTo("Value is not a call: foo");
+  }
+
+  @Test
+  public void testCheckLlvmState_doesNotFormatOnSuccess() {
+    Object argument =
+        new Object() {
+          @Override
+          public String toString() {
+            throw new AssertionError("message built for valid state");
+          }
+        };
+
+    Utils.checkLlvmState(true, "Value is not a call: %s", argument);
+  }
+
+  @Test
+  public void testIsLazyRegistration() {
+    Truth.assertThat(Utils.isLazyRegistration(null)).isFalse();
+    Truth.assertThat(Utils.isLazyRegistration("full")).isFalse();
+    Truth.assertThat(Utils.isLazyRegistration("lazy")).isTrue();
+    assertThrows(IllegalArgumentException.class, () -> Utils.isLazyRegistration("eager"));
+  }
 }
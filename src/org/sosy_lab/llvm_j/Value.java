@@ -32,12 +32,16 @@ package org.sosy_lab.llvm_j;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.sosy_lab.llvm_j.Utils.checkLlvmState;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.errorprone.annotations.Var;
 import com.sun.jna.Memory;
 import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import java.nio.IntBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.llvm_j.binding.LLVMLibrary;
 import org.sosy_lab.llvm_j.binding.ext.NativeSizeByReference;
 
@@ -120,6 +124,17 @@ public class Value {
     public int getValue() {
       return value;
     }
+
+    private static final @Nullable OpCode[] BY_VALUE =
+        Utils.indexByValue(values(), OpCode::getValue);
+
+    static OpCode fromValue(int pValue) {
+      return Utils.lookUpByValue(BY_VALUE, pValue);
+    }
+
+    static boolean isValue(int pValue) {
+      return Utils.hasValue(BY_VALUE, pValue);
+    }
   }
 
   /** Calling conventions of a function. */
@@ -141,6 +156,13 @@ public class Value {
     public int getValue() {
       return value;
     }
+
+    private static final @Nullable CallConv[] BY_VALUE =
+        Utils.indexByValue(values(), CallConv::getValue);
+
+    static CallConv fromValue(int pValue) {
+      return Utils.lookUpByValue(BY_VALUE, pValue);
+    }
   }
 
   /** Predicates for integer comparison. */
@@ -175,6 +197,66 @@ public class Value {
     public int getValue() {
       return value;
     }
+
+    private static final @Nullable IntPredicate[] BY_VALUE =
+        Utils.indexByValue(values(), IntPredicate::getValue);
+
+    static IntPredicate fromValue(int pValue) {
+      return Utils.lookUpByValue(BY_VALUE, pValue);
+    }
+  }
+
+  /** Predicates for floating point comparison. */
+  public enum RealPredicate {
+    /** Predicate that is always false. */
+    RealPredicateFalse(0),
+    /** Predicate representing ordered and equal. */
+    RealOEQ(1),
+    /** Predicate representing ordered and greater than. */
+    RealOGT(2),
+    /** Predicate representing ordered and greater or equal. */
+    RealOGE(3),
+    /** Predicate representing ordered and less than. */
+    RealOLT(4),
+    /** Predicate representing ordered and less or equal. */
+    RealOLE(5),
+    /** Predicate representing ordered and not equal. */
+    RealONE(6),
+    /** Predicate representing ordered, i.e., no operand is NaN. */
+    RealORD(7),
+    /** Predicate representing unordered, i.e., either operand is NaN. */
+    RealUNO(8),
+    /** Predicate representing unordered or equal. */
+    RealUEQ(9),
+    /** Predicate representing unordered or greater than. */
+    RealUGT(10),
+    /** Predicate representing unordered or greater or equal. */
+    RealUGE(11),
+    /** Predicate representing unordered or less than. */
+    RealULT(12),
+    /** Predicate representing unordered or less or equal. */
+    RealULE(13),
+    /** Predicate representing unordered or not equal. */
+    RealUNE(14),
+    /** Predicate that is always true. */
+    RealPredicateTrue(15);
+
+    private final int value;
+
+    RealPredicate(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      return value;
+    }
+
+    private static final @Nullable RealPredicate[] BY_VALUE =
+        Utils.indexByValue(values(), RealPredicate::getValue);
+
+    static RealPredicate fromValue(int pValue) {
+      return Utils.lookUpByValue(BY_VALUE, pValue);
+    }
   }
 
   // FIXME: Some of below javadocs are referring to the ones above, which shouldn't be (e.g., "Same,
@@ -228,6 +310,13 @@ public class Value {
     public int getValue() {
       return value;
     }
+
+    private static final @Nullable Linkage[] BY_VALUE =
+        Utils.indexByValue(values(), Linkage::getValue);
+
+    static Linkage fromValue(int pValue) {
+      return Utils.lookUpByValue(BY_VALUE, pValue);
+    }
   }
 
   /** Visibility of functions and global variables. */
@@ -248,6 +337,13 @@ public class Value {
     public int getValue() {
       return value;
     }
+
+    private static final @Nullable Visibility[] BY_VALUE =
+        Utils.indexByValue(values(), Visibility::getValue);
+
+    static Visibility fromValue(int pValue) {
+      return Utils.lookUpByValue(BY_VALUE, pValue);
+    }
   }
 
   /** Attributes that a function parameter may have. */
@@ -291,11 +387,16 @@ public class Value {
   }
 
   private final LLVMLibrary.LLVMValueRef value;
+  private final @Nullable WrapperTable wrappers;
 
   LLVMLibrary.LLVMValueRef value() {
     return value;
   }
 
+  @Nullable WrapperTable wrappers() {
+    return wrappers;
+  }
+
   @Override
   public boolean equals(Object pObj) {
     if (!(pObj instanceof Value)) {
@@ -316,13 +417,18 @@ public class Value {
   }
 
   Value(LLVMLibrary.LLVMValueRef value) {
+    this(value, null);
+  }
+
+  Value(LLVMLibrary.LLVMValueRef value, @Nullable WrapperTable pWrappers) {
     checkNotNull(value);
     this.value = value;
+    wrappers = pWrappers;
   }
 
   /** Return the type of this value. */
   public TypeRef typeOf() {
-    return new TypeRef(LLVMLibrary.LLVMTypeOf(value));
+    return WrapperTable.type(wrappers, AddressBinding.LLVMTypeOf(getAddress()));
   }
 
   public long getAddress() {
@@ -341,35 +447,39 @@ public class Value {
    * @see #isFunction()
    */
   public Function asFunction() {
-    checkLlvmState(isFunction(), "Value is not a function: " + this);
-    return new Function(value);
+    checkLlvmState(isFunction(), "Value is not a function: %s", this);
+    return WrapperTable.function(wrappers, value);
   }
 
   /** Return the string name of this value. */
   public String getValueName() {
-    return LLVMLibrary.LLVMGetValueName(value);
+    return AddressBinding.LLVMGetValueName(getAddress());
   }
 
+  /**
+   * Returns this value in textual LLVM IR. This calls into LLVM each time.
+   *
+   * @see IrPrinter
+   */
   @Override
   public String toString() {
-    Pointer ret = LLVMLibrary.LLVMPrintValueToString(value);
-    return ret.getString(0);
+    return IrPrinter.print(this);
   }
 
   /** Determine whether an instruction has any metadata attached. */
   public int hasMetadata() {
-    return LLVMLibrary.LLVMHasMetadata(value);
+    return CoreNatives.LLVMHasMetadata(value);
   }
 
   /** Return metadata associated with an instruction value. */
   public Value getMetadata(int kindID) {
-    return new Value(LLVMLibrary.LLVMGetMetadata(value, kindID));
+    return WrapperTable.value(wrappers, CoreNatives.LLVMGetMetadata(value, kindID));
   }
 
   /** Set metadata associated with an instruction value. */
   public void setMetadata(int kindID, Value node) {
     checkNotNull(node);
-    LLVMLibrary.LLVMSetMetadata(value, kindID, node.value());
+    CoreNatives.LLVMSetMetadata(value, kindID, node.value());
   }
 
   /**
@@ -378,7 +488,7 @@ public class Value {
    */
   public boolean isArgument() {
     try {
-      return LLVMLibrary.LLVMIsAArgument(value) != null;
+      return AddressBinding.LLVMIsAArgument(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -386,7 +496,7 @@ public class Value {
 
   public boolean isABasicBlock() {
     try {
-      return LLVMLibrary.LLVMIsABasicBlock(value) != null;
+      return AddressBinding.LLVMIsABasicBlock(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -394,7 +504,7 @@ public class Value {
 
   public boolean isInlineAsm() {
     try {
-      return LLVMLibrary.LLVMIsAInlineAsm(value) != null;
+      return AddressBinding.LLVMIsAInlineAsm(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -402,7 +512,7 @@ public class Value {
 
   public boolean isUser() {
     try {
-      return LLVMLibrary.LLVMIsAUser(value) != null;
+      return AddressBinding.LLVMIsAUser(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -410,7 +520,7 @@ public class Value {
 
   public boolean isConstantAggregateZero() {
     try {
-      return LLVMLibrary.LLVMIsAConstantAggregateZero(value) != null;
+      return AddressBinding.LLVMIsAConstantAggregateZero(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -418,7 +528,7 @@ public class Value {
 
   public boolean isConstantArray() {
     try {
-      return LLVMLibrary.LLVMIsAConstantArray(value) != null;
+      return AddressBinding.LLVMIsAConstantArray(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -426,7 +536,7 @@ public class Value {
 
   public boolean isConstantDataArray() {
     try {
-      return LLVMLibrary.LLVMIsAConstantDataArray(value) != null;
+      return AddressBinding.LLVMIsAConstantDataArray(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -434,7 +544,7 @@ public class Value {
 
   public boolean isConstantExpr() {
     try {
-      return LLVMLibrary.LLVMIsAConstantExpr(value) != null;
+      return AddressBinding.LLVMIsAConstantExpr(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -442,7 +552,7 @@ public class Value {
 
   public boolean isConstantFP() {
     try {
-      return LLVMLibrary.LLVMIsAConstantFP(value) != null;
+      return AddressBinding.LLVMIsAConstantFP(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -450,7 +560,7 @@ public class Value {
 
   public boolean isConstantInt() {
     try {
-      return LLVMLibrary.LLVMIsAConstantInt(value) != null;
+      return AddressBinding.LLVMIsAConstantInt(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -458,7 +568,7 @@ public class Value {
 
   public boolean isConstantPointerNull() {
     try {
-      return LLVMLibrary.LLVMIsAConstantPointerNull(value) != null;
+      return AddressBinding.LLVMIsAConstantPointerNull(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -466,7 +576,7 @@ public class Value {
 
   public boolean isConstantStruct() {
     try {
-      return LLVMLibrary.LLVMIsAConstantStruct(value) != null;
+      return AddressBinding.LLVMIsAConstantStruct(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -474,7 +584,7 @@ public class Value {
 
   public boolean isConstantVector() {
     try {
-      return LLVMLibrary.LLVMIsAConstantVector(value) != null;
+      return AddressBinding.LLVMIsAConstantVector(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -482,7 +592,7 @@ public class Value {
 
   public boolean isGlobalValue() {
     try {
-      return LLVMLibrary.LLVMIsAGlobalValue(value) != null;
+      return AddressBinding.LLVMIsAGlobalValue(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -490,7 +600,7 @@ public class Value {
 
   public boolean isFunction() {
     try {
-      return LLVMLibrary.LLVMIsAFunction(value) != null;
+      return AddressBinding.LLVMIsAFunction(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -498,7 +608,7 @@ public class Value {
 
   public boolean isGlobalAlias() {
     try {
-      return LLVMLibrary.LLVMIsAGlobalAlias(value) != null;
+      return AddressBinding.LLVMIsAGlobalAlias(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -506,7 +616,7 @@ public class Value {
 
   public boolean isGlobalVariable() {
     try {
-      return LLVMLibrary.LLVMIsAGlobalVariable(value) != null;
+      return AddressBinding.LLVMIsAGlobalVariable(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -514,7 +624,7 @@ public class Value {
 
   public boolean isUndefValue() {
     try {
-      return LLVMLibrary.LLVMIsAUndefValue(value) != null;
+      return AddressBinding.LLVMIsAUndefValue(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -522,7 +632,7 @@ public class Value {
 
   public boolean isInstruction() {
     try {
-      return LLVMLibrary.LLVMIsAInstruction(value) != null;
+      return AddressBinding.LLVMIsAInstruction(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -530,7 +640,7 @@ public class Value {
 
   public boolean isBinaryOperator() {
     try {
-      return LLVMLibrary.LLVMIsABinaryOperator(value) != null;
+      return AddressBinding.LLVMIsABinaryOperator(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -538,7 +648,7 @@ public class Value {
 
   public boolean isCallInst() {
     try {
-      return LLVMLibrary.LLVMIsACallInst(value) != null;
+      return AddressBinding.LLVMIsACallInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -546,7 +656,7 @@ public class Value {
 
   public boolean isIntrinsicInst() {
     try {
-      return LLVMLibrary.LLVMIsAIntrinsicInst(value) != null;
+      return AddressBinding.LLVMIsAIntrinsicInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -554,7 +664,7 @@ public class Value {
 
   public boolean isDbgInfoIntrinsic() {
     try {
-      return LLVMLibrary.LLVMIsADbgInfoIntrinsic(value) != null;
+      return AddressBinding.LLVMIsADbgInfoIntrinsic(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -562,7 +672,7 @@ public class Value {
 
   public boolean isDbgDeclareInst() {
     try {
-      return LLVMLibrary.LLVMIsADbgDeclareInst(value) != null;
+      return AddressBinding.LLVMIsADbgDeclareInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -571,7 +681,7 @@ public class Value {
   // public boolean isEHSelectorInst() { return LLVMIsAEHSelectorInst(value) != null; }
   public boolean isMemIntrinsic() {
     try {
-      return LLVMLibrary.LLVMIsAMemIntrinsic(value) != null;
+      return AddressBinding.LLVMIsAMemIntrinsic(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -579,7 +689,7 @@ public class Value {
 
   public boolean isMemCpyInst() {
     try {
-      return LLVMLibrary.LLVMIsAMemCpyInst(value) != null;
+      return AddressBinding.LLVMIsAMemCpyInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -587,7 +697,7 @@ public class Value {
 
   public boolean isMemMoveInst() {
     try {
-      return LLVMLibrary.LLVMIsAMemMoveInst(value) != null;
+      return AddressBinding.LLVMIsAMemMoveInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -595,7 +705,7 @@ public class Value {
 
   public boolean isMemSetInst() {
     try {
-      return LLVMLibrary.LLVMIsAMemSetInst(value) != null;
+      return AddressBinding.LLVMIsAMemSetInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -603,7 +713,7 @@ public class Value {
 
   public boolean isCmpInst() {
     try {
-      return LLVMLibrary.LLVMIsACmpInst(value) != null;
+      return AddressBinding.LLVMIsACmpInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -611,7 +721,7 @@ public class Value {
 
   public boolean isFCmpInst() {
     try {
-      return LLVMLibrary.LLVMIsAFCmpInst(value) != null;
+      return AddressBinding.LLVMIsAFCmpInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -619,7 +729,7 @@ public class Value {
 
   public boolean isICmpInst() {
     try {
-      return LLVMLibrary.LLVMIsAICmpInst(value) != null;
+      return AddressBinding.LLVMIsAICmpInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -627,7 +737,7 @@ public class Value {
 
   public boolean isExtractElementInst() {
     try {
-      return LLVMLibrary.LLVMIsAExtractElementInst(value) != null;
+      return AddressBinding.LLVMIsAExtractElementInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -636,7 +746,7 @@ public class Value {
   public boolean isGetElementPtrInst() {
     try {
       return (isConstantExpr() && getConstOpCode().equals(OpCode.GetElementPtr))
-          || LLVMLibrary.LLVMIsAGetElementPtrInst(value) != null;
+          || AddressBinding.LLVMIsAGetElementPtrInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -644,7 +754,7 @@ public class Value {
 
   public boolean isInsertElementInst() {
     try {
-      return LLVMLibrary.LLVMIsAInsertElementInst(value) != null;
+      return AddressBinding.LLVMIsAInsertElementInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -652,7 +762,7 @@ public class Value {
 
   public boolean isInsertValueInst() {
     try {
-      return LLVMLibrary.LLVMIsAInsertValueInst(value) != null;
+      return AddressBinding.LLVMIsAInsertValueInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -660,7 +770,7 @@ public class Value {
 
   public boolean isPHINode() {
     try {
-      return LLVMLibrary.LLVMIsAPHINode(value) != null;
+      return AddressBinding.LLVMIsAPHINode(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -668,7 +778,7 @@ public class Value {
 
   public boolean isSelectInst() {
     try {
-      return LLVMLibrary.LLVMIsASelectInst(value) != null;
+      return AddressBinding.LLVMIsASelectInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -676,7 +786,7 @@ public class Value {
 
   public boolean isShuffleVectorInst() {
     try {
-      return LLVMLibrary.LLVMIsAShuffleVectorInst(value) != null;
+      return AddressBinding.LLVMIsAShuffleVectorInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -684,7 +794,7 @@ public class Value {
 
   public boolean isStoreInst() {
     try {
-      return LLVMLibrary.LLVMIsAStoreInst(value) != null;
+      return AddressBinding.LLVMIsAStoreInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -692,7 +802,7 @@ public class Value {
 
   public boolean isTerminatorInst() {
     try {
-      return LLVMLibrary.LLVMIsATerminatorInst(value) != null;
+      return AddressBinding.LLVMIsATerminatorInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -700,7 +810,7 @@ public class Value {
 
   public boolean isBranchInst() {
     try {
-      return LLVMLibrary.LLVMIsABranchInst(value) != null;
+      return AddressBinding.LLVMIsABranchInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -708,7 +818,7 @@ public class Value {
 
   public boolean isIndirectBranchInst() {
     try {
-      return LLVMLibrary.LLVMIsAIndirectBrInst(value) != null;
+      return AddressBinding.LLVMIsAIndirectBrInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -716,7 +826,7 @@ public class Value {
 
   public boolean isInvokeInst() {
     try {
-      return LLVMLibrary.LLVMIsAInvokeInst(value) != null;
+      return AddressBinding.LLVMIsAInvokeInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -724,7 +834,7 @@ public class Value {
 
   public boolean isReturnInst() {
     try {
-      return LLVMLibrary.LLVMIsAReturnInst(value) != null;
+      return AddressBinding.LLVMIsAReturnInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -738,7 +848,7 @@ public class Value {
    * @see #isReturnInst()
    */
   public Value getReturnValue() {
-    checkLlvmState(isReturnInst(), "Value is not a return instruction: " + this);
+    checkLlvmState(isReturnInst(), "Value is not a return instruction: %s", this);
 
     if (getNumOperands() > 0) {
       return getOperand(0);
@@ -749,7 +859,7 @@ public class Value {
 
   public boolean isSwitchInst() {
     try {
-      return LLVMLibrary.LLVMIsASwitchInst(value) != null;
+      return AddressBinding.LLVMIsASwitchInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -757,7 +867,7 @@ public class Value {
 
   public boolean isUnreachableInst() {
     try {
-      return LLVMLibrary.LLVMIsAUnreachableInst(value) != null;
+      return AddressBinding.LLVMIsAUnreachableInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -766,7 +876,7 @@ public class Value {
   // public boolean isUnwindInst() { return LLVMIsAUnwindInst(value) != null; }
   public boolean isUnaryInstruction() {
     try {
-      return LLVMLibrary.LLVMIsAUnaryInstruction(value) != null;
+      return AddressBinding.LLVMIsAUnaryInstruction(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -774,19 +884,19 @@ public class Value {
 
   public boolean isAllocaInst() {
     try {
-      return LLVMLibrary.LLVMIsAAllocaInst(value) != null;
+      return AddressBinding.LLVMIsAAllocaInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
   }
 
   public TypeRef getAllocatedType() {
-    return new TypeRef(LLVMLibrary.LLVMGetAllocatedType(value));
+    return WrapperTable.type(wrappers, AddressBinding.LLVMGetAllocatedType(getAddress()));
   }
 
   public boolean isCastInst() {
     try {
-      return LLVMLibrary.LLVMIsACastInst(value) != null;
+      return AddressBinding.LLVMIsACastInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -794,7 +904,7 @@ public class Value {
 
   public boolean isBitCastInst() {
     try {
-      return LLVMLibrary.LLVMIsABitCastInst(value) != null;
+      return AddressBinding.LLVMIsABitCastInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -802,7 +912,7 @@ public class Value {
 
   public boolean isFPExtInst() {
     try {
-      return LLVMLibrary.LLVMIsAFPExtInst(value) != null;
+      return AddressBinding.LLVMIsAFPExtInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -810,7 +920,7 @@ public class Value {
 
   public boolean isFPToSIInst() {
     try {
-      return LLVMLibrary.LLVMIsAFPToSIInst(value) != null;
+      return AddressBinding.LLVMIsAFPToSIInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -818,7 +928,7 @@ public class Value {
 
   public boolean isFPToUIInst() {
     try {
-      return LLVMLibrary.LLVMIsAFPToUIInst(value) != null;
+      return AddressBinding.LLVMIsAFPToUIInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -826,7 +936,7 @@ public class Value {
 
   public boolean isFPTruncInst() {
     try {
-      return LLVMLibrary.LLVMIsAFPTruncInst(value) != null;
+      return AddressBinding.LLVMIsAFPTruncInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -834,7 +944,7 @@ public class Value {
 
   public boolean isIntToPtrInst() {
     try {
-      return LLVMLibrary.LLVMIsAIntToPtrInst(value) != null;
+      return AddressBinding.LLVMIsAIntToPtrInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -842,7 +952,7 @@ public class Value {
 
   public boolean isPtrToIntInst() {
     try {
-      return LLVMLibrary.LLVMIsAPtrToIntInst(value) != null;
+      return AddressBinding.LLVMIsAPtrToIntInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -850,7 +960,7 @@ public class Value {
 
   public boolean isSExtInst() {
     try {
-      return LLVMLibrary.LLVMIsASExtInst(value) != null;
+      return AddressBinding.LLVMIsASExtInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -858,7 +968,7 @@ public class Value {
 
   public boolean isSIToFPInst() {
     try {
-      return LLVMLibrary.LLVMIsASIToFPInst(value) != null;
+      return AddressBinding.LLVMIsASIToFPInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -866,7 +976,7 @@ public class Value {
 
   public boolean isTruncInst() {
     try {
-      return LLVMLibrary.LLVMIsATruncInst(value) != null;
+      return AddressBinding.LLVMIsATruncInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -874,7 +984,7 @@ public class Value {
 
   public boolean isUIToFPInst() {
     try {
-      return LLVMLibrary.LLVMIsAUIToFPInst(value) != null;
+      return AddressBinding.LLVMIsAUIToFPInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -882,7 +992,7 @@ public class Value {
 
   public boolean isZExtInst() {
     try {
-      return LLVMLibrary.LLVMIsAZExtInst(value) != null;
+      return AddressBinding.LLVMIsAZExtInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -890,7 +1000,7 @@ public class Value {
 
   public boolean isExtractValueInst() {
     try {
-      return LLVMLibrary.LLVMIsAExtractValueInst(value) != null;
+      return AddressBinding.LLVMIsAExtractValueInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -898,7 +1008,7 @@ public class Value {
 
   public boolean isLoadInst() {
     try {
-      return LLVMLibrary.LLVMIsALoadInst(value) != null;
+      return AddressBinding.LLVMIsALoadInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -906,7 +1016,7 @@ public class Value {
 
   public boolean isVAArgInst() {
     try {
-      return LLVMLibrary.LLVMIsAVAArgInst(value) != null;
+      return AddressBinding.LLVMIsAVAArgInst(getAddress()) != 0;
     } catch (IllegalArgumentException e) {
       return false;
     }
@@ -914,31 +1024,93 @@ public class Value {
 
   /** Determine whether the specified constant instance is constant. */
   public boolean isConstant() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsConstant(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsConstant(getAddress()) != 0;
   }
 
   /** Determine whether this value instance is null. */
   public boolean isNull() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsNull(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsNull(getAddress()) != 0;
   }
 
   /** Determine whether this value instance is undefined. */
   public boolean isUndef() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsUndef(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsUndef(getAddress()) != 0;
   }
 
   /** Returns the user value for a user. The returned value corresponds to a llvm::User type. */
   public static Value getUser(Use u) {
     checkNotNull(u);
-    return new Value(LLVMLibrary.LLVMGetUser(u.use()));
+    return new Value(CoreNatives.LLVMGetUser(u.use()));
   }
 
   /** Returns the value this use corresponds to. */
   public static Value getUsedValue(Use u) {
-    return new Value(LLVMLibrary.LLVMGetUsedValue(u.use()));
+    return new Value(CoreNatives.LLVMGetUsedValue(u.use()));
+  }
+
+  /**
+   * Returns a cursor over the uses of this value, which does not create any objects while
+   * advancing.
+   */
+  public UseCursor useCursor() {
+    return UseCursor.create(this);
+  }
+
+  /**
+   * Returns the uses of this value. The returned iterable reflects the current def-use chain of
+   * this value each time it is iterated.
+   *
+   * @see #useCursor()
+   */
+  public Iterable<Use> uses() {
+    return () ->
+        new AbstractIterator<Use>() {
+          private final UseCursor cursor = useCursor();
+
+          @Override
+          protected Use computeNext() {
+            return cursor.next() ? cursor.getUse() : endOfData();
+          }
+        };
+  }
+
+  /**
+   * Returns the users of this value, i.e., the user of each of its uses. A user that uses this
+   * value in several operands is returned once for each of these operands. The returned iterable
+   * reflects the current def-use chain of this value each time it is iterated.
+   *
+   * @see #getUserAddresses()
+   */
+  public Iterable<Value> users() {
+    return () ->
+        new AbstractIterator<Value>() {
+          private final UseCursor cursor = useCursor();
+
+          @Override
+          protected Value computeNext() {
+            return cursor.next() ? cursor.getUser() : endOfData();
+          }
+        };
+  }
+
+  /**
+   * Returns the native addresses of the users of this value, in the same order as {@link
+   * #users()}, without creating any wrapper objects.
+   *
+   * @see #getAddress()
+   */
+  public long[] getUserAddresses() {
+    @Var long[] users = new long[4];
+    @Var int size = 0;
+    for (@Var long use = AddressBinding.LLVMGetFirstUse(getAddress());
+        use != 0;
+        use = AddressBinding.LLVMGetNextUse(use)) {
+      if (size == users.length) {
+        users = Arrays.copyOf(users, 2 * size);
+      }
+      users[size++] = AddressBinding.LLVMGetUser(use);
+    }
+    return Arrays.copyOf(users, size);
   }
 
   /**
@@ -952,18 +1124,55 @@ public class Value {
       throw new IndexOutOfBoundsException(
           "Index " + index + " out of bounds for " + numOperands + " operands");
     }
-    return new Value(LLVMLibrary.LLVMGetOperand(value, index));
+    return WrapperTable.value(wrappers, AddressBinding.LLVMGetOperand(getAddress(), index));
   }
 
   /** Set an operand at a specific index in this value. */
   public void setOperand(int index, Value val) {
     checkNotNull(val);
-    LLVMLibrary.LLVMSetOperand(value, index, val.value());
+    CoreNatives.LLVMSetOperand(value, index, val.value());
+  }
+
+  /**
+   * Returns all operands of this value, in order. This is faster than calling {@link
+   * #getOperand(int)} for each operand.
+   *
+   * <p>Operands of metadata nodes may be missing, these are represented by <code>null</code>.
+   */
+  public List<@Nullable Value> getOperands() {
+    long[] addresses = getOperandAddresses();
+    List<@Nullable Value> operands = new ArrayList<>(addresses.length);
+    for (long address : addresses) {
+      operands.add(address == 0 ? null : WrapperTable.value(wrappers, address));
+    }
+    return operands;
+  }
+
+  /**
+   * Returns the native addresses of all operands of this value, in order, without creating any
+   * wrapper objects. The operands of metadata nodes are copied with a single native call.
+   *
+   * <p>Operands of metadata nodes may be missing, these are represented by 0.
+   *
+   * @see #getAddress()
+   */
+  public long[] getOperandAddresses() {
+    long address = getAddress();
+    if (AddressBinding.LLVMIsAMDNode(address) != 0) {
+      long[] operands = new long[AddressBinding.LLVMGetMDNodeNumOperands(address)];
+      AddressBinding.LLVMGetMDNodeOperands(address, operands);
+      return operands;
+    }
+    long[] operands = new long[AddressBinding.LLVMGetNumOperands(address)];
+    for (int i = 0; i < operands.length; i++) {
+      operands[i] = AddressBinding.LLVMGetOperand(address, i);
+    }
+    return operands;
   }
 
   /** Returns the number of operands in this value. */
   public int getNumOperands() {
-    return LLVMLibrary.LLVMGetNumOperands(value);
+    return AddressBinding.LLVMGetNumOperands(getAddress());
   }
 
   /**
@@ -973,8 +1182,8 @@ public class Value {
    * @see #isCallInst()
    */
   public int getNumArgOperands() {
-    checkLlvmState(isCallInst(), "Value is not a call instruction: " + this);
-    return LLVMLibrary.LLVMGetNumArgOperands(value);
+    checkLlvmState(isCallInst(), "Value is not a call instruction: %s", this);
+    return AddressBinding.LLVMGetNumArgOperands(getAddress());
   }
 
   /**
@@ -987,8 +1196,8 @@ public class Value {
   public int getNumIndices() {
     checkLlvmState(
         isExtractValueInst() || isInsertValueInst(),
-        "Value is not an extractValue or insertValue instruction: " + this);
-    return LLVMLibrary.LLVMGetNumIndices(value);
+        "Value is not an extractValue or insertValue instruction: %s", this);
+    return CoreNatives.LLVMGetNumIndices(value);
   }
 
   /**
@@ -1001,9 +1210,9 @@ public class Value {
   public List<Integer> getIndices() {
     checkLlvmState(
         isExtractValueInst() || isInsertValueInst(),
-        "Value is not an extractValue or insertValue instruction: " + this);
+        "Value is not an extractValue or insertValue instruction: %s", this);
     int length = getNumIndices();
-    Pointer arrayPointer = LLVMLibrary.LLVMGetIndices(value);
+    Pointer arrayPointer = CoreNatives.LLVMGetIndices(value);
     List<Integer> indices = new ArrayList<>(length);
     for (int i : arrayPointer.getIntArray(0, length)) {
       indices.add(i);
@@ -1018,7 +1227,7 @@ public class Value {
    * @see #isCallInst()
    */
   public Value getArgOperand(int index) {
-    checkLlvmState(isCallInst(), "Value is not a call instruction: " + this);
+    checkLlvmState(isCallInst(), "Value is not a call instruction: %s", this);
     int numArgOperands = getNumArgOperands();
     if (numArgOperands <= index) {
       throw new IndexOutOfBoundsException(
@@ -1035,8 +1244,8 @@ public class Value {
    * @see #isCallInst()
    */
   public Value getCalledFunction() {
-    checkLlvmState(isCallInst(), "Value not a call instruction: " + this);
-    return new Value(LLVMLibrary.LLVMGetCalledValue(value));
+    checkLlvmState(isCallInst(), "Value not a call instruction: %s", this);
+    return WrapperTable.value(wrappers, AddressBinding.LLVMGetCalledValue(getAddress()));
   }
 
   // MetaData
@@ -1069,42 +1278,33 @@ public class Value {
    * #getConstOpCode} instead.
    */
   public OpCode getOpCode() {
-    int opcode = LLVMLibrary.LLVMGetInstructionOpcode(value);
-    return transformOpCodeIndex(opcode);
+    int opcode = AddressBinding.LLVMGetInstructionOpcode(getAddress());
+    return OpCode.fromValue(opcode);
   }
 
   public OpCode getConstOpCode() {
-    int opcode = LLVMLibrary.LLVMGetConstOpcode(value);
-    return transformOpCodeIndex(opcode);
-  }
-
-  private static OpCode transformOpCodeIndex(int pOpCodeInt) {
-    // Use the value-based enums with this for-loop
-    // to convert the integer opcode returned by the llvm library
-    // into an enum without an if-else statement for every
-    // single possible value
-    for (OpCode code : OpCode.values()) {
-      if (code.getValue() == pOpCodeInt) {
-        return code;
-      }
-    }
-    throw new AssertionError("Unhandled code id " + pOpCodeInt);
+    int opcode = AddressBinding.LLVMGetConstOpcode(getAddress());
+    return OpCode.fromValue(opcode);
   }
 
   public IntPredicate getICmpPredicate() {
-    int code = LLVMLibrary.LLVMGetICmpPredicate(value);
+    int code = AddressBinding.LLVMGetICmpPredicate(getAddress());
+    return IntPredicate.fromValue(code);
+  }
 
-    for (IntPredicate predicate : IntPredicate.values()) {
-      if (code == predicate.getValue()) {
-        return predicate;
-      }
-    }
-    throw new AssertionError("Unhandled code id " + code);
+  /**
+   * Returns the predicate of this floating point comparison. Only works if this value is an <code>
+   * fcmp</code> instruction.
+   *
+   * @see #isFCmpInst()
+   */
+  public RealPredicate getFCmpPredicate() {
+    int code = AddressBinding.LLVMGetFCmpPredicate(getAddress());
+    return RealPredicate.fromValue(code);
   }
 
   public boolean isConditional() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsConditional(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsConditional(getAddress()) != 0;
   }
 
   /**
@@ -1114,13 +1314,13 @@ public class Value {
    * @see #isConditional()
    */
   public Value getCondition() {
-    checkLlvmState(isConditional(), "Value not a conditional: " + this);
-    return new Value(LLVMLibrary.LLVMGetCondition(value));
+    checkLlvmState(isConditional(), "Value not a conditional: %s", this);
+    return WrapperTable.value(wrappers, AddressBinding.LLVMGetCondition(getAddress()));
   }
 
   /** Returns the block address of the given value in the given block. */
   public static Value blockAddress(Value f, BasicBlock bb) {
-    return new Value(LLVMLibrary.LLVMBlockAddress(f.value(), bb.bb()));
+    return new Value(CoreNatives.LLVMBlockAddress(f.value(), bb.bb()));
   }
 
   /** Returns the global parent of this value. */
@@ -1133,81 +1333,60 @@ public class Value {
     if (value == null) {
       throw new NullPointerException("Null pointer value");
     }
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsDeclaration(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsDeclaration(getAddress()) != 0;
   }
 
   /** Returns the linkage of this value. */
   public Linkage getLinkage() {
-    int code = LLVMLibrary.LLVMGetLinkage(value);
-
-    for (Linkage l : Linkage.values()) {
-      if (code == l.getValue()) {
-        return l;
-      }
-    }
-    throw new AssertionError("Unhandled code id " + code);
+    int code = AddressBinding.LLVMGetLinkage(getAddress());
+    return Linkage.fromValue(code);
   }
 
   /** Returns the section of this value. */
   public String getSection() {
-    return LLVMLibrary.LLVMGetSection(value);
+    return CoreNatives.LLVMGetSection(value);
   }
 
   /** Returns the {@link Visibility visibility} of this value. */
   public Visibility getVisibility() {
-    int code = LLVMLibrary.LLVMGetVisibility(value);
-
-    for (Visibility v : Visibility.values()) {
-      if (code == v.getValue()) {
-        return v;
-      }
-    }
-    throw new AssertionError("Unhandled code id " + code);
+    int code = AddressBinding.LLVMGetVisibility(getAddress());
+    return Visibility.fromValue(code);
   }
 
   /** Returns the alignment of this value. */
   public int getAlignment() {
-    return LLVMLibrary.LLVMGetAlignment(value);
+    return AddressBinding.LLVMGetAlignment(getAddress());
   }
 
   /** Returns the next global value after this value. */
   public Value getNextGlobal() {
-    return new Value(LLVMLibrary.LLVMGetNextGlobal(value));
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetNextGlobal(getAddress()));
   }
 
   /** Returns the previous global value before this value. */
   public Value getPreviousGlobal() {
-    return new Value(LLVMLibrary.LLVMGetPreviousGlobal(value));
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetPreviousGlobal(getAddress()));
   }
 
   /** Returns the initializer of this value or null if the value has no initializer. */
   public Value getInitializer() {
     assert isGlobalValue() : "Only global values have initializer: " + this;
-    LLVMLibrary.LLVMValueRef init = LLVMLibrary.LLVMGetInitializer(value);
-    if (init != null) {
-      return new Value(init);
-    } else {
-      return null;
-    }
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetInitializer(getAddress()));
   }
 
   /** Returns whether this value is externally initialized. */
   public boolean isExternallyInitialized() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsExternallyInitialized(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsExternallyInitialized(getAddress()) != 0;
   }
 
   /** Returns whether this value is defined as thread_local. */
   public boolean isThreadLocal() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsThreadLocal(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsThreadLocal(getAddress()) != 0;
   }
 
   /** Returns whether this value is a global constant. */
   public boolean isGlobalConstant() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsGlobalConstant(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsGlobalConstant(getAddress()) != 0;
   }
 
   /**
@@ -1216,12 +1395,7 @@ public class Value {
    * functions.
    */
   public Value getNextFunction() {
-    LLVMLibrary.LLVMValueRef nextFunc = LLVMLibrary.LLVMGetNextFunction(value);
-    if (nextFunc == null) {
-      return null;
-    } else {
-      return new Value(nextFunc);
-    }
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetNextFunction(getAddress()));
   }
 
   /**
@@ -1230,12 +1404,8 @@ public class Value {
    * no previous functions.
    */
   public Value getPreviousFunction() {
-    LLVMLibrary.LLVMValueRef previousFunc = LLVMLibrary.LLVMGetPreviousFunction(value);
-    if (previousFunc == null) {
-      return null;
-    } else {
-      return new Value(previousFunc);
-    }
+    return WrapperTable.valueOrNull(
+        wrappers, AddressBinding.LLVMGetPreviousFunction(getAddress()));
   }
 
   /**
@@ -1243,14 +1413,14 @@ public class Value {
    * for this method to work.
    */
   public void deleteFunction() {
-    LLVMLibrary.LLVMDeleteFunction(value);
+    CoreNatives.LLVMDeleteFunction(value);
   }
 
   /**
    * Returns the ID number of this function. This value must be a functino for this method to work
    */
   public void getIntrinsicID() {
-    LLVMLibrary.LLVMGetIntrinsicID(value);
+    CoreNatives.LLVMGetIntrinsicID(value);
   }
 
   /**
@@ -1258,19 +1428,13 @@ public class Value {
    * LLVMCallConv enumeration.
    */
   public CallConv getFunctionCallConv() {
-    int code = LLVMLibrary.LLVMGetFunctionCallConv(value);
-
-    for (CallConv v : CallConv.values()) {
-      if (code == v.getValue()) {
-        return v;
-      }
-    }
-    throw new AssertionError("Unhandled code id " + code);
+    int code = AddressBinding.LLVMGetFunctionCallConv(getAddress());
+    return CallConv.fromValue(code);
   }
 
   /** Returns the name of the garbage collector to use during code generation. */
   public String getGC() {
-    return LLVMLibrary.LLVMGetGC(value);
+    return CoreNatives.LLVMGetGC(value);
   }
 
   /**
@@ -1288,7 +1452,7 @@ public class Value {
    * @see #isFunction()
    */
   public int countParams() {
-    return LLVMLibrary.LLVMCountParams(value);
+    return AddressBinding.LLVMCountParams(getAddress());
   }
 
   /**
@@ -1304,13 +1468,13 @@ public class Value {
       int valueRefOffset = Native.getNativeSize(LLVMLibrary.LLVMValueRef.class);
       Memory arrayPointer = new Memory(paramCount * valueRefOffset);
       LLVMLibrary.LLVMValueRef paramArray = new LLVMLibrary.LLVMValueRef(arrayPointer);
-      LLVMLibrary.LLVMGetParams(value, paramArray);
+      CoreNatives.LLVMGetParams(value, paramArray);
 
       Pointer[] paramRefs = new Pointer[paramCount];
       arrayPointer.read(0, paramRefs, 0, paramCount);
       for (int i = 0; i < paramCount; i++) {
         LLVMLibrary.LLVMValueRef valueRef = new LLVMLibrary.LLVMValueRef(paramRefs[i]);
-        params.add(new Value(valueRef));
+        params.add(WrapperTable.value(wrappers, valueRef));
       }
     }
 
@@ -1324,7 +1488,7 @@ public class Value {
    * @see #isFunction()
    */
   public Value getParam(int index) {
-    return new Value(LLVMLibrary.LLVMGetParam(value, index));
+    return WrapperTable.value(wrappers, AddressBinding.LLVMGetParam(getAddress(), index));
   }
 
   /**
@@ -1332,7 +1496,7 @@ public class Value {
    * The returned LLVMValueRef is the llvm::Function to which this argument belongs.
    */
   public Value getParamParent() {
-    return new Value(LLVMLibrary.LLVMGetParamParent(value));
+    return WrapperTable.value(wrappers, AddressBinding.LLVMGetParamParent(getAddress()));
   }
 
   /**
@@ -1342,7 +1506,7 @@ public class Value {
    */
   public Value getFirstParam() {
     try {
-      return new Value(LLVMLibrary.LLVMGetFirstParam(value));
+      return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetFirstParam(getAddress()));
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -1355,7 +1519,7 @@ public class Value {
    */
   public Value getLastParam() {
     try {
-      return new Value(LLVMLibrary.LLVMGetLastParam(value));
+      return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetLastParam(getAddress()));
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -1366,7 +1530,7 @@ public class Value {
    * Assumes that this value is a parameter to a function.
    */
   public Value getNextParam() {
-    return new Value(LLVMLibrary.LLVMGetNextParam(value));
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetNextParam(getAddress()));
   }
 
   /**
@@ -1374,7 +1538,7 @@ public class Value {
    * Assumes that this value is a parameter to a function.
    */
   public Value getPreviousParam() {
-    return new Value(LLVMLibrary.LLVMGetPreviousParam(value));
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetPreviousParam(getAddress()));
   }
 
   /** Get an attribute from this value. The value has to be a function argument. */
@@ -1384,18 +1548,18 @@ public class Value {
 
   /** Returns the zero extended value for an integer constant value. */
   public long constIntGetZExtValue() {
-    return LLVMLibrary.LLVMConstIntGetZExtValue(value);
+    return AddressBinding.LLVMConstIntGetZExtValue(getAddress());
   }
 
   /** Returns the sign extended value for an integer constant value. */
   public long constIntGetSExtValue() {
-    return LLVMLibrary.LLVMConstIntGetSExtValue(value);
+    return AddressBinding.LLVMConstIntGetSExtValue(getAddress());
   }
 
   /** Returns the zero extended value for an integer constant value. */
   public double constRealGetDouble() {
     LLVMLibrary.LLVMBool precisionLoss = new LLVMLibrary.LLVMBool();
-    double ret = LLVMLibrary.LLVMConstRealGetDouble(value, precisionLoss);
+    double ret = CoreNatives.LLVMConstRealGetDouble(value, precisionLoss);
 
     if (Utils.llvmBoolToJavaBool(precisionLoss)) {
       throw new AssertionError("Lost precision while convering float: " + value);
@@ -1415,13 +1579,13 @@ public class Value {
   public String getGetElementPtrAsString() {
     checkLlvmState(
         canBeTransformedFromGetElementPtrToString(),
-        "Not a fitting getelementptr instruction: " + this);
+        "Not a fitting getelementptr instruction: %s", this);
 
     Value startPointer = getOperand(0);
     Value initializer = startPointer.getInitializer();
     long stringLength = initializer.typeOf().getArrayLength();
 
-    return LLVMLibrary.LLVMGetAsString(
+    return CoreNatives.LLVMGetAsString(
         initializer.value(), new NativeSizeByReference(stringLength));
   }
 
@@ -1432,7 +1596,7 @@ public class Value {
    * @throws IllegalStateException if this value is not a <code>getelementptr</code> instruction
    */
   public boolean canBeTransformedFromGetElementPtrToString() {
-    checkLlvmState(isGetElementPtrInst(), "Not a getelementptr instruction: " + this);
+    checkLlvmState(isGetElementPtrInst(), "Not a getelementptr instruction: %s", this);
     Value startPointer = getOperand(0);
     if (!startPointer.isGlobalValue()) {
       return false;
@@ -1462,18 +1626,18 @@ public class Value {
    * @see #typeOf()
    */
   public Value getElementAsConstant(int pElementIndex) {
-    return new Value(LLVMLibrary.LLVMGetElementAsConstant(value, pElementIndex));
+    return WrapperTable.value(wrappers, CoreNatives.LLVMGetElementAsConstant(value, pElementIndex));
   }
 
   public Value getElement(int pElementIndex, int pSize) {
     IntBuffer intBuffer = IntBuffer.allocate(pSize);
-    return new Value(LLVMLibrary.LLVMConstExtractValue(value, intBuffer, pElementIndex));
+    return WrapperTable.value(
+        wrappers, CoreNatives.LLVMConstExtractValue(value, intBuffer, pElementIndex));
   }
 
   /** Returns whether this value is a basic block. */
   public boolean isBasicBlock() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMValueIsBasicBlock(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMValueIsBasicBlock(getAddress()) != 0;
   }
 
   /**
@@ -1482,7 +1646,7 @@ public class Value {
    * @see #isBasicBlock()
    */
   public BasicBlock asBasicBlock() {
-    return new BasicBlock(LLVMLibrary.LLVMValueAsBasicBlock(value));
+    return WrapperTable.basicBlock(wrappers, AddressBinding.LLVMValueAsBasicBlock(getAddress()));
   }
 
   /**
@@ -1491,7 +1655,11 @@ public class Value {
    * @see #isFunction()
    */
   public int countBasicBlocks() {
-    return LLVMLibrary.LLVMCountBasicBlocks(value);
+    int blockCount = AddressBinding.LLVMCountBasicBlocks(getAddress());
+    if (blockCount == 0 && materializeIfLazy()) {
+      return AddressBinding.LLVMCountBasicBlocks(getAddress());
+    }
+    return blockCount;
   }
 
   /**
@@ -1508,13 +1676,13 @@ public class Value {
       int blockRefSize = Native.getNativeSize(LLVMLibrary.LLVMBasicBlockRef.class);
       Memory arrayPointer = new Memory(blockCount * blockRefSize);
       LLVMLibrary.LLVMBasicBlockRef blockArray = new LLVMLibrary.LLVMBasicBlockRef(arrayPointer);
-      LLVMLibrary.LLVMGetBasicBlocks(value, blockArray);
+      CoreNatives.LLVMGetBasicBlocks(value, blockArray);
 
       Pointer[] blockRefs = new Pointer[blockCount];
       arrayPointer.read(0, blockRefs, 0, blockCount);
       for (int i = 0; i < blockCount; i++) {
         LLVMLibrary.LLVMBasicBlockRef blockRef = new LLVMLibrary.LLVMBasicBlockRef(blockRefs[i]);
-        blocks.add(new BasicBlock(blockRef));
+        blocks.add(WrapperTable.basicBlock(wrappers, blockRef));
       }
     }
 
@@ -1531,7 +1699,11 @@ public class Value {
    */
   public BasicBlock getFirstBasicBlock() {
     try {
-      return new BasicBlock(LLVMLibrary.LLVMGetFirstBasicBlock(value));
+      @Var long first = AddressBinding.LLVMGetFirstBasicBlock(getAddress());
+      if (first == 0 && materializeIfLazy()) {
+        first = AddressBinding.LLVMGetFirstBasicBlock(getAddress());
+      }
+      return WrapperTable.basicBlockOrNull(wrappers, first);
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -1544,7 +1716,11 @@ public class Value {
    */
   public BasicBlock getLastBasicBlock() {
     try {
-      return new BasicBlock(LLVMLibrary.LLVMGetLastBasicBlock(value));
+      @Var long last = AddressBinding.LLVMGetLastBasicBlock(getAddress());
+      if (last == 0 && materializeIfLazy()) {
+        last = AddressBinding.LLVMGetLastBasicBlock(getAddress());
+      }
+      return WrapperTable.basicBlockOrNull(wrappers, last);
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
@@ -1558,12 +1734,45 @@ public class Value {
    */
   public BasicBlock getEntryBasicBlock() {
     try {
-      return new BasicBlock(LLVMLibrary.LLVMGetEntryBasicBlock(value));
+      if (AddressBinding.LLVMGetFirstBasicBlock(getAddress()) == 0
+          && (!materializeIfLazy() || AddressBinding.LLVMGetFirstBasicBlock(getAddress()) == 0)) {
+        // LLVM does not check whether there is an entry block
+        return null;
+      }
+      return WrapperTable.basicBlock(
+          wrappers, AddressBinding.LLVMGetEntryBasicBlock(getAddress()));
     } catch (java.lang.IllegalArgumentException e) {
       return null;
     }
   }
 
+  /**
+   * Reads the body of this function from bitcode if this function belongs to a module that was
+   * opened with {@link Module#openLazy(String, Context)} and its body was not read yet. Only works
+   * if this value is a function.
+   *
+   * <p>LLVM considers a function without basic blocks a declaration unless its body can still be
+   * materialized, so this check is cheap for modules that were parsed eagerly.
+   *
+   * @return whether the body of this function was materialized by this call
+   */
+  boolean materializeIfLazy() {
+    if (isDeclaration()) {
+      return false;
+    }
+    // The LLVM C API has no direct way to materialize a function, but the legacy function pass
+    // manager always materializes a function before running its (here: zero) passes on it.
+    LLVMLibrary.LLVMPassManagerRef materializer =
+        PassNatives.LLVMCreateFunctionPassManagerForModule(CoreNatives.LLVMGetGlobalParent(value));
+    try {
+      AddressBinding.LLVMRunFunctionPassManager(
+          AddressBinding.addressOf(materializer), getAddress());
+    } finally {
+      PassNatives.LLVMDisposePassManager(materializer);
+    }
+    return true;
+  }
+
   // Instruction
 
   /**
@@ -1573,7 +1782,7 @@ public class Value {
    * @see #isInstruction()
    */
   public BasicBlock getInstructionParent() {
-    return new BasicBlock(LLVMLibrary.LLVMGetInstructionParent(value));
+    return WrapperTable.basicBlock(wrappers, AddressBinding.LLVMGetInstructionParent(getAddress()));
   }
 
   /**
@@ -1584,7 +1793,7 @@ public class Value {
    * @see #isInstruction()
    */
   public Value getNextInstruction() {
-    return new Value(LLVMLibrary.LLVMGetNextInstruction(value));
+    return WrapperTable.valueOrNull(wrappers, AddressBinding.LLVMGetNextInstruction(getAddress()));
   }
 
   /**
@@ -1595,7 +1804,8 @@ public class Value {
    * @see #isInstruction()
    */
   public Value getPreviousInstruction() {
-    return new Value(LLVMLibrary.LLVMGetPreviousInstruction(value));
+    return WrapperTable.valueOrNull(
+        wrappers, AddressBinding.LLVMGetPreviousInstruction(getAddress()));
   }
 
   /**
@@ -1605,7 +1815,7 @@ public class Value {
    * @see #isCallInst()
    */
   public int getInstructionCallConv() {
-    return LLVMLibrary.LLVMGetInstructionCallConv(value);
+    return AddressBinding.LLVMGetInstructionCallConv(getAddress());
   }
 
   /**
@@ -1615,8 +1825,7 @@ public class Value {
    * @see #isCallInst()
    */
   public boolean isTailCall() {
-    LLVMLibrary.LLVMBool b = LLVMLibrary.LLVMIsTailCall(value);
-    return Utils.llvmBoolToJavaBool(b);
+    return AddressBinding.LLVMIsTailCall(getAddress()) != 0;
   }
 
   /**
@@ -1626,7 +1835,7 @@ public class Value {
    * @see #isPHINode()
    */
   public int countIncoming() {
-    return LLVMLibrary.LLVMCountIncoming(value);
+    return AddressBinding.LLVMCountIncoming(getAddress());
   }
 
   /**
@@ -1637,7 +1846,7 @@ public class Value {
    * @see #isPHINode()
    */
   public Value getIncomingValue(int index) {
-    return new Value(LLVMLibrary.LLVMGetIncomingValue(value, index));
+    return WrapperTable.value(wrappers, AddressBinding.LLVMGetIncomingValue(getAddress(), index));
   }
 
   /**
@@ -1648,7 +1857,19 @@ public class Value {
    * @see #isPHINode()
    */
   public BasicBlock getIncomingBlock(int index) {
-    return new BasicBlock(LLVMLibrary.LLVMGetIncomingBlock(value, index));
+    return WrapperTable.basicBlock(
+        wrappers, AddressBinding.LLVMGetIncomingBlock(getAddress(), index));
+  }
+
+  /**
+   * Returns all incoming edges of this PHI node at once. This is faster than calling {@link
+   * #getIncomingValue(int)} and {@link #getIncomingBlock(int)} for each edge. Only works if this
+   * value is a phi node.
+   *
+   * @see #isPHINode()
+   */
+  public PhiIncoming getIncoming() {
+    return PhiIncoming.read(getAddress(), wrappers);
   }
 
   /**
@@ -1659,8 +1880,8 @@ public class Value {
    * @throws IllegalStateException if this value is not a termination instruction
    */
   public int getNumSuccessors() {
-    checkLlvmState(isTerminatorInst(), "Value not termination instruction: " + this);
-    return LLVMLibrary.LLVMGetNumSuccessors(value);
+    checkLlvmState(isTerminatorInst(), "Value not termination instruction: %s", this);
+    return AddressBinding.LLVMGetNumSuccessors(getAddress());
   }
 
   /**
@@ -1672,7 +1893,7 @@ public class Value {
    * @throws IllegalStateException if this value is not a termination instruction
    */
   public BasicBlock getSuccessor(int i) {
-    checkLlvmState(isTerminatorInst(), "Value not termination instruction: " + this);
-    return new BasicBlock(LLVMLibrary.LLVMGetSuccessor(value, i));
+    checkLlvmState(isTerminatorInst(), "Value not termination instruction: %s", this);
+    return WrapperTable.basicBlock(wrappers, AddressBinding.LLVMGetSuccessor(getAddress(), i));
   }
 }
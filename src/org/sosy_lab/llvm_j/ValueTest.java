@@ -0,0 +1,120 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ValueTest extends ModuleTestCase {
+
+  @Test
+  public void test_getOperands_matchesGetOperand() {
+    InstructionCursor cursor = InstructionCursor.create(module);
+    while (cursor.next()) {
+      Value instruction = cursor.getInstruction();
+      List<Value> operands = instruction.getOperands();
+      long[] addresses = instruction.getOperandAddresses();
+
+      assertThat(operands).hasSize(instruction.getNumOperands());
+      assertThat(addresses.length).isEqualTo(instruction.getNumOperands());
+      for (int i = 0; i < operands.size(); i++) {
+        assertThat(operands.get(i)).isEqualTo(instruction.getOperand(i));
+        assertThat(addresses[i]).isEqualTo(instruction.getOperand(i).getAddress());
+      }
+    }
+  }
+
+  @Test
+  public void test_getIncoming_matchesSingleEdges() throws LLVMException {
+    String ir =
+        "define i32 @f(i1 %c) {\n"
+            + "entry:\n"
+            + "  br i1 %c, label %a, label %b\n"
+            + "a:\n"
+            + "  br label %join\n"
+            + "b:\n"
+            + "  br label %join\n"
+            + "join:\n"
+            + "  %x = phi i32 [ 1, %a ], [ 2, %b ]\n"
+            + "  ret i32 %x\n"
+            + "}\n";
+
+    try (Module m = Module.parseIR(ir.getBytes(StandardCharsets.US_ASCII), context)) {
+      Value phi = m.getFirstFunction().getLastBasicBlock().getFirstInstruction();
+      PhiIncoming incoming = phi.getIncoming();
+
+      assertThat(incoming.size()).isEqualTo(2);
+      for (int i = 0; i < incoming.size(); i++) {
+        assertThat(incoming.getValue(i)).isEqualTo(phi.getIncomingValue(i));
+        assertThat(incoming.getBlock(i)).isEqualTo(phi.getIncomingBlock(i));
+      }
+    }
+  }
+
+  @Test
+  public void test_users_matchesUseCursorAndAddresses() throws LLVMException {
+    String ir =
+        "define i32 @f(i32 %a) {\n"
+            + "entry:\n"
+            + "  %x = add i32 %a, 1\n"
+            + "  %y = mul i32 %x, %x\n"
+            + "  %z = sub i32 %x, %y\n"
+            + "  ret i32 %z\n"
+            + "}\n";
+
+    try (Module m = Module.parseIR(ir.getBytes(StandardCharsets.US_ASCII), context)) {
+      Value x = m.getFirstFunction().getFirstBasicBlock().getFirstInstruction();
+      Value y = x.getNextInstruction();
+      Value z = y.getNextInstruction();
+
+      List<Value> users = new ArrayList<>();
+      x.users().forEach(users::add);
+      assertThat(users).containsExactly(y, y, z);
+
+      long[] addresses = x.getUserAddresses();
+      assertThat(addresses.length).isEqualTo(users.size());
+      UseCursor cursor = x.useCursor();
+      for (int i = 0; i < addresses.length; i++) {
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.getUserAddress()).isEqualTo(addresses[i]);
+        assertThat(cursor.getUser()).isEqualTo(users.get(i));
+        assertThat(users.get(i).getAddress()).isEqualTo(addresses[i]);
+      }
+      assertThat(cursor.next()).isFalse();
+
+      for (Use use : x.uses()) {
+        assertThat(Value.getUsedValue(use)).isEqualTo(x);
+      }
+      assertThat(z.getNextInstruction().getUserAddresses().length).isEqualTo(0);
+    }
+  }
+}
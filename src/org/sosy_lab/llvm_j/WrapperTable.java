@@ -0,0 +1,183 @@
+/*
+ * llvm-j  is a library for parsing and modification of LLVM IR in Java.
+ * This file is part of llvm-j.
+ *
+ * Copyright (C) 2017-2018 Marek Chalupa, Dirk Beyer
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sosy_lab.llvm_j;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.llvm_j.binding.LLVMLibrary;
+
+/**
+ * Interning table for the {@link Value}, {@link Function}, {@link BasicBlock} and {@link TypeRef}
+ * wrappers of a {@link Module}. Wrappers are keyed by their native address, so each LLVM object is
+ * represented by at most one wrapper.
+ *
+ * <p>Function values are always wrapped as {@link Function}, so a function is represented by the
+ * same wrapper whether it is obtained as a {@link Value} or as a {@link Function}.
+ *
+ * <p>Entries are not invalidated when the module is modified. If an LLVM object is deleted, a new
+ * object may later get its address and would then be represented by the stale wrapper, so the
+ * table has to be {@link #clear() cleared} after such modifications.
+ *
+ * <p>The static methods of this class accept a <code>null</code> table and then create a new
+ * wrapper each time, which is the default behavior.
+ *
+ * @see Module#enableInterning()
+ */
+final class WrapperTable {
+
+  // Separate maps, because a basic block and its value have the same address
+  private final LongObjectMap<Value> values = new LongObjectMap<>();
+  private final LongObjectMap<BasicBlock> blocks = new LongObjectMap<>();
+  private final LongObjectMap<TypeRef> types = new LongObjectMap<>();
+
+  static Value value(@Nullable WrapperTable pTable, LLVMLibrary.LLVMValueRef pValue) {
+    if (pTable == null) {
+      return new Value(pValue);
+    }
+    long address = addressOf(pValue);
+    Value known = pTable.values.get(address);
+    if (known != null) {
+      return known;
+    }
+    Value created =
+        AddressBinding.LLVMIsAFunction(address) != 0
+            ? new Function(pValue, pTable)
+            : new Value(pValue, pTable);
+    pTable.values.put(address, created);
+    return created;
+  }
+
+  /** Returns the {@link Value} wrapper for the given native address, which must not be 0. */
+  static Value value(@Nullable WrapperTable pTable, long pAddress) {
+    if (pTable != null) {
+      Value known = pTable.values.get(pAddress);
+      if (known != null) {
+        return known;
+      }
+    }
+    return value(pTable, new LLVMLibrary.LLVMValueRef(new Pointer(pAddress)));
+  }
+
+  /** Like {@link #value(WrapperTable, long)}, but returns <code>null</code> for address 0. */
+  static @Nullable Value valueOrNull(@Nullable WrapperTable pTable, long pAddress) {
+    return pAddress == 0 ? null : value(pTable, pAddress);
+  }
+
+  /**
+   * Returns the {@link Function} wrapper for the given value, which is the same as the {@link
+   * Value} wrapper if the value is a function.
+   */
+  static Function function(@Nullable WrapperTable pTable, LLVMLibrary.LLVMValueRef pValue) {
+    if (pTable == null) {
+      return new Function(pValue);
+    }
+    Value interned = value(pTable, pValue);
+    if (interned instanceof Function) {
+      return (Function) interned;
+    }
+    // not a function, so there is nothing to keep identical to
+    return new Function(pValue, pTable);
+  }
+
+  /** Returns the {@link BasicBlock} wrapper for the given native address, which must not be 0. */
+  static BasicBlock basicBlock(@Nullable WrapperTable pTable, long pAddress) {
+    if (pTable != null) {
+      BasicBlock known = pTable.blocks.get(pAddress);
+      if (known != null) {
+        return known;
+      }
+    }
+    return basicBlock(pTable, new LLVMLibrary.LLVMBasicBlockRef(new Pointer(pAddress)));
+  }
+
+  /** Like {@link #basicBlock(WrapperTable, long)}, but returns <code>null</code> for address 0. */
+  static @Nullable BasicBlock basicBlockOrNull(@Nullable WrapperTable pTable, long pAddress) {
+    return pAddress == 0 ? null : basicBlock(pTable, pAddress);
+  }
+
+  static BasicBlock basicBlock(
+      @Nullable WrapperTable pTable, LLVMLibrary.LLVMBasicBlockRef pBlock) {
+    if (pTable == null) {
+      return new BasicBlock(pBlock);
+    }
+    long address = addressOf(pBlock);
+    BasicBlock known = pTable.blocks.get(address);
+    if (known != null) {
+      return known;
+    }
+    BasicBlock created = new BasicBlock(pBlock, pTable);
+    pTable.blocks.put(address, created);
+    return created;
+  }
+
+  /** Returns the {@link TypeRef} wrapper for the given native address, which must not be 0. */
+  static TypeRef type(@Nullable WrapperTable pTable, long pAddress) {
+    if (pTable != null) {
+      TypeRef known = pTable.types.get(pAddress);
+      if (known != null) {
+        return known;
+      }
+    }
+    return type(pTable, new LLVMLibrary.LLVMTypeRef(new Pointer(pAddress)));
+  }
+
+  static TypeRef type(@Nullable WrapperTable pTable, LLVMLibrary.LLVMTypeRef pType) {
+    if (pTable == null) {
+      return new TypeRef(pType);
+    }
+    long address = addressOf(pType);
+    TypeRef known = pTable.types.get(address);
+    if (known != null) {
+      return known;
+    }
+    TypeRef created = new TypeRef(pType, pTable);
+    pTable.types.put(address, created);
+    return created;
+  }
+
+  /**
+   * Forgets all interned wrappers, so that wrappers obtained afterwards are new objects. Wrappers
+   * obtained before stay usable, but are not identical to the new ones.
+   */
+  void clear() {
+    values.clear();
+    blocks.clear();
+    types.clear();
+  }
+
+  /** Returns the total number of interned wrappers. */
+  int size() {
+    return values.size() + blocks.size() + types.size();
+  }
+
+  private static long addressOf(PointerType pReference) {
+    // throws a NullPointerException for null, like the constructors of the wrappers
+    return Pointer.nativeValue(pReference.getPointer());
+  }
+}
@@ -38,6 +38,13 @@
  * locations.
  *
  * <p>The method {@link org.sosy_lab.llvm_j.Context#create()} is usually the first method you will
- * use. It automatically instantiates the library.
+ * use. It automatically instantiates the library on its first call. Because instantiating resolves
+ * every function of the library, it should not be repeated.
+ *
+ * <p>The classes of this package register only the native methods they use, in groups, when a
+ * group is first needed. Programs that do not call {@link
+ * org.sosy_lab.llvm_j.binding.LLVMLibrary} themselves can set the system property <code>
+ * org.sosy_lab.llvm_j.registration</code> to <code>lazy</code>, so that the full instantiation is
+ * skipped and startup is faster.
  */
 package org.sosy_lab.llvm_j;